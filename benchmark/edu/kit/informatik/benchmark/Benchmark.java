@@ -0,0 +1,68 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+
+/**
+ * Base class for all benchmarks. An invocation consists of an untimed {@link #setUp()}
+ * followed by a timed {@link #run()}, which may perform several operations.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public abstract class Benchmark {
+    private final String name;
+    private final int operations;
+
+    /**
+     * Creates a new benchmark.
+     *
+     * @param name of the benchmark
+     * @param operations number of operations performed by one invocation of {@link #run()}
+     */
+    protected Benchmark(String name, int operations) {
+        this.name = name;
+        this.operations = operations;
+    }
+
+    /**
+     * Gets the name of the benchmark.
+     *
+     * @return the name of the benchmark
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of operations performed by one invocation of {@link #run()}.
+     *
+     * @return the number of operations per invocation
+     */
+    public int getOperations() {
+        return operations;
+    }
+
+    /**
+     * Prepares the next invocation. This is not measured.
+     *
+     * @throws LogicException if the game cannot be prepared
+     */
+    public void setUp() throws LogicException {
+    }
+
+    /**
+     * Runs the measured code once. The result has to depend on everything that was computed,
+     * so that the JIT compiler cannot eliminate the code as dead.
+     *
+     * @return a value derived from the results of the operations
+     * @throws InvalidInputException if a parsed input is invalid
+     * @throws LogicException if there is an error in the logic of the game
+     */
+    public abstract int run() throws InvalidInputException, LogicException;
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
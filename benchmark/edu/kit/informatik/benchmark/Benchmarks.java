@@ -0,0 +1,108 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.commands.CommandBenchmarks;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The entry point of the benchmarks. It optionally expects a regular expression as command line argument
+ * and only runs the benchmarks whose name contains a match.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Benchmarks {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final long ITERATION_MILLIS = 200;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private Benchmarks() {
+    }
+
+    /**
+     * Runs the selected benchmarks and prints a table of their measurements.
+     *
+     * @param args optionally a regular expression that selects the benchmarks by name
+     */
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final Pattern filter;
+        try {
+            filter = Pattern.compile(args.length == 1 ? args[0] : "");
+        } catch (final PatternSyntaxException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        try {
+            final Path directory = Files.createTempDirectory("journal");
+            try (JournalWriter journal = new JournalWriter(directory)) {
+                run(filter, journal);
+            } finally {
+                delete(directory);
+            }
+        } catch (final IOException | InvalidInputException | LogicException e) {
+            Terminal.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the selected benchmarks and prints a table of their measurements.
+     *
+     * @param filter selects the benchmarks by name
+     * @param journal that records the games of the journaled benchmarks
+     * @throws InvalidInputException if a benchmark parses an invalid input
+     * @throws LogicException if a benchmark violates the rules of the game
+     */
+    private static void run(Pattern filter, JournalWriter journal) throws InvalidInputException, LogicException {
+        final List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.addAll(EngineBenchmarks.all(journal));
+        benchmarks.addAll(CommandBenchmarks.all());
+        benchmarks.addAll(OutputBenchmarks.all());
+        benchmarks.addAll(GameBenchmarks.all(journal));
+        final Harness harness = new Harness(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS, ITERATION_MILLIS);
+        Terminal.printLine(Measurement.header());
+        for (final Benchmark benchmark : benchmarks) {
+            if (filter.matcher(benchmark.getName()).find()) {
+                Terminal.printLine(harness.measure(benchmark));
+            }
+        }
+        // Publishes the results of all invocations, so that none of them is dead code
+        if (harness.getSink() == 0) {
+            Terminal.printLine("");
+        }
+    }
+
+    /**
+     * Deletes the given {@code directory} with all files in it.
+     *
+     * @param directory to be deleted
+     * @throws IOException if a file cannot be deleted
+     */
+    private static void delete(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (final Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+}
@@ -0,0 +1,332 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.cardgame.CardCategory;
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.GameArena;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.simulation.DeckGenerator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Microbenchmarks of the entry points of the {@link CardGame}: drawing, building and rolling the dice, and
+ * parking and restoring games in a {@link GameArena}.
+ * All of them play the sorted card deck, which starts with all resources. Operations that can only be performed
+ * once per game are performed on a batch of games, so that the cost of reading the clock does not dominate.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class EngineBenchmarks {
+    /**
+     * Items that can be built one after another with all resources of a card deck.
+     * The last one wins the game.
+     */
+    private static final Item[] BUILD_ORDER = {Item.FIREPLACE, Item.AXE, Item.CLUB, Item.SHACK, Item.STEAMBOAT};
+    /**
+     * Number of games that are prepared for one invocation.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * Utility-class constructor.
+     */
+    private EngineBenchmarks() {
+    }
+
+    /**
+     * Creates all engine benchmarks.
+     *
+     * @param journal that records the game of the journaled draw benchmark
+     * @return a list of the benchmarks
+     * @throws LogicException if a game cannot be started
+     */
+    static List<Benchmark> all(JournalWriter journal) throws LogicException {
+        return Arrays.asList(draw("engine.draw", null), drawUntilDecision(), build(), encounter(), endeavor(),
+                invalidMove(), draw("engine.draw.journal", journal), park(), restore());
+    }
+
+    /**
+     * Creates games with the given card {@code deck}.
+     *
+     * @param deck of the games
+     * @param games number of games
+     * @return the new active games
+     * @throws LogicException if a game cannot be started
+     */
+    private static CardGame[] gamesOf(PlayingCard[] deck, int games) throws LogicException {
+        final CardGame[] batch = new CardGame[games];
+        for (int i = 0; i < games; i++) {
+            batch[i] = new CardGame();
+            batch[i].setCardDeck(deck);
+        }
+        return batch;
+    }
+
+    /**
+     * Counts the resources of a valid card deck.
+     *
+     * @return the number of resource cards
+     */
+    private static int resourceCount() {
+        return Arrays.stream(PlayingCard.values())
+                .filter(card -> card.getCategory() == CardCategory.RESOURCES)
+                .mapToInt(PlayingCard::getRequiredAmount)
+                .sum();
+    }
+
+    /**
+     * Draws all resources of the card deck.
+     *
+     * @param game to draw from
+     * @param resources number of resources to be drawn
+     * @throws LogicException if a card cannot be drawn
+     */
+    private static void drawResources(CardGame game, int resources) throws LogicException {
+        for (int i = 0; i < resources; i++) {
+            game.draw();
+        }
+    }
+
+    /**
+     * Benchmark of {@link CardGame#draw()}. Every invocation draws all resources of a reset game.
+     *
+     * @param name of the benchmark
+     * @param journal that records the game or null
+     * @return the benchmark
+     * @throws LogicException if the game cannot be started
+     */
+    private static Benchmark draw(String name, JournalWriter journal) throws LogicException {
+        final CardGame game = new CardGame();
+        if (journal != null) {
+            journal.attach(game);
+        }
+        game.setCardDeck(DeckGenerator.sortedDeck());
+        final int resources = resourceCount();
+        return new Benchmark(name, resources) {
+            @Override
+            public void setUp() throws LogicException {
+                game.resetGame();
+            }
+
+            @Override
+            public int run() throws LogicException {
+                int result = 0;
+                for (int i = 0; i < resources; i++) {
+                    result += game.draw().ordinal();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CardGame#drawUntilDecision(int)}. Every invocation draws all resources of a reset game,
+     * stopping whenever an item becomes buildable. One operation is one drawn card.
+     *
+     * @return the benchmark
+     * @throws LogicException if the game cannot be started
+     */
+    private static Benchmark drawUntilDecision() throws LogicException {
+        final CardGame game = new CardGame();
+        game.setCardDeck(DeckGenerator.sortedDeck());
+        final int resources = resourceCount();
+        return new Benchmark("engine.drawUntilDecision", resources) {
+            @Override
+            public void setUp() throws LogicException {
+                game.resetGame();
+            }
+
+            @Override
+            public int run() throws LogicException {
+                int drawn = 0;
+                while (drawn < resources) {
+                    drawn += game.drawUntilDecision(resources - drawn).size();
+                }
+                return drawn;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CardGame#build(Item)}. Every invocation builds the {@link #BUILD_ORDER}
+     * in a batch of games with all resources in hand.
+     *
+     * @return the benchmark
+     * @throws LogicException if the games cannot be started
+     */
+    private static Benchmark build() throws LogicException {
+        final CardGame[] games = gamesOf(DeckGenerator.sortedDeck(), BATCH_SIZE);
+        final int resources = resourceCount();
+        return new Benchmark("engine.build", BATCH_SIZE * BUILD_ORDER.length) {
+            @Override
+            public void setUp() throws LogicException {
+                for (final CardGame game : games) {
+                    game.resetGame();
+                    drawResources(game, resources);
+                }
+            }
+
+            @Override
+            public int run() throws LogicException {
+                int result = 0;
+                for (final CardGame game : games) {
+                    for (final Item item : BUILD_ORDER) {
+                        result += game.build(item).length();
+                    }
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CardGame#setDiced(int, int)} in an encounter. Every invocation fights
+     * against a spider in a batch of games, whose card deck starts with it.
+     *
+     * @return the benchmark
+     * @throws LogicException if the games cannot be started
+     */
+    private static Benchmark encounter() throws LogicException {
+        final PlayingCard[] deck = DeckGenerator.sortedDeck();
+        final int spider = Arrays.asList(deck).indexOf(PlayingCard.SPIDER);
+        deck[spider] = deck[0];
+        deck[0] = PlayingCard.SPIDER;
+        final CardGame[] games = gamesOf(deck, BATCH_SIZE);
+        final int size = PlayingCard.SPIDER.getDiceSize().get();
+        return new Benchmark("engine.setDiced.encounter", BATCH_SIZE) {
+            @Override
+            public void setUp() throws LogicException {
+                for (final CardGame game : games) {
+                    game.resetGame();
+                    game.draw();
+                }
+            }
+
+            @Override
+            public int run() throws LogicException {
+                int result = 0;
+                for (final CardGame game : games) {
+                    result += game.setDiced(size, size).length();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of an invalid move: rolling the dice while scavenging, which is rejected with a
+     * {@link LogicException}.
+     *
+     * @return the benchmark
+     * @throws LogicException if the game cannot be started
+     */
+    private static Benchmark invalidMove() throws LogicException {
+        final CardGame game = gamesOf(DeckGenerator.sortedDeck(), 1)[0];
+        return new Benchmark("engine.invalidMove", 1) {
+            @Override
+            public int run() {
+                try {
+                    return game.setDiced(6, 6).length();
+                } catch (final LogicException e) {
+                    return e.getMessage().length();
+                }
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CardGame#setDiced(int, int)} in an endeavor. Every invocation rolls
+     * the dice after building a sailing raft in a batch of games and wins all of them.
+     *
+     * @return the benchmark
+     * @throws LogicException if the games cannot be started
+     */
+    private static Benchmark endeavor() throws LogicException {
+        final CardGame[] games = gamesOf(DeckGenerator.sortedDeck(), BATCH_SIZE);
+        final int resources = resourceCount();
+        final int size = Item.SAILINGRAFT.getDiceSize().get();
+        return new Benchmark("engine.setDiced.endeavor", BATCH_SIZE) {
+            @Override
+            public void setUp() throws LogicException {
+                for (final CardGame game : games) {
+                    game.resetGame();
+                    drawResources(game, resources);
+                    game.build(Item.SAILINGRAFT);
+                }
+            }
+
+            @Override
+            public int run() throws LogicException {
+                int result = 0;
+                for (final CardGame game : games) {
+                    result += game.setDiced(size, size).length();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Creates an arena with a batch of parked games, each of which has drawn all resources.
+     *
+     * @return the arena, whose handles are 0 to {@link #BATCH_SIZE} exclusive
+     * @throws LogicException if the games cannot be played
+     */
+    private static GameArena parkedGames() throws LogicException {
+        final GameArena arena = new GameArena();
+        for (final CardGame game : gamesOf(DeckGenerator.sortedDeck(), BATCH_SIZE)) {
+            drawResources(game, resourceCount());
+            arena.park(game);
+        }
+        return arena;
+    }
+
+    /**
+     * Benchmark of {@link GameArena#update(int, CardGame)}. Every invocation parks a game with all resources in
+     * hand in every record of a batch.
+     *
+     * @return the benchmark
+     * @throws LogicException if the games cannot be played
+     */
+    private static Benchmark park() throws LogicException {
+        final GameArena arena = parkedGames();
+        final CardGame game = arena.fork(0);
+        return new Benchmark("engine.arena.park", BATCH_SIZE) {
+            @Override
+            public int run() {
+                for (int handle = 0; handle < BATCH_SIZE; handle++) {
+                    arena.update(handle, game);
+                }
+                return arena.size();
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link GameArena#restore(int, CardGame)}. Every invocation restores a batch of parked games
+     * with all resources in hand into the same game.
+     *
+     * @return the benchmark
+     * @throws LogicException if the games cannot be played
+     */
+    private static Benchmark restore() throws LogicException {
+        final GameArena arena = parkedGames();
+        final CardGame game = new CardGame();
+        return new Benchmark("engine.arena.restore", BATCH_SIZE) {
+            @Override
+            public int run() {
+                int result = 0;
+                for (int handle = 0; handle < BATCH_SIZE; handle++) {
+                    arena.restore(handle, game);
+                    result += game.getRemainingCards();
+                }
+                return result;
+            }
+        };
+    }
+}
@@ -0,0 +1,134 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.simulation.BuiltInStrategy;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.simulation.Simulator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks that replay whole games of fixed card decks with fixed dice until they are won or lost.
+ * The decisions are made by the {@link BuiltInStrategy#GREEDY greedy strategy}.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class GameBenchmarks {
+    /**
+     * Seed of the card decks and the dice, so that every run replays the same games.
+     */
+    private static final long SEED = 42;
+    /**
+     * Number of games in the corpus of the mixed benchmark.
+     */
+    private static final int CORPUS_SIZE = 64;
+    private static final Simulator SIMULATOR = new Simulator(BuiltInStrategy.GREEDY);
+
+    /**
+     * Utility-class constructor.
+     */
+    private GameBenchmarks() {
+    }
+
+    /**
+     * Creates all full-game benchmarks.
+     *
+     * @param journal that records the games of the journaled corpus benchmark
+     * @return a list of the benchmarks
+     * @throws LogicException if a game cannot be played
+     */
+    static List<Benchmark> all(JournalWriter journal) throws LogicException {
+        final PlayingCard[][] decks = new PlayingCard[CORPUS_SIZE][];
+        final long[] diceSeeds = new long[CORPUS_SIZE];
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            decks[i] = DeckGenerator.sortedDeck();
+            DeckGenerator.shuffle(decks[i], random);
+            diceSeeds[i] = random.nextLong();
+        }
+        return Arrays.asList(replay("game.won", decks, diceSeeds, true),
+                replay("game.lost", decks, diceSeeds, false),
+                new Replay("game.corpus", decks, diceSeeds, null),
+                new Replay("game.corpus.journal", decks, diceSeeds, journal));
+    }
+
+    /**
+     * Creates a benchmark that replays the first game of the corpus with the given outcome.
+     *
+     * @param name of the benchmark
+     * @param decks of the corpus
+     * @param diceSeeds of the corpus
+     * @param won outcome of the game to be replayed
+     * @return the benchmark
+     * @throws LogicException if a game cannot be played
+     */
+    private static Benchmark replay(String name, PlayingCard[][] decks, long[] diceSeeds, boolean won)
+            throws LogicException {
+        for (int i = 0; i < decks.length; i++) {
+            if (SIMULATOR.play(new CardGame(), decks[i], new SplittableRandom(diceSeeds[i])) == won) {
+                return new Replay(name, new PlayingCard[][] {decks[i]}, new long[] {diceSeeds[i]}, null);
+            }
+        }
+        throw new IllegalStateException("no game of the corpus is " + (won ? "won" : "lost"));
+    }
+
+    /**
+     * Replays a corpus of games, one operation per game.
+     */
+    private static final class Replay extends Benchmark {
+        private final PlayingCard[][] decks;
+        private final long[] diceSeeds;
+        private final JournalWriter journal;
+        private CardGame game;
+
+        /**
+         * Creates a new replay of the given games.
+         *
+         * @param name of the benchmark
+         * @param decks of the games
+         * @param diceSeeds of the games
+         * @param journal that records the games or null
+         */
+        Replay(String name, PlayingCard[][] decks, long[] diceSeeds, JournalWriter journal) {
+            super(name, decks.length);
+            this.decks = decks;
+            this.diceSeeds = diceSeeds;
+            this.journal = journal;
+            this.game = newGame();
+        }
+
+        /**
+         * Creates a new game, which is recorded if there is a journal.
+         *
+         * @return the new game
+         */
+        private CardGame newGame() {
+            final CardGame newGame = new CardGame();
+            if (journal != null) {
+                journal.attach(newGame);
+            }
+            return newGame;
+        }
+
+        @Override
+        public int run() throws LogicException {
+            int wins = 0;
+            for (int i = 0; i < decks.length; i++) {
+                // A game the strategy got stuck in is still active and cannot get a new card deck
+                if (game.isActive()) {
+                    game = newGame();
+                }
+                if (SIMULATOR.play(game, decks[i], new SplittableRandom(diceSeeds[i]))) {
+                    wins++;
+                }
+            }
+            return wins;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/*
+The harness follows the usual recipe of JMH without depending on it: a few warmup iterations give the JIT
+compiler the chance to compile the benchmark, then every measurement iteration runs the benchmark for a fixed
+time and yields one sample of the time per operation. The results of all invocations are folded into a sink
+that is published afterwards, so the measured code cannot be removed as dead.
+Allocations are counted by the JVM for every thread, like the GC profiler of JMH does. The harness runs the
+benchmarks on its own thread, so reading the counter before and after an invocation yields exactly the memory
+the invocation allocated. Reading the clock and the counter costs a little itself, which is why both are
+calibrated with an empty invocation and subtracted.
+ */
+
+/**
+ * Measures the time and the allocated memory per operation of {@link Benchmark benchmarks}.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Harness {
+    private static final long NANOS_PER_MILLISECOND = 1_000_000;
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threads;
+    private final long threadId = Thread.currentThread().getId();
+    private long clockOverhead;
+    private long counterOverhead;
+    /**
+     * Accumulates the results of all invocations, so that they are not dead code.
+     */
+    private int sink;
+
+    /**
+     * Creates a new harness that measures on the current thread.
+     *
+     * @param warmupIterations number of iterations that are not measured
+     * @param measurementIterations number of measured iterations
+     * @param iterationMillis duration of one iteration in milliseconds
+     */
+    public Harness(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * NANOS_PER_MILLISECOND;
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+            this.threads.setThreadAllocatedMemoryEnabled(true);
+        } else {
+            this.threads = null;
+        }
+    }
+
+    /**
+     * Measures the given {@code benchmark}.
+     *
+     * @param benchmark to be measured
+     * @return the measurement
+     * @throws InvalidInputException if the benchmark parses an invalid input
+     * @throws LogicException if the benchmark violates the rules of the game
+     */
+    public Measurement measure(Benchmark benchmark) throws InvalidInputException, LogicException {
+        calibrate();
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(benchmark, new long[2]);
+        }
+        final long collectionsBefore = collections();
+        final double[] nanosPerOperation = new double[measurementIterations];
+        long bytes = 0;
+        long operations = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            final long[] totals = new long[2];
+            final long invocations = iterate(benchmark, totals);
+            nanosPerOperation[i] = (double) totals[0] / (invocations * benchmark.getOperations());
+            bytes += totals[1];
+            operations += invocations * benchmark.getOperations();
+        }
+        final long collections = collections() - collectionsBefore;
+        final double bytesPerOperation = threads != null ? Math.max(0, (double) bytes / operations) : Double.NaN;
+        return new Measurement(benchmark.getName(), nanosPerOperation, bytesPerOperation, collections);
+    }
+
+    /**
+     * Runs one iteration of the given {@code benchmark}.
+     *
+     * @param benchmark to be run
+     * @param totals the measured nanoseconds and allocated bytes are added to the first and second element
+     * @return the number of invocations
+     * @throws InvalidInputException if the benchmark parses an invalid input
+     * @throws LogicException if the benchmark violates the rules of the game
+     */
+    private long iterate(Benchmark benchmark, long[] totals) throws InvalidInputException, LogicException {
+        final long end = System.nanoTime() + iterationNanos;
+        long invocations = 0;
+        do {
+            benchmark.setUp();
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            sink += benchmark.run();
+            final long stop = System.nanoTime();
+            final long allocatedAfter = allocatedBytes();
+            totals[0] += stop - start - clockOverhead;
+            totals[1] += allocatedAfter - allocatedBefore - counterOverhead;
+            invocations++;
+        } while (System.nanoTime() < end);
+        return invocations;
+    }
+
+    /**
+     * Measures what reading the clock and the allocation counter costs without any code in between.
+     */
+    private void calibrate() {
+        final int samples = 10_000;
+        long nanos = 0;
+        long bytes = 0;
+        for (int i = 0; i < samples; i++) {
+            final long allocatedBefore = allocatedBytes();
+            final long start = System.nanoTime();
+            final long stop = System.nanoTime();
+            final long allocatedAfter = allocatedBytes();
+            nanos += stop - start;
+            bytes += allocatedAfter - allocatedBefore;
+        }
+        clockOverhead = nanos / samples;
+        counterOverhead = bytes / samples;
+    }
+
+    /**
+     * Gets the memory the current thread has allocated so far.
+     *
+     * @return the allocated bytes or 0 if they cannot be measured
+     */
+    private long allocatedBytes() {
+        return threads != null ? threads.getThreadAllocatedBytes(threadId) : 0;
+    }
+
+    /**
+     * Gets the number of garbage collections so far, summed over all collectors.
+     *
+     * @return the number of garbage collections
+     */
+    private static long collections() {
+        long collections = 0;
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            collections += Math.max(0, collector.getCollectionCount());
+        }
+        return collections;
+    }
+
+    /**
+     * Gets the accumulated results of all invocations.
+     *
+     * @return the sink of the results
+     */
+    public int getSink() {
+        return sink;
+    }
+}
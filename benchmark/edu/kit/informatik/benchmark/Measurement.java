@@ -0,0 +1,111 @@
+package edu.kit.informatik.benchmark;
+
+import java.util.Locale;
+
+/**
+ * The outcome of measuring one {@link Benchmark}: the time and the allocated memory per operation.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Measurement {
+    /**
+     * Z-value of the normal distribution for a confidence level of 99.9%.
+     */
+    private static final double Z_999 = 3.29;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private final String name;
+    private final double[] nanosPerOperation;
+    private final double bytesPerOperation;
+    private final long collections;
+
+    /**
+     * Creates a new measurement.
+     *
+     * @param name of the benchmark
+     * @param nanosPerOperation average time per operation of every measurement iteration
+     * @param bytesPerOperation average allocated bytes per operation or NaN if they cannot be measured
+     * @param collections number of garbage collections during the measurement iterations
+     */
+    Measurement(String name, double[] nanosPerOperation, double bytesPerOperation, long collections) {
+        this.name = name;
+        this.nanosPerOperation = nanosPerOperation;
+        this.bytesPerOperation = bytesPerOperation;
+        this.collections = collections;
+    }
+
+    /**
+     * Gets the average time per operation.
+     *
+     * @return the time per operation in nanoseconds
+     */
+    public double getNanosPerOperation() {
+        double sum = 0;
+        for (final double nanos : nanosPerOperation) {
+            sum += nanos;
+        }
+        return sum / nanosPerOperation.length;
+    }
+
+    /**
+     * Gets the half width of the 99.9% confidence interval of the time per operation.
+     *
+     * @return the error of the time per operation in nanoseconds
+     */
+    public double getError() {
+        if (nanosPerOperation.length < 2) {
+            return Double.NaN;
+        }
+        final double mean = getNanosPerOperation();
+        double squares = 0;
+        for (final double nanos : nanosPerOperation) {
+            squares += (nanos - mean) * (nanos - mean);
+        }
+        final double deviation = Math.sqrt(squares / (nanosPerOperation.length - 1));
+        return Z_999 * deviation / Math.sqrt(nanosPerOperation.length);
+    }
+
+    /**
+     * Gets the average allocated memory per operation.
+     *
+     * @return the allocated bytes per operation or NaN if they cannot be measured
+     */
+    public double getBytesPerOperation() {
+        return bytesPerOperation;
+    }
+
+    /**
+     * Gets the allocation rate while the benchmark was running.
+     *
+     * @return the allocated megabytes per second
+     */
+    public double getAllocationRate() {
+        return bytesPerOperation / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / getNanosPerOperation();
+    }
+
+    /**
+     * Gets the number of garbage collections during the measurement iterations.
+     *
+     * @return the number of garbage collections
+     */
+    public long getCollections() {
+        return collections;
+    }
+
+    /**
+     * Gets the header of the table the measurements are printed as.
+     *
+     * @return the header line
+     */
+    public static String header() {
+        return String.format(Locale.ROOT, "%-28s %14s %10s %12s %10s %5s",
+                "benchmark", "ns/op", "error", "B/op", "MB/s", "gc");
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%-28s %14.1f %10.1f %12.1f %10.1f %5d", name, getNanosPerOperation(),
+                getError(), bytesPerOperation, getAllocationRate(), collections);
+    }
+}
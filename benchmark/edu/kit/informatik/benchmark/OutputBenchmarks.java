@@ -0,0 +1,118 @@
+package edu.kit.informatik.benchmark;
+
+import edu.kit.informatik.cardgame.ErrorMessages;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.OutputBuffer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmarks of printing the output of commands: line by line to a {@link PrintStream} that is set up like
+ * {@link System#out}, and into an {@link OutputBuffer} that is written once per batch of lines. Both print to
+ * a stream that discards everything, so the system calls the buffer saves in addition are not measured.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class OutputBenchmarks {
+    /**
+     * Size of the buffer of {@link System#out}.
+     */
+    private static final int PRINT_STREAM_BUFFER = 128;
+    /**
+     * Typical lines of output: all cards of a card deck, each one followed by a result or an error.
+     */
+    private static final List<Object> LINES = lines();
+
+    /**
+     * Utility-class constructor.
+     */
+    private OutputBenchmarks() {
+    }
+
+    /**
+     * Creates all output benchmarks.
+     *
+     * @return a list of the benchmarks
+     */
+    static List<Benchmark> all() {
+        return Arrays.asList(printStream(), buffer());
+    }
+
+    /**
+     * Creates the lines that are printed by every invocation.
+     *
+     * @return the lines, which are cards, results and error messages
+     */
+    private static List<Object> lines() {
+        final List<Object> lines = new ArrayList<>();
+        for (final Object card : DeckGenerator.sortedDeck()) {
+            lines.add(card);
+            lines.add(lines.size() % 3 == 0 ? ErrorMessages.NO_MORE_CARDS : InOutput.OK_MESSAGE.toString());
+        }
+        return Collections.unmodifiableList(lines);
+    }
+
+    /**
+     * Benchmark of printing every line with {@link PrintStream#println(Object)}, which synchronises and flushes
+     * every line like {@link System#out} does.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark printStream() {
+        final PrintStream stream = new PrintStream(new BufferedOutputStream(OutputStream.nullOutputStream(),
+                PRINT_STREAM_BUFFER), true);
+        return new Benchmark("output.printStream", LINES.size()) {
+            @Override
+            public int run() {
+                for (final Object line : LINES) {
+                    if (line instanceof ErrorMessages) {
+                        stream.println(InOutput.ERROR_PREFIX + line.toString());
+                    } else {
+                        stream.println(line);
+                    }
+                }
+                return LINES.size();
+            }
+        };
+    }
+
+    /**
+     * Benchmark of appending every line to an {@link OutputBuffer}, which is written once per invocation.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark buffer() {
+        final OutputStream stream = OutputStream.nullOutputStream();
+        final OutputBuffer buffer = new OutputBuffer(Charset.defaultCharset(), System.lineSeparator());
+        return new Benchmark("output.buffer", LINES.size()) {
+            @Override
+            public int run() {
+                for (final Object line : LINES) {
+                    if (line instanceof ErrorMessages) {
+                        buffer.appendError(line.toString());
+                    } else {
+                        buffer.appendLine(line);
+                    }
+                }
+                final int size = buffer.size();
+                try {
+                    buffer.writeTo(stream);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return size;
+            }
+        };
+    }
+}
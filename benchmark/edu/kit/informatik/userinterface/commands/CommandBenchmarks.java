@@ -0,0 +1,287 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.benchmark.Benchmark;
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Dice;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.metrics.Metrics;
+import edu.kit.informatik.simulation.BuiltInStrategy;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.simulation.Simulator;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.InputLine;
+import edu.kit.informatik.userinterface.Output;
+import edu.kit.informatik.userinterface.Session;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Microbenchmarks of the command layer: parsing a card deck, creating commands from user input, decoding
+ * a line of encoded user input into a String or into a reusable {@link InputLine} and parsing it, handling
+ * a whole line of user input in a session with and without metrics and playing a whole game with autoplay.
+ * They live in this package, because parsing is not visible outside of it.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class CommandBenchmarks {
+    /**
+     * The sorted card deck in the format of the start command.
+     */
+    private static final String DECK = Arrays.stream(DeckGenerator.sortedDeck())
+            .map(Object::toString)
+            .collect(Collectors.joining(InOutput.CARD_SEPARATOR.toString()));
+    /**
+     * Number of times a command is created by one invocation, so that the cost of reading the clock
+     * does not dominate.
+     */
+    private static final int REPETITIONS = 64;
+    /**
+     * Number of card decks that are played with autoplay.
+     */
+    private static final int DECKS = 64;
+    /**
+     * Seed of the card decks and the dice of autoplay.
+     */
+    private static final long DICE_SEED = 42;
+
+    /**
+     * Utility-class constructor.
+     */
+    private CommandBenchmarks() {
+    }
+
+    /**
+     * Creates all command benchmarks.
+     *
+     * @return a list of the benchmarks
+     * @throws LogicException if a game of the autoplay benchmark cannot be played
+     */
+    public static List<Benchmark> all() throws LogicException {
+        final CommandFactory factory = new CommandFactory(new Session());
+        final String separator = InOutput.COMMAND_SEPARATOR.toString();
+        return Arrays.asList(parseCards(),
+                getCommand(factory, "command.getCommand.start", Start.getName() + separator + DECK),
+                getCommand(factory, "command.getCommand.draw", Draw.getName()),
+                getCommand(factory, "command.getCommand.build", Build.getName() + separator + "axe"),
+                getCommand(factory, "command.getCommand.rollDx", RollDx.getName() + "6" + separator + "6"),
+                unknownCommand(factory),
+                decodeString(factory),
+                decodeInputLine(factory),
+                handle("session.handle", null),
+                handle("session.handle.metrics", new Metrics(CommandFactory.getNames())),
+                autoplay());
+    }
+
+    /**
+     * Benchmark of {@link Command#parseCards(CharSequence, int)} with a valid card deck.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark parseCards() {
+        final Command command = new Start();
+        return new Benchmark("command.parseCards", 1) {
+            @Override
+            public int run() throws InvalidInputException {
+                return command.parseCards(DECK, 0).length;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CommandFactory#getCommand(CharSequence)} with the given valid {@code input}.
+     *
+     * @param factory that creates the commands
+     * @param name of the benchmark
+     * @param input of the user
+     * @return the benchmark
+     */
+    private static Benchmark getCommand(CommandFactory factory, String name, String input) {
+        return new Benchmark(name, REPETITIONS) {
+            @Override
+            public int run() throws InvalidInputException {
+                int result = 0;
+                for (int i = 0; i < REPETITIONS; i++) {
+                    result += factory.getCommand(input).hashCode();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of decoding the encoded start command with the sorted card deck into a new String, like
+     * {@link java.io.BufferedReader#readLine()} does, and creating the command from it.
+     *
+     * @param factory that creates the commands
+     * @return the benchmark
+     */
+    private static Benchmark decodeString(CommandFactory factory) {
+        final byte[] line = startLine();
+        return new Benchmark("input.string", REPETITIONS) {
+            @Override
+            public int run() throws InvalidInputException {
+                int result = 0;
+                for (int i = 0; i < REPETITIONS; i++) {
+                    result += factory.getCommand(new String(line, StandardCharsets.UTF_8)).hashCode();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of setting a reused {@link InputLine} to the encoded start command with the sorted card deck
+     * and creating the command from it.
+     *
+     * @param factory that creates the commands
+     * @return the benchmark
+     */
+    private static Benchmark decodeInputLine(CommandFactory factory) {
+        final byte[] line = startLine();
+        final InputLine input = new InputLine(StandardCharsets.UTF_8);
+        return new Benchmark("input.inputLine", REPETITIONS) {
+            @Override
+            public int run() throws InvalidInputException {
+                int result = 0;
+                for (int i = 0; i < REPETITIONS; i++) {
+                    input.set(line, 0, line.length);
+                    result += factory.getCommand(input).hashCode();
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Encodes the start command with the sorted card deck, which is the longest line of a session.
+     *
+     * @return the encoded line without a line break
+     */
+    private static byte[] startLine() {
+        return (Start.getName() + InOutput.COMMAND_SEPARATOR + DECK).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Benchmark of {@link Session#handle(CharSequence)} with the list-buildings command of a started game,
+     * whose output is discarded.
+     *
+     * @param name of the benchmark
+     * @param metrics of the session or null
+     * @return the benchmark
+     */
+    private static Benchmark handle(String name, Metrics metrics) {
+        final int[] printed = new int[1];
+        final Session session = new Session(new Output() {
+            @Override
+            public void printLine(Object object) {
+                printed[0]++;
+            }
+
+            @Override
+            public void printError(String message) {
+                printed[0]++;
+            }
+
+            @Override
+            public void flush() {
+            }
+        }, metrics);
+        session.handle(Start.getName() + InOutput.COMMAND_SEPARATOR + DECK);
+        return new Benchmark(name, REPETITIONS) {
+            @Override
+            public int run() {
+                for (int i = 0; i < REPETITIONS; i++) {
+                    session.handle(ListBuildings.getName());
+                }
+                return printed[0];
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link Session#handle(CharSequence)} with a start command followed by an autoplay command, which
+     * plays a whole game, for a corpus of random card decks. One operation is one game.
+     *
+     * @return the benchmark
+     * @throws LogicException if a game cannot be played
+     */
+    private static Benchmark autoplay() throws LogicException {
+        final String separator = InOutput.COMMAND_SEPARATOR.toString();
+        final Simulator simulator = new Simulator(BuiltInStrategy.GREEDY);
+        final List<String> starts = new ArrayList<>();
+        final SplittableRandom random = new SplittableRandom(DICE_SEED);
+        while (starts.size() < DECKS) {
+            final PlayingCard[] deck = DeckGenerator.sortedDeck();
+            DeckGenerator.shuffle(deck, random);
+            final CardGame game = new CardGame();
+            game.setCardDeck(deck);
+            simulator.finish(game, new Dice(DICE_SEED));
+            // A game the strategy got stuck in stays active, so the next start command would fail
+            if (!game.isActive()) {
+                starts.add(Start.getName() + separator + Arrays.stream(deck).map(Object::toString)
+                        .collect(Collectors.joining(InOutput.CARD_SEPARATOR.toString())));
+            }
+        }
+        final String autoplay = Autoplay.getName() + separator + BuiltInStrategy.GREEDY + separator + DICE_SEED;
+        final Session session = new Session(new Output() {
+            @Override
+            public void printLine(Object object) {
+            }
+
+            @Override
+            public void printError(String message) {
+                throw new IllegalStateException(message);
+            }
+
+            @Override
+            public void flush() {
+            }
+        });
+        return new Benchmark("session.autoplay", DECKS) {
+            @Override
+            public int run() {
+                int wins = 0;
+                for (final String start : starts) {
+                    session.handle(start);
+                    session.handle(autoplay);
+                    if (session.getGame().isWon()) {
+                        wins++;
+                    }
+                }
+                return wins;
+            }
+        };
+    }
+
+    /**
+     * Benchmark of {@link CommandFactory#getCommand(CharSequence)} with an unknown command, which is reported
+     * by an exception.
+     *
+     * @param factory that creates the commands
+     * @return the benchmark
+     */
+    private static Benchmark unknownCommand(CommandFactory factory) {
+        return new Benchmark("command.getCommand.unknown", REPETITIONS) {
+            @Override
+            public int run() {
+                int result = 0;
+                for (int i = 0; i < REPETITIONS; i++) {
+                    try {
+                        result += factory.getCommand("shuffle").hashCode();
+                    } catch (final InvalidInputException e) {
+                        result += e.getMessage().length();
+                    }
+                }
+                return result;
+            }
+        };
+    }
+}
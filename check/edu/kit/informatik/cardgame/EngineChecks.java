@@ -0,0 +1,684 @@
+package edu.kit.informatik.cardgame;
+
+import edu.kit.informatik.check.Check;
+import edu.kit.informatik.check.RandomGames;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Checks of the data structures of the engine against simple models of them.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class EngineChecks {
+    /**
+     * Number of random operations of one case.
+     */
+    private static final int OPERATIONS = 256;
+    /**
+     * Number of resources of a valid card deck, which is the most resources a player can have.
+     */
+    private static final int MAX_RESOURCES = 48;
+    private static final PlayingCard[] RESOURCES = {PlayingCard.WOOD, PlayingCard.METAL, PlayingCard.PLASTIC};
+    private static final Item[] ITEMS = Item.values();
+    private static final State[] STATES = State.values();
+    /**
+     * Largest size of a dice and largest diced number the transitions are checked with, which exceeds the dice
+     * of the game.
+     */
+    private static final int MAX_CHECKED_DICE = 12;
+    /**
+     * Largest difference between two probabilities that are considered equal, since they are summed up
+     * in a different order.
+     */
+    private static final double TOLERANCE = 1e-9;
+    /**
+     * Budget of the interrupted hints, which is small enough to interrupt most searches several times.
+     */
+    private static final long SMALL_BUDGET = 16;
+
+    /**
+     * Utility-class constructor.
+     */
+    private EngineChecks() {
+    }
+
+    /**
+     * Creates all engine checks.
+     *
+     * @return a list of the checks
+     */
+    public static List<Check> all() {
+        return Arrays.asList(resourceStore(), recipeTable(), state(), incremental(), zobrist(), solver(),
+                snapshot(), gameArena());
+    }
+
+    /**
+     * Check of the {@link ResourceStore} against a list of the resources in the order they were added,
+     * which is how the resources were stored before. Every case performs random operations on one store and
+     * compares it with the list after every operation, including the key of the resources and a round trip through
+     * the packed resources.
+     *
+     * @return the check
+     */
+    private static Check resourceStore() {
+        return new Check("engine.resourceStore", 2000) {
+            @Override
+            public void run(SplittableRandom random) {
+                final ResourceStore store = new ResourceStore();
+                final List<PlayingCard> model = new ArrayList<>();
+                // Some cases mostly add resources, so that the store also gets full and is compacted
+                final double additions = random.nextDouble(0.4, 0.95);
+                for (int i = 0; i < OPERATIONS; i++) {
+                    final PlayingCard card = RESOURCES[random.nextInt(RESOURCES.length)];
+                    final int operation = random.nextInt(32);
+                    if (operation == 0) {
+                        store.clear();
+                        model.clear();
+                    } else if (operation == 1) {
+                        final int amount = random.nextInt(model.size() + 1);
+                        store.retainLast(amount);
+                        model.subList(0, model.size() - amount).clear();
+                    } else if (random.nextDouble() >= additions || model.size() == MAX_RESOURCES) {
+                        final int last = model.lastIndexOf(card);
+                        if (last >= 0) {
+                            model.remove(last);
+                        }
+                        requireEqual(last >= 0, store.removeLastOccurrence(card), "removed " + card);
+                    } else {
+                        store.addLast(card);
+                        model.add(card);
+                    }
+                    requireEqual(model, store.toList(), "resources");
+                    requireEqual(model.size(), store.size(), "size");
+                    requireEqual(model.isEmpty(), store.isEmpty(), "empty");
+                    requireEqual(keyOf(model), store.getKey(), "key");
+                    for (final PlayingCard resource : RESOURCES) {
+                        requireEqual((int) model.stream().filter(resource::equals).count(), store.count(resource),
+                                "count of " + resource);
+                    }
+                }
+                final long low = store.pack(0);
+                final long high = store.pack(ResourceStore.PACKED_PER_LONG);
+                require(ResourceStore.isPacked(low, high, model.size()), "packed resources are valid");
+                final ResourceStore unpacked = new ResourceStore();
+                unpacked.unpack(low, high, model.size());
+                requireEqual(model, unpacked.toList(), "unpacked resources");
+            }
+        };
+    }
+
+    /**
+     * Computes the key of the given {@code resources} from scratch.
+     *
+     * @param resources from the oldest to the newest one
+     * @return the key of the resources
+     */
+    private static long keyOf(List<PlayingCard> resources) {
+        long key = 0;
+        for (int index = 0; index < resources.size(); index++) {
+            key ^= Zobrist.slot(index, ResourceStore.indexOf(resources.get(index)));
+        }
+        return key;
+    }
+
+    /**
+     * Check of the {@link RecipeTable} against the recipes themselves: an item is buildable if the player does not
+     * own it yet, has a fireplace if the item requires one, and every required card can be taken from the
+     * resources. Every case looks up random resources with a random inventory.
+     *
+     * @return the check
+     */
+    private static Check recipeTable() {
+        return new Check("engine.recipeTable", 20000) {
+            @Override
+            public void run(SplittableRandom random) {
+                final ResourceStore store = new ResourceStore();
+                final List<PlayingCard> resources = new ArrayList<>();
+                final int[] amounts = new int[ResourceStore.TYPES];
+                for (final PlayingCard resource : RESOURCES) {
+                    amounts[ResourceStore.indexOf(resource)] = random.nextInt(resource.getRequiredAmount() + 1);
+                    for (int i = 0; i < amounts[ResourceStore.indexOf(resource)]; i++) {
+                        store.addLast(resource);
+                        resources.add(resource);
+                    }
+                }
+                final int inventory = random.nextInt(1 << ITEMS.length);
+                int expected = 0;
+                for (final Item item : ITEMS) {
+                    if (canBuild(item, resources, inventory)) {
+                        expected |= item.getMask();
+                    }
+                }
+                requireEqual(expected, RecipeTable.buildable(store, inventory), "buildable items of the store");
+                requireEqual(expected, RecipeTable.buildable(amounts, inventory), "buildable items of the amounts");
+                final int mask = expected;
+                requireEqual(Stream.of(ITEMS).filter(item -> (mask & item.getMask()) != 0)
+                                .sorted(Comparator.comparing(Object::toString)).collect(Collectors.toList()),
+                        RecipeTable.alphabetical(mask), "alphabetical items");
+            }
+        };
+    }
+
+    /**
+     * Returns <code>true</code> if the given {@code item} can be built, computed like the engine did before
+     * the recipes were precompiled.
+     *
+     * @param item to be built
+     * @param resources of the player
+     * @param inventory bitmask of the items the player owns
+     * @return <code>true</code> if the item can be built
+     */
+    private static boolean canBuild(Item item, List<PlayingCard> resources, int inventory) {
+        if ((inventory & item.getMask()) != 0
+                || item.isFireplaceRequired() && (inventory & Item.FIREPLACE.getMask()) == 0) {
+            return false;
+        }
+        final List<PlayingCard> required = new ArrayList<>(Arrays.asList(item.getRequiredCards()));
+        resources.forEach(required::remove);
+        return required.isEmpty();
+    }
+
+    /**
+     * Check of the transition tables of the {@link State} against the rules as they were implemented before the
+     * tables, where every state decided its transitions with a switch statement. The only case compares every
+     * transition of every state, including those with dice that do not exist in the game.
+     *
+     * @return the check
+     */
+    private static Check state() {
+        return new Check("engine.state", 1) {
+            @Override
+            public void run(SplittableRandom random) {
+                for (final State state : STATES) {
+                    for (final PlayingCard card : PlayingCard.values()) {
+                        requireSame(nextOf(state, card), state.next(card), state + " after drawing " + card);
+                    }
+                    for (final Item item : ITEMS) {
+                        requireSame(nextOf(state, item), state.next(item), state + " after building " + item);
+                    }
+                    for (int size = -1; size <= MAX_CHECKED_DICE; size++) {
+                        for (int diced = -1; diced <= MAX_CHECKED_DICE; diced++) {
+                            requireSame(nextOf(state, size, diced), state.next(size, diced),
+                                    state + " after rolling " + diced + " with a dice of size " + size);
+                        }
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Fails the case if the {@code actual} state is not the {@code expected} one, where null means that
+     * there is no valid next state.
+     *
+     * @param expected state of the model
+     * @param actual state of the program
+     * @param description of the transition
+     */
+    private static void requireSame(State expected, State actual, String description) {
+        if (expected != actual) {
+            throw new AssertionError(description + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    /**
+     * Gets the next state after a card has been drawn as the engine did before the transition tables.
+     *
+     * @param state before the card has been drawn
+     * @param card that has been drawn
+     * @return the next state or null if there is none
+     */
+    private static State nextOf(State state, PlayingCard card) {
+        if (state != State.SCAVENGE) {
+            return null;
+        }
+        return card.getCategory() == CardCategory.ANIMALS ? State.ENCOUNTER : State.SCAVENGE;
+    }
+
+    /**
+     * Gets the next state after an item has been built as the engine did before the transition tables.
+     *
+     * @param state before the item has been built
+     * @param item that has been built
+     * @return the next state or null if there is none
+     */
+    private static State nextOf(State state, Item item) {
+        if (state != State.SCAVENGE) {
+            return null;
+        }
+        switch (item) {
+            case BALLON:
+            case STEAMBOAT:
+                return State.WIN;
+            case HANGGLIDER:
+            case SAILINGRAFT:
+                return State.ENDEAVOR;
+            default:
+                return State.SCAVENGE;
+        }
+    }
+
+    /**
+     * Gets the next state after the dice have been rolled as the engine did before the transition tables.
+     *
+     * @param state before the dice have been rolled
+     * @param size of the dice
+     * @param diced number
+     * @return the next state or null if there is none
+     */
+    private static State nextOf(State state, int size, int diced) {
+        if (state == State.ENDEAVOR && size == 6) {
+            return diced < 4 ? State.SCAVENGE : State.WIN;
+        }
+        if (state == State.ENCOUNTER && (size == 4 || size == 6 || size == 8)) {
+            return State.SCAVENGE;
+        }
+        return null;
+    }
+
+    /**
+     * Check of the buildable items and the combat bonus, which the game keeps up to date while it is played,
+     * against their values computed again from the resources and buildings after every move. Every case plays
+     * a random game, which draws single cards and cards until a decision, builds, rolls the dice, resets and
+     * restores earlier positions. In every encounter, each number of the dice has to decide the fight as the
+     * highest bonus of the buildings does.
+     *
+     * @return the check
+     */
+    private static Check incremental() {
+        return new Check("engine.incremental", 2000) {
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                final CardGame game = RandomGames.randomPosition(random, DeckGenerator.DECK_SIZE, false);
+                Snapshot snapshot = game.snapshot();
+                PlayingCard card = null;
+                for (int i = 0; i < OPERATIONS; i++) {
+                    final Optional<Integer> diceSize = game.getRequiredDiceSize();
+                    final int operation = random.nextInt(32);
+                    if (operation == 0) {
+                        game.restore(snapshot);
+                        card = null;
+                    } else if (operation == 1) {
+                        snapshot = game.snapshot();
+                    } else if (!game.isActive() || operation == 2) {
+                        game.resetGame();
+                        card = null;
+                    } else if (diceSize.isPresent()) {
+                        if (card != null && card.getCategory() == CardCategory.ANIMALS) {
+                            requireFights(game, card, diceSize.get());
+                        }
+                        game.setDiced(diceSize.get(), 1 + random.nextInt(diceSize.get()));
+                        card = null;
+                    } else if (operation < 8 && !game.buildableItems().isEmpty()) {
+                        final List<Item> buildable = game.buildableItems();
+                        game.build(buildable.get(random.nextInt(buildable.size())));
+                        card = null;
+                    } else if (game.getRemainingCards() == 0) {
+                        game.resetGame();
+                        card = null;
+                    } else if (operation < 12) {
+                        final List<PlayingCard> drawn = game.drawUntilDecision(1 + random.nextInt(8));
+                        card = drawn.get(drawn.size() - 1);
+                    } else {
+                        card = game.draw();
+                    }
+                    if (game.isActive() && !game.getRequiredDiceSize().isPresent()) {
+                        final List<PlayingCard> resources = game.listResources();
+                        final int inventory = maskOf(game.listBuildings());
+                        requireEqual(Stream.of(ITEMS).filter(item -> canBuild(item, resources, inventory))
+                                        .sorted(Comparator.comparing(Object::toString)).collect(Collectors.toList()),
+                                game.buildableItems(), "buildable items");
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Fails the case if a number of the dice decides the fight against the animal of the given {@code card}
+     * otherwise than the highest bonus of the buildings in the given {@code game}.
+     *
+     * @param game in an encounter
+     * @param card of the animal
+     * @param diceSize size of the dice of the animal
+     * @throws LogicException if the dice cannot be rolled
+     */
+    private static void requireFights(CardGame game, PlayingCard card, int diceSize) throws LogicException {
+        final int bonus = game.listBuildings().stream().mapToInt(Item::getBonus).max().orElse(0);
+        for (int diced = 1; diced <= diceSize; diced++) {
+            final boolean survives = diced + bonus > card.getMinRoll().get();
+            Check.requireEqual(survives ? InOutput.SURVIVED_MESSAGE.toString() : InOutput.LOSE_MESSAGE.toString(),
+                    game.fork().setDiced(diceSize, diced), "fight against " + card + " rolling " + diced);
+        }
+    }
+
+    /**
+     * Gets the bitmask of the given {@code items}.
+     *
+     * @param items to be masked
+     * @return the bitmask of the items
+     */
+    private static int maskOf(List<Item> items) {
+        int mask = 0;
+        for (final Item item : items) {
+            mask |= item.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * Check of the {@link CardGame#getPositionKey() position keys}, which have to tell positions apart exactly
+     * like the positions can be told apart from outside. Every case plays a random game, which also resets and
+     * restores an earlier position, and remembers the position of every key it comes across. A key has to belong
+     * to one position only, and every position has to have one key only. Keys are only compared within one card
+     * deck, which decides the animal of an encounter.
+     *
+     * @return the check
+     */
+    private static Check zobrist() {
+        return new Check("engine.zobrist", 2000) {
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                final Map<Long, String> positions = new HashMap<>();
+                final Map<String, Long> keys = new HashMap<>();
+                final CardGame game = RandomGames.randomPosition(random, DeckGenerator.DECK_SIZE, false);
+                final Snapshot snapshot = game.snapshot();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    final String position = positionOf(game);
+                    final long key = game.getPositionKey();
+                    requireEqual(position, positions.computeIfAbsent(key, known -> position),
+                            "position of key " + Long.toHexString(key));
+                    requireEqual(key, keys.computeIfAbsent(position, known -> key), "key of " + position);
+                    final int operation = random.nextInt(64);
+                    if (operation == 0) {
+                        game.restore(snapshot);
+                    } else if (operation == 1 || !game.isActive()
+                            || RandomGames.randomMove(game, random, false) == null) {
+                        game.resetGame();
+                    }
+                }
+            }
+        };
+    }
+
+    /**
+     * Describes the position of the given {@code game}, which consists of the cards left, the state, the order
+     * of the resources and the owned items. An encounter and an endeavor with the same dice are told apart by
+     * rolling the highest number on a fork of the game.
+     *
+     * @param game to be described
+     * @return the description of the position
+     * @throws LogicException if the game has not been started
+     */
+    private static String positionOf(CardGame game) throws LogicException {
+        final Optional<Integer> diceSize = game.getRequiredDiceSize();
+        final String state;
+        if (!game.isActive()) {
+            state = game.isWon() ? "won" : "lost";
+        } else if (diceSize.isPresent()) {
+            state = "rollD" + diceSize.get() + " " + game.fork().setDiced(diceSize.get(), diceSize.get());
+        } else {
+            state = "scavenge";
+        }
+        return "remaining " + game.getRemainingCards() + ", " + state + ", resources " + game.listResources()
+                + ", items " + RecipeTable.alphabetical(maskOf(game.listBuildings()));
+    }
+
+    /**
+     * Check of the {@link Solver} against a search over all moves of forked games, which knows nothing about
+     * the table, the pruning and the keys of the solver. Every case plays a random game until at most a few
+     * cards are left and compares the probability of the hint with the value of the search, which has to be
+     * the value of the recommended action as well. A hint of the same position that is interrupted again and
+     * again until it completes has to find the same probability.
+     *
+     * @return the check
+     */
+    private static Check solver() {
+        return new Check("engine.solver", 1000) {
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                final CardGame game = RandomGames.randomPosition(random, 1 + random.nextInt(6), false);
+                final double expected = value(game);
+                final Hint hint = game.hint();
+                requireClose(expected, hint.getProbability(), "probability of the hint");
+                if (hint.getItem() != null) {
+                    final CardGame built = game.fork();
+                    built.build(hint.getItem());
+                    requireClose(expected, value(built), "value of building " + hint.getItem());
+                } else if (hint.getDiceSize() == null) {
+                    final CardGame drawn = game.fork();
+                    drawn.draw();
+                    requireClose(expected, value(drawn), "value of drawing");
+                }
+                final CardGame interrupted = game.fork();
+                Hint resumed = null;
+                while (resumed == null) {
+                    try {
+                        resumed = interrupted.hint(SMALL_BUDGET);
+                    } catch (final LogicException e) {
+                        requireEqual(ErrorMessages.HINT_INTERRUPTED.toString(), e.getMessage(), "interruption");
+                    }
+                }
+                requireClose(expected, resumed.getProbability(), "probability of the interrupted hint");
+            }
+        };
+    }
+
+    /**
+     * Fails the case if the given probabilities differ by more than the {@link #TOLERANCE}.
+     *
+     * @param expected probability of the model
+     * @param actual probability of the program
+     * @param description of the probability
+     */
+    private static void requireClose(double expected, double actual, String description) {
+        if (Math.abs(expected - actual) > TOLERANCE) {
+            throw new AssertionError(description + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    /**
+     * Computes the probability to win the given {@code game} with optimal play by trying every move on a fork
+     * of the game and averaging over every number of the dice.
+     *
+     * @param game to be evaluated, which is not changed
+     * @return the probability to win
+     * @throws LogicException if a move is invalid
+     */
+    private static double value(CardGame game) throws LogicException {
+        if (!game.isActive()) {
+            return game.isWon() ? 1 : 0;
+        }
+        final Optional<Integer> diceSize = game.getRequiredDiceSize();
+        if (diceSize.isPresent()) {
+            double sum = 0;
+            for (int diced = 1; diced <= diceSize.get(); diced++) {
+                final CardGame rolled = game.fork();
+                rolled.setDiced(diceSize.get(), diced);
+                sum += value(rolled);
+            }
+            return sum / diceSize.get();
+        }
+        // A game without any move left stays active, but it cannot be won anymore
+        double best = 0;
+        if (game.getRemainingCards() > 0) {
+            final CardGame drawn = game.fork();
+            drawn.draw();
+            best = value(drawn);
+        }
+        for (final Item item : game.buildableItems()) {
+            final CardGame built = game.fork();
+            built.build(item);
+            best = Math.max(best, value(built));
+        }
+        return best;
+    }
+
+    /**
+     * Check of {@link Snapshot snapshots}. Every case takes a snapshot of a random position and makes random
+     * moves. The position is then restored in the same game, in a game of another card deck, forked, and
+     * decoded from its encoding. Each of them has to look the same and has to lead to the same results and
+     * positions with the same random moves. Every fourth position is reached luckily, so that the snapshots
+     * also hold most of the resources.
+     *
+     * @return the check
+     */
+    private static Check snapshot() {
+        return new Check("engine.snapshot", 2000) {
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                final CardGame game = RandomGames.randomPosition(random,
+                        random.nextInt(DeckGenerator.DECK_SIZE + 1), random.nextInt(4) == 0);
+                final Snapshot snapshot = game.snapshot();
+                final String position = RandomGames.describe(game);
+                final long seed = random.nextLong();
+                final List<String> moves = RandomGames.randomMoves(game, new SplittableRandom(seed));
+                game.restore(snapshot);
+                requireSamePlay(position, moves, seed, game, "restored");
+                final CardGame other = RandomGames.randomPosition(random,
+                        random.nextInt(DeckGenerator.DECK_SIZE + 1), false);
+                other.restore(snapshot);
+                requireSamePlay(position, moves, seed, other, "restored in another game");
+                requireSamePlay(position, moves, seed, snapshot.fork(), "forked");
+                final ByteBuffer encoded = ByteBuffer.allocate(Snapshot.ENCODED_SIZE);
+                snapshot.encode(encoded);
+                require(!encoded.hasRemaining(), "encoded size");
+                encoded.flip();
+                requireSamePlay(position, moves, seed, Snapshot.decode(encoded, snapshot.getCardDeck()).fork(),
+                        "decoded");
+            }
+        };
+    }
+
+    /**
+     * Check of the {@link GameArena} against a map of the handles to the parked positions and a stack of the
+     * released handles. Every case parks a random position or updates a parked one, restores or forks a parked
+     * position, and now and then releases one. Restored and forked positions have to look the same as the parked
+     * ones and have to lead to the same results and positions with the same random moves. All cases share one
+     * arena, so that records are released and reused again and again.
+     *
+     * @return the check
+     */
+    private static Check gameArena() {
+        return new Check("engine.gameArena", 3000) {
+            private final GameArena arena = new GameArena();
+            private final Map<Integer, Parked> parked = new HashMap<>();
+            private final Deque<Integer> released = new ArrayDeque<>();
+            private final List<Integer> handles = new ArrayList<>();
+            private int allocated;
+
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                final CardGame game = RandomGames.randomPosition(random, random.nextInt(DeckGenerator.DECK_SIZE + 1),
+                        random.nextInt(4) == 0);
+                final String position = RandomGames.describe(game);
+                final int handle;
+                if (!handles.isEmpty() && random.nextInt(3) == 0) {
+                    handle = handles.get(random.nextInt(handles.size()));
+                    arena.update(handle, game);
+                } else {
+                    handle = arena.park(game);
+                    requireEqual(released.isEmpty() ? allocated++ : released.pop(), handle, "handle");
+                    handles.add(handle);
+                }
+                final long seed = random.nextLong();
+                // The parked game can be used for other games afterwards
+                final List<String> moves = RandomGames.randomMoves(game, new SplittableRandom(seed));
+                parked.put(handle, new Parked(position, moves, seed));
+                final int restored = handles.get(random.nextInt(handles.size()));
+                final CardGame other = RandomGames.randomPosition(random, random.nextInt(DeckGenerator.DECK_SIZE + 1),
+                        false);
+                arena.restore(restored, other);
+                requireSamePlay(parked.get(restored).position, parked.get(restored).moves, parked.get(restored).seed,
+                        other, "restored");
+                final int forked = handles.get(random.nextInt(handles.size()));
+                requireSamePlay(parked.get(forked).position, parked.get(forked).moves, parked.get(forked).seed,
+                        arena.fork(forked), "forked");
+                if (random.nextInt(3) == 0) {
+                    final int index = random.nextInt(handles.size());
+                    final int release = handles.get(index);
+                    arena.release(release);
+                    handles.set(index, handles.get(handles.size() - 1));
+                    handles.remove(handles.size() - 1);
+                    parked.remove(release);
+                    released.push(release);
+                    require(!arena.isParked(release), "released handle is not parked");
+                    requireRejected(() -> arena.fork(release), "fork of a released handle");
+                }
+                requireEqual(handles.size(), arena.size(), "size");
+            }
+        };
+    }
+
+    /**
+     * Fails the case if the given {@code action} does not throw an {@link IllegalArgumentException}.
+     *
+     * @param action to be rejected
+     * @param description of the action
+     */
+    private static void requireRejected(Runnable action, String description) {
+        try {
+            action.run();
+        } catch (final IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError(description + " is not rejected");
+    }
+
+    /**
+     * Fails the case if the given {@code game} does not show the given {@code position} or the same random moves
+     * lead to other results and positions than in the original game.
+     *
+     * @param position of the original game
+     * @param moves of the original game
+     * @param seed of the random moves
+     * @param game that has to play like the original game
+     * @param description of how the game has been created
+     * @throws LogicException if a move is invalid
+     */
+    private static void requireSamePlay(String position, List<String> moves, long seed, CardGame game,
+                                        String description) throws LogicException {
+        Check.requireEqual(position, RandomGames.describe(game), description + " position");
+        Check.requireEqual(moves, RandomGames.randomMoves(game, new SplittableRandom(seed)), "moves in " + description
+                + " position");
+    }
+
+    /**
+     * A parked position, the random moves made from it and the seed of the moves.
+     */
+    private static final class Parked {
+        private final String position;
+        private final List<String> moves;
+        private final long seed;
+
+        /**
+         * Creates a new parked position.
+         *
+         * @param position description of the position
+         * @param moves made from the position
+         * @param seed of the moves
+         */
+        Parked(String position, List<String> moves, long seed) {
+            this.position = position;
+            this.moves = moves;
+            this.seed = seed;
+        }
+    }
+}
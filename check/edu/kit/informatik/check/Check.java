@@ -0,0 +1,86 @@
+package edu.kit.informatik.check;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+
+import java.util.SplittableRandom;
+
+/**
+ * Base class for all checks. A check runs a number of random cases, each of which compares an optimized part
+ * of the program with a simple model of it or performs a round trip, and stops at the first difference.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public abstract class Check {
+    private final String name;
+    private final int cases;
+
+    /**
+     * Creates a new check.
+     *
+     * @param name of the check
+     * @param cases number of random cases
+     */
+    protected Check(String name, int cases) {
+        this.name = name;
+        this.cases = cases;
+    }
+
+    /**
+     * Gets the name of the check.
+     *
+     * @return the name of the check
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of random cases.
+     *
+     * @return the number of cases
+     */
+    public int getCases() {
+        return cases;
+    }
+
+    /**
+     * Runs one random case.
+     *
+     * @param random that generates the case
+     * @throws InvalidInputException if a parsed input is invalid
+     * @throws LogicException if there is an error in the logic of the game
+     */
+    public abstract void run(SplittableRandom random) throws InvalidInputException, LogicException;
+
+    /**
+     * Fails the case if the given {@code condition} does not hold.
+     *
+     * @param condition that has to hold
+     * @param description of the condition, which is printed if it does not hold
+     */
+    public static void require(boolean condition, String description) {
+        if (!condition) {
+            throw new AssertionError(description);
+        }
+    }
+
+    /**
+     * Fails the case if the {@code actual} value does not equal the {@code expected} one.
+     *
+     * @param expected value of the model
+     * @param actual value of the program
+     * @param description of the value, which is printed with both values if they differ
+     */
+    public static void requireEqual(Object expected, Object actual, String description) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError(description + ": expected " + expected + " but was " + actual);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
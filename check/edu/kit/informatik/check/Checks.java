@@ -0,0 +1,92 @@
+package edu.kit.informatik.check;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.cardgame.EngineChecks;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.journal.JournalChecks;
+import edu.kit.informatik.simulation.SimulationChecks;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/*
+Every check gets its own random number generator with the same seed, so the cases of a check stay the same
+when other checks are added, and a failing case can be found again by running only its check.
+The checks are meant to be run with assertions enabled, which additionally checks the invariants that the
+engine asserts after every move.
+ */
+
+/**
+ * The entry point of the checks. It optionally expects a regular expression as command line argument
+ * and only runs the checks whose name contains a match.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Checks {
+    private static final long SEED = 0x5EEDL;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private Checks() {
+    }
+
+    /**
+     * Runs the selected checks and prints the result of every one of them.
+     *
+     * @param args optionally a regular expression that selects the checks by name
+     */
+    public static void main(String[] args) {
+        if (args.length > 1) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final Pattern filter;
+        try {
+            filter = Pattern.compile(args.length == 1 ? args[0] : "");
+        } catch (final PatternSyntaxException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final List<Check> checks = new ArrayList<>();
+        checks.addAll(EngineChecks.all());
+        checks.addAll(JournalChecks.all());
+        checks.addAll(SimulationChecks.all());
+        int failed = 0;
+        for (final Check check : checks) {
+            if (filter.matcher(check.getName()).find() && !run(check)) {
+                failed++;
+            }
+        }
+        Terminal.printLine(failed == 0 ? InOutput.OK_MESSAGE.toString()
+                : String.format(Locale.ROOT, "%d checks failed", failed));
+    }
+
+    /**
+     * Runs all cases of the given {@code check} until one of them fails.
+     *
+     * @param check to be run
+     * @return <code>true</code> if all cases passed
+     */
+    private static boolean run(Check check) {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < check.getCases(); i++) {
+            try {
+                check.run(random);
+            } catch (final AssertionError | InvalidInputException | LogicException | RuntimeException e) {
+                Terminal.printError(String.format(Locale.ROOT, "%s failed in case %d: %s", check.getName(), i, e));
+                return false;
+            }
+        }
+        Terminal.printLine(String.format(Locale.ROOT, "%-32s %8d cases", check.getName(), check.getCases()));
+        return true;
+    }
+}
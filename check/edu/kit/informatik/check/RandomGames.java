@@ -0,0 +1,123 @@
+package edu.kit.informatik.check;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.simulation.DeckGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Plays random moves in {@link CardGame card games} and describes their positions, so that checks can reach
+ * random positions and compare games with each other.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class RandomGames {
+    /**
+     * Number of random moves of {@link #randomMoves(CardGame, SplittableRandom)}.
+     */
+    private static final int MOVES = 24;
+
+    /**
+     * Utility-class constructor.
+     */
+    private RandomGames() {
+    }
+
+    /**
+     * Plays random moves on a game with a random card deck until at most the given number of cards is left.
+     * Games that end before are started again. A game that is played luckily also reaches positions with most
+     * of the resources in hand.
+     *
+     * @param random that makes the moves
+     * @param remaining maximum number of cards left
+     * @param lucky whether the dice always show their highest number and items are only built without cards left
+     * @return an active game with at most the given number of cards left and a move to make
+     * @throws LogicException if a move is invalid
+     */
+    public static CardGame randomPosition(SplittableRandom random, int remaining, boolean lucky)
+            throws LogicException {
+        while (true) {
+            final PlayingCard[] deck = DeckGenerator.sortedDeck();
+            DeckGenerator.shuffle(deck, random);
+            final CardGame game = new CardGame();
+            game.setCardDeck(deck);
+            while (game.isActive() && game.getRemainingCards() > remaining) {
+                randomMove(game, random, lucky);
+            }
+            if (game.isActive() && (game.getRemainingCards() > 0 || game.getRequiredDiceSize().isPresent()
+                    || !game.buildableItems().isEmpty())) {
+                return game;
+            }
+        }
+    }
+
+    /**
+     * Makes a random move in the given active {@code game}: rolls the dice if the game waits for them,
+     * otherwise builds a random buildable item now and then, or draws a card.
+     *
+     * @param game to move in
+     * @param random that chooses the move
+     * @param lucky whether the dice always show their highest number and items are only built without cards left
+     * @return the move and its result or null if there is no move left
+     * @throws LogicException if the move is invalid
+     */
+    public static String randomMove(CardGame game, SplittableRandom random, boolean lucky) throws LogicException {
+        final Optional<Integer> diceSize = game.getRequiredDiceSize();
+        if (diceSize.isPresent()) {
+            final int diced = lucky ? diceSize.get() : 1 + random.nextInt(diceSize.get());
+            return "rollD" + diceSize.get() + " " + diced + ": " + game.setDiced(diceSize.get(), diced);
+        }
+        final List<Item> buildable = game.buildableItems();
+        if (!buildable.isEmpty() && (game.getRemainingCards() == 0 || !lucky && random.nextInt(4) == 0)) {
+            final Item item = buildable.get(random.nextInt(buildable.size()));
+            return "build " + item + ": " + game.build(item);
+        } else if (game.getRemainingCards() > 0) {
+            return "draw: " + game.draw();
+        }
+        return null;
+    }
+
+    /**
+     * Makes up to {@link #MOVES} random moves in the given {@code game} and describes the position after each.
+     *
+     * @param game to move in
+     * @param random that chooses the moves
+     * @return the moves, their results and the positions after them
+     * @throws LogicException if a move is invalid
+     */
+    public static List<String> randomMoves(CardGame game, SplittableRandom random) throws LogicException {
+        final List<String> moves = new ArrayList<>();
+        for (int i = 0; i < MOVES && game.isActive(); i++) {
+            final String move = randomMove(game, random, false);
+            if (move == null) {
+                break;
+            }
+            moves.add(move);
+            moves.add(describe(game));
+        }
+        return moves;
+    }
+
+    /**
+     * Describes everything of the position of the given {@code game} that can be observed from outside.
+     *
+     * @param game to be described
+     * @return the description of the position
+     * @throws LogicException if the game has not been started
+     */
+    public static String describe(CardGame game) throws LogicException {
+        final boolean scavenging = game.isActive() && !game.getRequiredDiceSize().isPresent();
+        return "active " + game.isActive() + ", won " + game.isWon() + ", lost " + game.isLost()
+                + ", remaining " + game.getRemainingCards() + ", dice " + game.getRequiredDiceSize()
+                + ", resources " + game.listResources() + ", buildings " + game.listBuildings()
+                + ", buildable " + (scavenging ? game.buildableItems() : List.of())
+                + ", key " + Long.toHexString(game.getPositionKey());
+    }
+}
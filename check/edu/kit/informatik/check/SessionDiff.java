@@ -0,0 +1,280 @@
+package edu.kit.informatik.check;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.Main;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/*
+The sessions are played by separate processes, because the command line interface reads from and writes to the
+standard streams of its process, and because the baseline has to be loaded from its own class path. Half of the
+sessions play valid games with many rolls and builds, the other half mix valid commands with malformed ones.
+Every session is generated from the seed before any process starts, so the sessions do not depend on the number
+of cores.
+ */
+
+/**
+ * Compares the command line interface with a baseline build of it. It expects the class path of the baseline as
+ * command line argument, optionally followed by the number of sessions and a seed. Every session is a random
+ * script of commands, which is fed to the {@link Main} of both builds. The first differing line of every session
+ * whose outputs differ is printed, followed by a summary.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class SessionDiff {
+    private static final int DEFAULT_SESSIONS = 400;
+    private static final long DEFAULT_SEED = 0x5EEDL;
+    private static final Item[] ITEMS = Item.values();
+    /**
+     * Dice sizes of malformed sessions, where the sizes of the game are more frequent.
+     */
+    private static final int[] DICE_SIZES = {4, 6, 8, 6, 6, 5, 10};
+    /**
+     * Lines that are no valid command or have no valid arguments.
+     */
+    private static final String[] MALFORMED = {"draw ", "draws", "buildaxe", "build axe ", "build Axe",
+        "rollD6  4", "rollD+6 +4", "rollD6 99999999999", "rollD99999999999 4", "rollD06 0", "rollD0 1", "foo", "",
+        "quitx", "list-resources x", "build? ", "start", "start wood", "reset 1", "rollD6 04", "rollD 6 4",
+        "rollD6 4 ", "build? x"};
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private SessionDiff() {
+    }
+
+    /**
+     * Plays the sessions with both builds and prints the differences and a summary.
+     *
+     * @param args the class path of the baseline, optionally the number of sessions and a seed
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final int sessions;
+        final long seed;
+        try {
+            sessions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SESSIONS;
+            seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (sessions < 0) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<List<String>> scripts = new ArrayList<>(sessions);
+        for (int i = 0; i < sessions; i++) {
+            scripts.add(random.nextBoolean() ? playedSession(random) : malformedSession(random));
+        }
+        final String current = System.getProperty("java.class.path");
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            final List<Future<String>> futures = new ArrayList<>(sessions);
+            for (int i = 0; i < sessions; i++) {
+                final int session = i;
+                futures.add(executor.submit(() -> diff(session, scripts.get(session), args[0], current)));
+            }
+            int differing = 0;
+            for (final Future<String> future : futures) {
+                final String difference = future.get();
+                if (difference != null) {
+                    differing++;
+                    Terminal.printLine(difference);
+                }
+            }
+            Terminal.printLine(String.format(Locale.ROOT, "sessions: %d, differing: %d", sessions, differing));
+        } catch (final ExecutionException e) {
+            Terminal.printError(e.getCause().toString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays the given {@code script} with both builds and describes the first line in which the outputs differ.
+     *
+     * @param session number of the session
+     * @param script commands of the session
+     * @param baseline class path of the baseline
+     * @param current class path of the current build
+     * @return the description of the first differing line or null if the outputs are the same
+     * @throws IOException if a process cannot be run
+     * @throws InterruptedException if the thread is interrupted while it waits for a process
+     */
+    private static String diff(int session, List<String> script, String baseline, String current)
+            throws IOException, InterruptedException {
+        final Path input = Files.createTempFile("session", ".txt");
+        try {
+            Files.write(input, script, StandardCharsets.UTF_8);
+            final List<String> expected = play(baseline, input.toFile());
+            final List<String> actual = play(current, input.toFile());
+            for (int line = 0; line < Math.max(expected.size(), actual.size()); line++) {
+                final String expectedLine = line < expected.size() ? expected.get(line) : "<end>";
+                final String actualLine = line < actual.size() ? actual.get(line) : "<end>";
+                if (!expectedLine.equals(actualLine)) {
+                    return String.format(Locale.ROOT, "session %d, line %d: expected '%s' but was '%s'", session,
+                            line + 1, expectedLine, actualLine);
+                }
+            }
+            return null;
+        } finally {
+            Files.delete(input);
+        }
+    }
+
+    /**
+     * Feeds the given {@code input} to the command line interface on the given class path.
+     *
+     * @param classPath of the build
+     * @param input file of commands
+     * @return the lines of the standard output and the standard error output
+     * @throws IOException if the process cannot be run
+     * @throws InterruptedException if the thread is interrupted while it waits for the process
+     */
+    private static List<String> play(String classPath, File input) throws IOException, InterruptedException {
+        final String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        final Process process = new ProcessBuilder(java, "-cp", classPath, Main.class.getName())
+                .redirectInput(input).redirectErrorStream(true).start();
+        final String output;
+        try (InputStream stream = process.getInputStream()) {
+            output = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        process.waitFor();
+        return Arrays.asList(output.split("\n", -1));
+    }
+
+    /**
+     * Creates a session of valid games, which draw, roll the dice of every animal and try to build items.
+     *
+     * @param random that generates the session
+     * @return the commands of the session
+     */
+    private static List<String> playedSession(SplittableRandom random) {
+        final List<String> script = new ArrayList<>();
+        for (int game = random.nextInt(1, 4); game > 0; game--) {
+            script.add("start " + deckOf(randomDeck(random)));
+            for (int move = random.nextInt(60, 91); move > 0; move--) {
+                script.add("draw");
+                if (random.nextDouble() < 0.3) {
+                    for (final int size : new int[] {4, 6, 8}) {
+                        script.add("rollD" + size + " " + random.nextInt(1, size + 1));
+                    }
+                }
+                if (random.nextDouble() < 0.4) {
+                    script.add("build?");
+                    for (int build = random.nextInt(1, ITEMS.length + 1); build > 0; build--) {
+                        final Item item = ITEMS[random.nextInt(ITEMS.length)];
+                        script.add("build " + item);
+                        if (item.requiresDice()) {
+                            script.add("rollD6 " + random.nextInt(1, 7));
+                        }
+                    }
+                }
+                if (random.nextDouble() < 0.1) {
+                    script.add("list-resources");
+                }
+                if (random.nextDouble() < 0.1) {
+                    script.add("list-buildings");
+                }
+            }
+            if (random.nextBoolean()) {
+                script.add("reset");
+            }
+        }
+        script.add("quit");
+        return script;
+    }
+
+    /**
+     * Creates a session of valid and malformed commands, which also starts games with invalid card decks.
+     *
+     * @param random that generates the session
+     * @return the commands of the session
+     */
+    private static List<String> malformedSession(SplittableRandom random) {
+        final List<String> script = new ArrayList<>();
+        for (int game = random.nextInt(1, 5); game > 0; game--) {
+            final PlayingCard[] deck = randomDeck(random);
+            if (random.nextDouble() < 0.05) {
+                deck[0] = deck[0] == PlayingCard.WOOD ? PlayingCard.METAL : PlayingCard.WOOD;
+            }
+            if (random.nextDouble() < 0.03) {
+                script.add("start " + deckOf(Arrays.copyOf(deck, deck.length - 1)));
+            }
+            script.add("start " + deckOf(deck));
+            for (int command = random.nextInt(50, 301); command > 0; command--) {
+                final double kind = random.nextDouble();
+                if (kind < 0.45) {
+                    script.add("draw");
+                } else if (kind < 0.62) {
+                    script.add("build " + ITEMS[random.nextInt(ITEMS.length)]);
+                } else if (kind < 0.75) {
+                    script.add("rollD" + DICE_SIZES[random.nextInt(DICE_SIZES.length)] + " " + random.nextInt(10));
+                } else if (kind < 0.80) {
+                    script.add("build?");
+                } else if (kind < 0.84) {
+                    script.add("list-resources");
+                } else if (kind < 0.88) {
+                    script.add("list-buildings");
+                } else if (kind < 0.89) {
+                    script.add("reset");
+                } else {
+                    script.add(MALFORMED[random.nextInt(MALFORMED.length)]);
+                }
+            }
+        }
+        script.add("quit");
+        return script;
+    }
+
+    /**
+     * Creates a random valid card deck.
+     *
+     * @param random that shuffles the card deck
+     * @return the new card deck
+     */
+    private static PlayingCard[] randomDeck(SplittableRandom random) {
+        final PlayingCard[] deck = DeckGenerator.sortedDeck();
+        DeckGenerator.shuffle(deck, random);
+        return deck;
+    }
+
+    /**
+     * Converts the given {@code deck} into the argument of the start command.
+     *
+     * @param deck of cards
+     * @return the cards separated by commas
+     */
+    private static String deckOf(PlayingCard[] deck) {
+        return Arrays.stream(deck).map(PlayingCard::toString).collect(Collectors.joining(","));
+    }
+}
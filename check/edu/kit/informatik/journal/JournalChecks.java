@@ -0,0 +1,226 @@
+package edu.kit.informatik.journal;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+import edu.kit.informatik.check.Check;
+import edu.kit.informatik.check.RandomGames;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.simulation.DeckGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Checks of the journal, which has to replay every recorded game exactly like it was played.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class JournalChecks {
+    /**
+     * Number of writers that append to the journal of one case.
+     */
+    private static final int WRITERS = 2;
+    /**
+     * Maximum number of games of one writer.
+     */
+    private static final int MAX_GAMES = 4;
+    /**
+     * Number of random actions of one writer.
+     */
+    private static final int ACTIONS = 2000;
+
+    /**
+     * Utility-class constructor.
+     */
+    private JournalChecks() {
+    }
+
+    /**
+     * Creates all journal checks.
+     *
+     * @return a list of the checks
+     */
+    public static List<Check> all() {
+        return Collections.singletonList(roundTrip());
+    }
+
+    /**
+     * Check of a round trip through the journal. In every case some writers append to the same journal one after
+     * another, each of them with several games and small segments, so that the records of the games are
+     * interleaved and spread across segments. The games draw, build, roll the dice, reset, restore earlier
+     * snapshots and get new card decks at random. Every replayed game has to notify its observer of the same
+     * moves as the original game and has to end in the same position.
+     *
+     * @return the check
+     */
+    private static Check roundTrip() {
+        return new Check("journal.roundTrip", 100) {
+            @Override
+            public void run(SplittableRandom random) throws LogicException {
+                try {
+                    final Path directory = Files.createTempDirectory("journal");
+                    try {
+                        roundTrip(directory, random);
+                    } finally {
+                        delete(directory);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Plays random games that are recorded in a journal in the given {@code directory} and compares them with
+     * their replays.
+     *
+     * @param directory of the journal
+     * @param random that chooses the actions
+     * @throws IOException if the journal cannot be written or read
+     * @throws LogicException if an action is invalid
+     */
+    private static void roundTrip(Path directory, SplittableRandom random) throws IOException, LogicException {
+        final List<CardGame> games = new ArrayList<>();
+        final List<Recorder> recorders = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            final int segmentSize = JournalWriter.MIN_SEGMENT_SIZE * (1 + random.nextInt(2));
+            try (JournalWriter journal = new JournalWriter(directory, segmentSize)) {
+                final int first = games.size();
+                final int count = 1 + random.nextInt(MAX_GAMES);
+                final List<Snapshot> snapshots = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    final CardGame game = new CardGame();
+                    final Recorder recorder = new Recorder();
+                    game.setObserver(recorder);
+                    journal.attach(game);
+                    game.setCardDeck(randomDeck(random));
+                    games.add(game);
+                    recorders.add(recorder);
+                    snapshots.add(game.snapshot());
+                }
+                for (int i = 0; i < ACTIONS; i++) {
+                    final int index = first + random.nextInt(count);
+                    randomAction(games.get(index), snapshots, index - first, random);
+                }
+            }
+        }
+        final List<Recorder> replayed = new ArrayList<>();
+        final List<CardGame> replays = new JournalReader(directory, number -> {
+            final Recorder recorder = new Recorder();
+            replayed.add(recorder);
+            return recorder;
+        }).replay();
+        Check.requireEqual(games.size(), replays.size(), "replayed games");
+        for (int i = 0; i < games.size(); i++) {
+            Check.requireEqual(recorders.get(i).moves, replayed.get(i).moves, "moves of game " + i);
+            Check.requireEqual(RandomGames.describe(games.get(i)), RandomGames.describe(replays.get(i)),
+                    "position of game " + i);
+        }
+    }
+
+    /**
+     * Performs a random action in the given {@code game}: mostly a random move, sometimes a snapshot, restoring
+     * the last snapshot or a reset. A game that is over or has no move left is reset or gets a new card deck.
+     *
+     * @param game to act in
+     * @param snapshots the last snapshot of every game of the writer
+     * @param index of the game in the snapshots
+     * @param random that chooses the action
+     * @throws LogicException if the action is invalid
+     */
+    private static void randomAction(CardGame game, List<Snapshot> snapshots, int index, SplittableRandom random)
+            throws LogicException {
+        final int action = random.nextInt(64);
+        if (action == 0) {
+            game.resetGame();
+        } else if (action < 3) {
+            game.restore(snapshots.get(index));
+        } else if (action < 8) {
+            snapshots.set(index, game.snapshot());
+        } else if (!game.isActive() || RandomGames.randomMove(game, random, false) == null) {
+            if (!game.isActive() && random.nextBoolean()) {
+                game.setCardDeck(randomDeck(random));
+                snapshots.set(index, game.snapshot());
+            } else {
+                game.resetGame();
+            }
+        }
+    }
+
+    /**
+     * Creates a random valid card deck.
+     *
+     * @param random that shuffles the card deck
+     * @return the new card deck
+     */
+    private static PlayingCard[] randomDeck(SplittableRandom random) {
+        final PlayingCard[] deck = DeckGenerator.sortedDeck();
+        DeckGenerator.shuffle(deck, random);
+        return deck;
+    }
+
+    /**
+     * Deletes the given {@code directory} with all files in it.
+     *
+     * @param directory to be deleted
+     * @throws IOException if a file cannot be deleted
+     */
+    private static void delete(Path directory) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (final Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    /**
+     * Records every move a game notifies it of.
+     */
+    private static final class Recorder implements GameObserver {
+        private final List<String> moves = new ArrayList<>();
+
+        @Override
+        public void cardDeckSet(PlayingCard[] cardDeck) {
+            moves.add("deck " + Arrays.toString(cardDeck));
+        }
+
+        @Override
+        public void drawn(PlayingCard card) {
+            moves.add("draw " + card);
+        }
+
+        @Override
+        public void built(Item item) {
+            moves.add("build " + item);
+        }
+
+        @Override
+        public void diced(int size, int diced) {
+            moves.add("rollD" + size + " " + diced);
+        }
+
+        @Override
+        public void reset() {
+            moves.add("reset");
+        }
+
+        @Override
+        public void restored(Snapshot snapshot) {
+            moves.add("restore");
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.check.Check;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Checks of the parts of the simulations that have to be exact, since the results of several processes are
+ * merged.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class SimulationChecks {
+    /**
+     * Largest number of card decks that are ranked one after another in one case.
+     */
+    private static final int MAX_SUCCESSORS = 16;
+    /**
+     * Largest number of games of a case, which are split into the parts of a simulation.
+     */
+    private static final int MAX_GAMES = 512;
+    /**
+     * Largest number of parts of a simulation.
+     */
+    private static final int MAX_PARTS = 8;
+    private static final double[] QUANTILES = {0, 0.01, 0.5, 0.9, 0.99, 1};
+
+    /**
+     * Utility-class constructor.
+     */
+    private SimulationChecks() {
+    }
+
+    /**
+     * Creates all simulation checks.
+     *
+     * @return a list of the checks
+     */
+    public static List<Check> all() {
+        return Arrays.asList(deckRanking(), partialResult());
+    }
+
+    /**
+     * Check of the {@link DeckRanking}. Every case unranks a random rank, which has to give a valid card deck of
+     * the same rank, and compares the ranks of the following card decks, of the card decks of a range and of a
+     * random card deck with the lexicographic order of the card decks. Every tenth rank is close to the first or
+     * the last one. The number of card decks is compared with the number of arrangements of the cards.
+     *
+     * @return the check
+     */
+    private static Check deckRanking() {
+        return new Check("simulation.deckRanking", 2000) {
+            @Override
+            public void run(SplittableRandom random) {
+                final BigInteger count = DeckRanking.count();
+                Check.requireEqual(arrangements(DeckGenerator.sortedDeck()), count, "number of card decks");
+                final BigInteger rank = randomRank(random, count);
+                final PlayingCard[] deck = DeckRanking.unrank(rank);
+                requireValid(deck);
+                Check.requireEqual(rank, DeckRanking.rank(deck), "rank of the unranked card deck");
+                final int successors = random.nextInt(MAX_SUCCESSORS + 1);
+                final BigInteger to = rank.add(BigInteger.valueOf(successors)).min(count);
+                final List<PlayingCard[]> range = new ArrayList<>();
+                DeckRanking.forEach(rank, to, ranked -> range.add(ranked.clone()));
+                Check.requireEqual(to.subtract(rank).intValueExact(), range.size(), "number of card decks in range");
+                final PlayingCard[] next = deck.clone();
+                BigInteger nextRank = rank;
+                for (final PlayingCard[] ranked : range) {
+                    Check.require(Arrays.equals(next, ranked), "card deck of rank " + nextRank + " in range");
+                    final PlayingCard[] previous = next.clone();
+                    final boolean hasNext = DeckRanking.next(next);
+                    nextRank = nextRank.add(BigInteger.ONE);
+                    Check.requireEqual(nextRank.compareTo(count) < 0, hasNext, "card deck after rank " + nextRank);
+                    if (hasNext) {
+                        requireValid(next);
+                        Check.require(Arrays.compare(previous, next) < 0,
+                                "card deck of rank " + nextRank + " is greater");
+                        Check.requireEqual(nextRank, DeckRanking.rank(next), "rank of the next card deck");
+                    } else {
+                        Check.require(Arrays.equals(previous, next), "last card deck is not changed");
+                    }
+                }
+                final PlayingCard[] shuffled = DeckGenerator.sortedDeck();
+                DeckGenerator.shuffle(shuffled, random);
+                final BigInteger shuffledRank = DeckRanking.rank(shuffled);
+                Check.require(Arrays.equals(shuffled, DeckRanking.unrank(shuffledRank)), "unranked shuffled deck");
+                Check.requireEqual(Integer.signum(Arrays.compare(deck, shuffled)), rank.compareTo(shuffledRank),
+                        "order of the ranks of two card decks");
+            }
+        };
+    }
+
+    /**
+     * Check of the {@link PartialResult} against the list of the games it has counted. Every case splits random
+     * games into random parts of a simulation, converts each part into lines and parses it again, and merges the
+     * parsed parts in random order. Each part has to be parsed into the same lines, and the merged result has to
+     * count the games of the list. Corrupted lines of a part have to be rejected.
+     *
+     * @return the check
+     */
+    private static Check partialResult() {
+        return new Check("simulation.partialResult", 2000) {
+            @Override
+            public void run(SplittableRandom random) {
+                final int games = random.nextInt(MAX_GAMES + 1);
+                final boolean[] won = new boolean[games];
+                final int[] moves = new int[games];
+                final PartialResult[] parts = new PartialResult[1 + random.nextInt(MAX_PARTS)];
+                for (int part = 0; part < parts.length; part++) {
+                    parts[part] = new PartialResult();
+                }
+                for (int game = 0; game < games; game++) {
+                    won[game] = random.nextBoolean();
+                    // Now and then a game is longer than the longest length that is counted on its own
+                    moves[game] = random.nextInt(16) == 0 ? random.nextInt(Integer.MAX_VALUE)
+                            : random.nextInt(PartialResult.MAX_LENGTH + 1);
+                    parts[random.nextInt(parts.length)].add(won[game], moves[game]);
+                }
+                final PartialResult merged = new PartialResult();
+                final int first = random.nextInt(parts.length);
+                for (int i = 0; i < parts.length; i++) {
+                    final PartialResult part = parts[(first + i) % parts.length];
+                    final List<String> lines = part.toLines();
+                    final PartialResult parsed = PartialResult.parse(lines);
+                    Check.requireEqual(lines, parsed.toLines(), "lines of the parsed result");
+                    requireRejected(corrupted(part, random));
+                    merged.merge(parsed);
+                }
+                requireCounts(merged, won, moves);
+            }
+        };
+    }
+
+    /**
+     * Fails the case if the given {@code result} does not count the given games.
+     *
+     * @param result of the games
+     * @param won whether each game was won
+     * @param moves number of moves of each game
+     */
+    private static void requireCounts(PartialResult result, boolean[] won, int[] moves) {
+        long wins = 0;
+        long total = 0;
+        final int[] lengths = new int[moves.length];
+        for (int game = 0; game < moves.length; game++) {
+            wins += won[game] ? 1 : 0;
+            lengths[game] = Math.min(moves[game], PartialResult.MAX_LENGTH);
+            total += lengths[game];
+        }
+        Check.requireEqual(wins, result.toSimulationResult().getWins(), "wins");
+        Check.requireEqual(moves.length - wins, result.toSimulationResult().getLosses(), "losses");
+        Check.requireEqual(moves.length == 0 ? 0.0 : (double) total / moves.length, result.getMeanLength(),
+                "mean length");
+        Arrays.sort(lengths);
+        for (final double quantile : QUANTILES) {
+            final int rank = (int) Math.ceil(quantile * moves.length);
+            Check.requireEqual(moves.length == 0 ? 0 : lengths[Math.max(rank, 1) - 1],
+                    result.getLengthPercentile(quantile), "length at quantile " + quantile);
+        }
+    }
+
+    /**
+     * Corrupts the lines of the given {@code result} at random, so that they are no valid result anymore.
+     *
+     * @param result to be converted into lines
+     * @param random that chooses the corruption
+     * @return the corrupted lines
+     */
+    private static List<String> corrupted(PartialResult result, SplittableRandom random) {
+        final List<String> corrupted = result.toLines();
+        switch (random.nextInt(7)) {
+            case 0:
+                corrupted.remove(random.nextInt(corrupted.size()));
+                break;
+            case 1:
+                corrupted.set(0, corrupted.get(0).replace("wins ", "wins 1"));
+                break;
+            case 2:
+                // The games of all lengths are still the games won and lost
+                corrupted.set(0, "wins " + (result.toSimulationResult().getGames() + 1));
+                corrupted.set(1, "losses -1");
+                break;
+            case 3:
+                corrupted.set(2, corrupted.get(2) + " " + (PartialResult.MAX_LENGTH + 1) + ":0");
+                break;
+            case 4:
+                corrupted.set(2, corrupted.get(2) + " 0:1");
+                break;
+            case 5:
+                corrupted.set(2, corrupted.get(2) + " 0:-1 0:1");
+                break;
+            default:
+                corrupted.set(random.nextInt(corrupted.size()), "games 0");
+                break;
+        }
+        return corrupted;
+    }
+
+    /**
+     * Fails the case if the given {@code lines} are parsed as a result.
+     *
+     * @param lines of an invalid result
+     */
+    private static void requireRejected(List<String> lines) {
+        try {
+            PartialResult.parse(lines);
+        } catch (final IllegalArgumentException e) {
+            return;
+        }
+        throw new AssertionError("invalid result is parsed: " + lines);
+    }
+
+    /**
+     * Chooses a random rank from 0 inclusive to the given {@code count} exclusive. Every tenth rank is one of
+     * the first or last ranks.
+     *
+     * @param random that chooses the rank
+     * @param count of the ranks
+     * @return the rank
+     */
+    private static BigInteger randomRank(SplittableRandom random, BigInteger count) {
+        final int edge = random.nextInt(20);
+        if (edge == 0) {
+            return BigInteger.valueOf(random.nextInt(MAX_SUCCESSORS));
+        } else if (edge == 1) {
+            return count.subtract(BigInteger.valueOf(1 + random.nextInt(MAX_SUCCESSORS)));
+        }
+        BigInteger rank;
+        do {
+            final byte[] bytes = new byte[count.bitLength() / Byte.SIZE + 1];
+            random.nextBytes(bytes);
+            rank = new BigInteger(1, bytes).shiftRight(bytes.length * Byte.SIZE - count.bitLength());
+        } while (rank.compareTo(count) >= 0);
+        return rank;
+    }
+
+    /**
+     * Fails the case if the given {@code deck} does not consist of the cards of a valid card deck.
+     *
+     * @param deck to be checked
+     */
+    private static void requireValid(PlayingCard[] deck) {
+        final PlayingCard[] sorted = deck.clone();
+        Arrays.sort(sorted);
+        Check.require(Arrays.equals(DeckGenerator.sortedDeck(), sorted), "valid card deck " + Arrays.toString(deck));
+    }
+
+    /**
+     * Computes the number of different arrangements of the given cards, which is the factorial of the number of
+     * cards divided by the factorials of the numbers of every card.
+     *
+     * @param cards to be arranged
+     * @return the number of arrangements
+     */
+    private static BigInteger arrangements(PlayingCard[] cards) {
+        BigInteger arrangements = factorial(cards.length);
+        for (final PlayingCard card : PlayingCard.values()) {
+            arrangements = arrangements.divide(factorial((int) Arrays.stream(cards).filter(card::equals).count()));
+        }
+        return arrangements;
+    }
+
+    /**
+     * Computes the factorial of the given number.
+     *
+     * @param n number
+     * @return the factorial of the number
+     */
+    private static BigInteger factorial(int n) {
+        BigInteger factorial = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            factorial = factorial.multiply(BigInteger.valueOf(i));
+        }
+        return factorial;
+    }
+}
@@ -0,0 +1,65 @@
+package edu.kit.informatik.cardgame;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of an item that has been built.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.Build")
+@Label("Build")
+@Category(DrawEvent.CATEGORY)
+@Description("An item has been built from resources")
+@Enabled(false)
+@StackTrace(false)
+final class BuildEvent extends Event {
+    @Label("Item")
+    private String item;
+    @Label("Consumed Resources")
+    @Description("The resources the item was built from, separated by commas")
+    private String consumed;
+    @Label("Resources Left")
+    private int resourcesLeft;
+    @Label("State Before")
+    private String from;
+    @Label("State After")
+    private String to;
+    @Label("Result")
+    private String result;
+
+    /**
+     * Commits the event if it is enabled.
+     *
+     * @param built item
+     * @param resources of the player after the item was built
+     * @param before state of the game before the item was built
+     * @param after state of the game after the item was built
+     * @param outcome result of the build command
+     */
+    void commit(Item built, ResourceStore resources, State before, State after, String outcome) {
+        if (shouldCommit()) {
+            item = built.toString();
+            final StringBuilder cards = new StringBuilder();
+            for (final PlayingCard card : built.getRequiredCards()) {
+                if (cards.length() > 0) {
+                    cards.append(',');
+                }
+                cards.append(card);
+            }
+            consumed = cards.toString();
+            resourcesLeft = resources.size();
+            from = String.valueOf(before);
+            to = String.valueOf(after);
+            result = outcome;
+            commit();
+        }
+    }
+}
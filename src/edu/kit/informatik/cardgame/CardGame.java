@@ -3,15 +3,11 @@ package edu.kit.informatik.cardgame;
 import edu.kit.informatik.exception.LogicException;
 import edu.kit.informatik.userinterface.InOutput;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
-import java.util.Deque;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 /**
  * Represents a card game. The methods of this class are used to control the game.
@@ -22,50 +18,89 @@ import java.util.stream.Stream;
  * @version 1.0
  */
 public class CardGame {
+    /**
+     * Budget of a {@link #hint(long) hint} that searches until it is done.
+     */
+    public static final long UNLIMITED_HINT_BUDGET = Long.MAX_VALUE;
     /**
      * Minimum dice value of the dice.
      */
     private static final int MIN_DICE_VALUE = 1;
-    /* I will comment on the fact that I chose Deque over Stack.
-    Deque exposes a set of operations which is all about being able to fetch/add/remove items from the start
-    or end of a collection, iterate etc. There is deliberately no way to access an element by position,
-    which Stack exposes because it's a subclass of Vector.
-    In addition, Stack has no interface, so you end up committing to a specific concrete class,
-    which isn't usually a good idea. Last but not least, Deque is likely to be faster than Stack
-    when used as a stack, and faster than LinkedList when used as a queue.*/
     /**
-     * Initial card deck of the game.
+     * Number of resources that are stored safely in a {@link Item#SHACK shack}.
+     */
+    static final int SHACK_CAPACITY = 5;
+    private static final Item[] ITEMS = Item.values();
+    /* The card deck never changes while it is played, only the position of its top card does.
+    So the card deck is stored once as an array and drawing a card just moves a cursor forward.
+    Resetting the game moves the cursor back to the beginning instead of copying the whole card deck,
+    and the number of cards left is simply the distance between the cursor and the end of the array.*/
+    /**
+     * Card deck of the game, starting with the top card. It is never altered.
      */
-    private Deque<PlayingCard> originalCardDeck;
+    private PlayingCard[] cardDeck;
     /**
-     * Current card deck that can be altered
+     * Index of the top card of the current card deck.
      */
-    private Deque<PlayingCard> currentCardDeck;
+    private int cursor;
     /**
      * Top card of the current card deck.
      */
     private PlayingCard card;
     /**
-     * Deck of the player.
+     * Resources of the player.
      */
-    private final Deque<PlayingCard> resources;
+    private final ResourceStore resources;
     /**
      * Stores the player's items in his inventory.
      */
     private final List<Item> playerInventory;
+    /**
+     * Bitmask of the items in the player's inventory.
+     */
+    private int inventory;
+    /* Whether an item can be built is needed after every move, to check whether the game is lost, and the bonus
+    is needed in every encounter. Both only change when the resources or the inventory do, so they are
+    updated right there instead of being computed again on every move.*/
+    /**
+     * Bitmask of all items that the player can build with his resources, 0 if there is none.
+     */
+    private int buildable;
+    /**
+     * Combat bonus of the items in the player's inventory.
+     */
+    private int bonus;
     /**
      * Current state or rather stage of the game.
      */
     private State currentState;
+    /**
+     * {@link Zobrist} key of the current position, which is updated by every change of the position.
+     */
+    private long key;
+    /**
+     * Part of the {@link CardGame#key} that stems from the resources.
+     */
+    private long resourceKey;
+    /**
+     * Is notified about every change of the game or null.
+     */
+    private GameObserver observer;
+    /**
+     * Solver of the hints of the {@link CardGame#cardDeck}, which keeps the positions it evaluated, or null.
+     */
+    private Solver solver;
 
     /**
      * Creates a new card game that initialises the collections and sets the current state to null.
      */
     public CardGame() {
-        this.originalCardDeck = new ArrayDeque<>();
-        this.resources = new ArrayDeque<>();
+        this.cardDeck = new PlayingCard[0];
+        this.resources = new ResourceStore();
         this.playerInventory = new ArrayList<>();
         this.currentState = null;
+        this.key = Zobrist.cursor(cursor);
+        inventoryChanged();
     }
 
     /**
@@ -73,7 +108,7 @@ public class CardGame {
      *
      * @return <code>true</code> if the game is active
      */
-    private boolean isActive() {
+    public boolean isActive() {
         return currentState != null && currentState != State.WIN && currentState != State.LOST;
     }
 
@@ -84,7 +119,7 @@ public class CardGame {
      */
     private void checkActiveGame() throws LogicException {
         if (!isActive()) {
-            throw new LogicException(ErrorMessages.NO_ACTIVE_GAME.toString());
+            throw ErrorMessages.NO_ACTIVE_GAME.exception();
         }
     }
 
@@ -95,26 +130,49 @@ public class CardGame {
      */
     private void checkGameStarted() throws LogicException {
         if (currentState == null) {
-            throw new LogicException(ErrorMessages.GAME_NOT_STARTED.toString());
+            throw ErrorMessages.GAME_NOT_STARTED.exception();
         }
     }
 
     /**
-     * Sets the card deck to the given {@code cardDeck} and copies it to {@link CardGame#currentCardDeck}
+     * Sets the card deck to a copy of the given {@code cardDeck}, which starts with the top card.
      *
      * @param cardDeck to be set
      * @throws LogicException if there is already an active game
      */
-    public void setCardDeck(Deque<PlayingCard> cardDeck) throws LogicException {
+    public void setCardDeck(PlayingCard[] cardDeck) throws LogicException {
         if (isActive()) {
-            throw new LogicException(ErrorMessages.ACTIVE_GAME.toString());
+            throw ErrorMessages.ACTIVE_GAME.exception();
         }
-        this.originalCardDeck = cardDeck;
+        this.cardDeck = cardDeck.clone();
+        // The positions of the last card deck are of no use any more
+        solver = null;
         reset();
+        if (observer != null) {
+            observer.cardDeckSet(this.cardDeck);
+        }
+    }
+
+    /**
+     * Sets the observer that is notified about every change of the game and replaces all previous observers.
+     *
+     * @param observer to be notified or null to notify none
+     */
+    public void setObserver(GameObserver observer) {
+        this.observer = observer;
     }
 
     /**
-     * Draws the top card of the {@link CardGame#currentCardDeck}.
+     * Adds an observer that is notified about every change of the game after the previous observers.
+     *
+     * @param added observer to be notified as well
+     */
+    public void addObserver(GameObserver added) {
+        observer = observer == null ? added : new ObserverPair(observer, added);
+    }
+
+    /**
+     * Draws the top card of the current card deck.
      *
      * @return the drawn card
      * @throws LogicException if it is not possible to draw a card from the card deck at the moment
@@ -123,29 +181,76 @@ public class CardGame {
         checkActiveGame();
         checkScavengeState();
         checkCardDeck();
-        final PlayingCard drawnCard = currentCardDeck.getFirst();
-        currentCardDeck.removeFirst();
+        return drawTop();
+    }
+
+    /**
+     * Draws cards until the player has a decision to make, but at most {@code limit} cards. This is the case
+     * once an item becomes buildable that was not buildable before, an animal has to be fought, a thunderstorm
+     * has destroyed the resources, the game is over or there are no cards left.
+     *
+     * @param limit maximum number of cards to be drawn, at least 1
+     * @return the drawn cards, starting with the first one
+     * @throws LogicException if it is not possible to draw a card from the card deck at the moment
+     */
+    public List<PlayingCard> drawUntilDecision(int limit) throws LogicException {
+        assert (limit > 0);
+        checkActiveGame();
+        checkScavengeState();
+        checkCardDeck();
+        final int first = cursor;
+        final int last = cursor + Math.min(limit, cardDeck.length - cursor);
+        final int known = buildableMask();
+        int drawn = 0;
+        do {
+            drawTop();
+            drawn++;
+        } while (first + drawn < last && currentState == State.SCAVENGE
+                && card.getCategory() != CardCategory.CATASTROPHE && (buildableMask() & ~known) == 0);
+        // The card deck is never altered, so the drawn cards can be a view of it
+        return Collections.unmodifiableList(Arrays.asList(cardDeck).subList(first, first + drawn));
+    }
+
+    /**
+     * Draws the top card of the current card deck, once it is certain that this is possible.
+     *
+     * @return the drawn card
+     * @throws LogicException if no valid next state can be reached
+     */
+    private PlayingCard drawTop() throws LogicException {
+        final DrawEvent event = new DrawEvent();
+        event.begin();
+        final PlayingCard drawnCard = cardDeck[cursor];
+        moveCursor(cursor + 1);
         if (drawnCard.getCategory() == CardCategory.RESOURCES) {
             resources.addLast(drawnCard);
+            resourcesChanged();
         } else if (drawnCard.getCategory() == CardCategory.CATASTROPHE) {
             // Player loses his fireplace
             playerInventory.remove(Item.FIREPLACE);
             removeResources();
+            changeInventory(inventory & ~Item.FIREPLACE.getMask());
         }
-        currentState = currentState.next(drawnCard);
+        final State before = currentState;
+        changeState(checkNextState(currentState.next(drawnCard)));
         checkIsLost();
         card = drawnCard;
+        assert (isKeyConsistent());
+        if (observer != null) {
+            observer.drawn(drawnCard);
+        }
+        event.commit(drawnCard, before, currentState);
         return drawnCard;
     }
 
     /**
-     * Checks whether the {@link #currentCardDeck} has at least one card left.
+     * Checks whether the current card deck has at least one card left.
      *
      * @throws LogicException if the card deck is empty
      */
     private void checkCardDeck() throws LogicException {
-        if (currentCardDeck.isEmpty()) {
-            throw new LogicException(ErrorMessages.NO_MORE_CARDS.toString());
+        if (cursor == cardDeck.length) {
+            throw ErrorMessages.NO_MORE_CARDS.exception();
         }
     }
 
@@ -153,24 +258,23 @@ public class CardGame {
      * Removes all resources from the player's inventory except those stored in the {@link Item#SHACK}.
      */
     private void removeResources() {
-        if (playerInventory.contains(Item.SHACK)) {
-            while (resources.size() > 5) {
-                resources.removeFirst();
-            }
+        if (owns(Item.SHACK)) {
+            resources.retainLast(SHACK_CAPACITY);
         } else {
             resources.clear();
         }
+        resourcesChanged();
     }
 
     /**
      * Returns all already drawn resources.
      *
-     * @return all resources of the player
+     * @return all resources of the player, from the oldest to the newest one
      * @throws LogicException if there is no active game
      */
-    public Deque<PlayingCard> listResources() throws LogicException {
+    public List<PlayingCard> listResources() throws LogicException {
         checkGameStarted();
-        return resources;
+        return Collections.unmodifiableList(resources.toList());
     }
 
     /**
@@ -192,26 +296,34 @@ public class CardGame {
      * @throws LogicException if there is a problem with building the given item
      */
     public String build(Item item) throws LogicException {
+        final BuildEvent event = new BuildEvent();
+        event.begin();
         checkActiveGame();
         checkScavengeState();
         checkItemExistence(item);
         if (canBuild(item)) {
             playerInventory.add(item);
-            Arrays.stream(item.getRequiredCards()).forEach(resources::removeLastOccurrence);
-            currentState = currentState.next(item);
+            for (final PlayingCard required : item.getRequiredCards()) {
+                resources.removeLastOccurrence(required);
+            }
+            changeInventory(inventory | item.getMask());
+            final State before = currentState;
+            changeState(checkNextState(currentState.next(item)));
+            String result = InOutput.OK_MESSAGE.toString();
             if (item.getCategory() != ItemCategory.RESCUES) {
                 checkIsLost();
-            } else {
-                if (!item.requiresDice()) {
-                    gameOver();
-                    return InOutput.WIN_MESSAGE.toString();
-                } else {
-                    return InOutput.OK_MESSAGE.toString();
-                }
+            } else if (!item.requiresDice()) {
+                gameOver();
+                result = InOutput.WIN_MESSAGE.toString();
+            }
+            assert (isKeyConsistent());
+            if (observer != null) {
+                observer.built(item);
             }
-            return InOutput.OK_MESSAGE.toString();
+            event.commit(item, resources, before, currentState, result);
+            return result;
         }
-        throw new LogicException(ErrorMessages.NOT_ENOUGH_RESOURCES.toString());
+        throw ErrorMessages.NOT_ENOUGH_RESOURCES.exception();
     }
 
     /**
@@ -221,11 +333,21 @@ public class CardGame {
      * @throws LogicException if the item already exists
      */
     private void checkItemExistence(Item item) throws LogicException {
-        if (playerInventory.contains(item)) {
-            throw new LogicException(ErrorMessages.ITEM_EXISTS.toString());
+        if (owns(item)) {
+            throw ErrorMessages.ITEM_EXISTS.exception();
         }
     }
 
+    /**
+     * Returns <code>true</code> if the player owns the given {@code item}.
+     *
+     * @param item to be checked
+     * @return <code>true</code> if the item is in the player's inventory
+     */
+    private boolean owns(Item item) {
+        return (inventory & item.getMask()) != 0;
+    }
+
     /**
      * Returns <code>true</code> if the item is buildable.
      *
@@ -233,39 +355,91 @@ public class CardGame {
      * @return <code>true</code> if the item is buildable
      */
     private boolean canBuild(Item item) {
-        if (!isBuildable(item)) {
-            return false;
-        }
-        final List<PlayingCard> required = new ArrayList<>(Arrays.asList(item.getRequiredCards()));
-        resources.forEach(required::remove);
-        return required.isEmpty();
+        return (buildableMask() & item.getMask()) != 0;
     }
 
     /**
-     * Returns <code>true</code> if the item is buildable
-     * For an item to be buildable, the player must not already own it.
-     * Certain items also need a fireplace to be buildable.
+     * Gets the bitmask of all items that the player can build with his resources.
      *
-     * @param item to be built
-     * @return <code>true</code> the item is buildable
+     * @return the bitmask of all buildable items
+     */
+    private int buildableMask() {
+        return buildable;
+    }
+
+    /**
+     * Updates the {@link CardGame#buildable buildable items} after the resources of the player have changed.
+     */
+    private void resourcesChanged() {
+        buildable = RecipeTable.buildable(resources, inventory);
+        final long changedKey = Zobrist.resources(resources);
+        key ^= resourceKey ^ changedKey;
+        resourceKey = changedKey;
+    }
+
+    /**
+     * Replaces the inventory of the player by the given bitmask and updates everything that depends on it.
+     *
+     * @param changed bitmask of the items the player owns from now on
+     */
+    private void changeInventory(int changed) {
+        key ^= Zobrist.items(inventory ^ changed);
+        inventory = changed;
+        inventoryChanged();
+    }
+
+    /**
+     * Updates the {@link CardGame#bonus combat bonus} and the {@link CardGame#buildable buildable items} after
+     * the inventory of the player has changed.
+     */
+    private void inventoryChanged() {
+        bonus = bonusOf(inventory);
+        resourcesChanged();
+    }
+
+    /**
+     * Moves the {@link CardGame#cursor} to the given index and updates the {@link CardGame#key}.
+     *
+     * @param index of the new top card
+     */
+    private void moveCursor(int index) {
+        key ^= Zobrist.cursor(cursor) ^ Zobrist.cursor(index);
+        cursor = index;
+    }
+
+    /**
+     * Gets a 64-bit key of the current position, which consists of the position in the card deck, the state,
+     * the items and the resources in their order. Equal positions of the same card deck have equal keys, while
+     * different positions have different keys with a probability of almost one, so the key can identify
+     * positions in caches and transposition tables. The key is updated with every move, so getting it takes
+     * constant time.
+     *
+     * @return the key of the current position
+     */
+    public long getPositionKey() {
+        assert (isKeyConsistent());
+        return key;
+    }
+
+    /**
+     * Returns <code>true</code> if the {@link CardGame#key} equals the key computed from scratch.
+     * This is only checked if assertions are enabled.
+     *
+     * @return <code>true</code> if the key is consistent with the position
      */
-    private boolean isBuildable(Item item) {
-        return !playerInventory.contains(item)
-                && (playerInventory.contains(Item.FIREPLACE) || !item.isFireplaceRequired());
+    private boolean isKeyConsistent() {
+        return key == Zobrist.of(cursor, currentState, resources.toList(), inventory);
     }
 
     /**
-     * Returns a list of all buildable items.
+     * Returns an alphabetically sorted list of all buildable items.
      *
-     * @return a list of all buildable items
+     * @return an unmodifiable list of all buildable items
      * @throws LogicException if the stage of the game is incorrect
      */
     public List<Item> buildableItems() throws LogicException {
         checkScavengeState();
-        return Stream.of(Item.values())
-                .filter(this::canBuild)
-                .sorted(Comparator.comparing(Object::toString))
-                .collect(Collectors.toList());
+        return RecipeTable.alphabetical(buildableMask());
     }
 
     /**
@@ -275,7 +449,7 @@ public class CardGame {
      */
     private void checkScavengeState() throws LogicException {
         if (currentState != State.SCAVENGE) {
-            throw new LogicException(ErrorMessages.SCAVENGE_STATE_REQUIRED.toString());
+            throw ErrorMessages.SCAVENGE_STATE_REQUIRED.exception();
         }
     }
 
@@ -289,31 +463,87 @@ public class CardGame {
      *  if the current state of the game is incorrect
      */
     public String setDiced(int size, int diced) throws LogicException {
+        final DiceEvent event = new DiceEvent();
+        event.begin();
         checkActiveGame();
         checkDiceNumber(size, diced);
+        final State before = currentState;
+        final String result;
+        int addedBonus = 0;
         if (currentState == State.ENCOUNTER) {
             checkCardDiceSize(size);
-            final int dicedBonus = diced + playerInventory.stream().mapToInt(Item::getBonus).max().orElse(0);
-            currentState = currentState.next(size, dicedBonus);
-            if (dicedBonus > card.getMinRoll().get()) {
-                return InOutput.SURVIVED_MESSAGE.toString();
+            addedBonus = bonus;
+            final int dicedBonus = diced + bonus;
+            changeState(checkNextState(currentState.next(size, dicedBonus)));
+            if (survives(card, dicedBonus)) {
+                result = InOutput.SURVIVED_MESSAGE.toString();
+            } else {
+                removeResources();
+                checkIsLost();
+                result = InOutput.LOSE_MESSAGE.toString();
             }
-            removeResources();
-            checkIsLost();
-            return InOutput.LOSE_MESSAGE.toString();
         } else if (currentState == State.ENDEAVOR) {
             checkItemDiceSize(size);
-            currentState = currentState.next(size, diced);
+            changeState(checkNextState(currentState.next(size, diced)));
             checkIsLost();
             if (currentState == State.WIN) {
                 gameOver();
-                return InOutput.WIN_MESSAGE.toString();
+                result = InOutput.WIN_MESSAGE.toString();
             } else {
-                return InOutput.LOSE_MESSAGE.toString();
+                result = InOutput.LOSE_MESSAGE.toString();
             }
         } else {
-            throw new LogicException(ErrorMessages.WRONG_STAGE.toString());
+            throw ErrorMessages.WRONG_STAGE.exception();
         }
+        assert (isKeyConsistent());
+        if (observer != null) {
+            observer.diced(size, diced);
+        }
+        event.commit(size, diced, addedBonus, before, currentState, result);
+        return result;
+    }
+
+    /**
+     * Rolls the {@link #getRequiredDiceSize() required dice} with the given {@code dice} of the engine.
+     *
+     * @param dice that roll the number
+     * @return result of the game, like {@link #setDiced(int, int)}
+     * @throws LogicException if there is no active game or no dice has to be rolled at the moment
+     */
+    public String roll(Dice dice) throws LogicException {
+        checkActiveGame();
+        final Optional<Integer> size = getRequiredDiceSize();
+        if (!size.isPresent()) {
+            throw ErrorMessages.WRONG_STAGE.exception();
+        }
+        return setDiced(size.get(), dice.roll(size.get()));
+    }
+
+    /**
+     * Gets the combat bonus of the given {@code inventory}, which is the highest bonus of all owned items.
+     *
+     * @param inventory bitmask of the items the player owns
+     * @return the combat bonus
+     */
+    static int bonusOf(int inventory) {
+        int bonus = 0;
+        for (final Item item : ITEMS) {
+            if ((inventory & item.getMask()) != 0) {
+                bonus = Math.max(bonus, item.getBonus());
+            }
+        }
+        return bonus;
+    }
+
+    /**
+     * Returns <code>true</code> if the player survives the fight against the animal of the given {@code card}.
+     *
+     * @param card of the category animals
+     * @param dicedBonus diced number plus the combat bonus
+     * @return <code>true</code> if the player survives
+     */
+    static boolean survives(PlayingCard card, int dicedBonus) {
+        return dicedBonus > card.getMinRoll().get();
     }
 
     /**
@@ -325,7 +555,7 @@ public class CardGame {
     private void checkItemDiceSize(int size) throws LogicException {
         if (!playerInventory.isEmpty()
                 && size != playerInventory.get(playerInventory.size() - 1).getDiceSize().orElse(size)) {
-            throw new LogicException(ErrorMessages.WRONG_DICE.toString());
+            throw ErrorMessages.WRONG_DICE.exception();
         }
     }
 
@@ -337,7 +567,7 @@ public class CardGame {
      */
     private void checkCardDiceSize(int size) throws LogicException {
         if (size != card.getDiceSize().orElse(size) ) {
-            throw new LogicException(ErrorMessages.WRONG_DICE.toString());
+            throw ErrorMessages.WRONG_DICE.exception();
         }
     }
 
@@ -350,13 +580,13 @@ public class CardGame {
      */
     private void checkDiceNumber(int size, int diced) throws LogicException {
         if (diced > size || diced < MIN_DICE_VALUE) {
-            throw new LogicException(ErrorMessages.INVALID_DICE_NUMBER.toString());
+            throw ErrorMessages.INVALID_DICE_NUMBER.exception();
         }
     }
 
     /**
      * Returns <code>true</code> if the game is lost. This is the case if the {@link CardGame#currentState} is
-     * {@link State#LOST lost} and the {@link CardGame#currentCardDeck} is empty.
+     * {@link State#LOST lost} and the current card deck is empty.
      *
      * @return <code>true</code> if the game is lost
      */
@@ -364,6 +594,69 @@ public class CardGame {
         return currentState == State.LOST;
     }
 
+    /**
+     * Computes the best action in the current position and the probability to win the game with optimal play.
+     * Since the card deck is known, the only randomness left are the dice.
+     *
+     * @return the best action and the probability to win
+     * @throws LogicException if there is no active game or no action left
+     */
+    public Hint hint() throws LogicException {
+        return hint(UNLIMITED_HINT_BUDGET);
+    }
+
+    /**
+     * Does the same as {@link #hint()}, but evaluates at most {@code budget} positions that have not been
+     * evaluated for this card deck before. The evaluated positions are kept, so a hint that used up its
+     * budget can be asked for again and continues the search.
+     *
+     * @param budget maximum number of newly evaluated positions or {@link #UNLIMITED_HINT_BUDGET}
+     * @return the best action and the probability to win
+     * @throws LogicException if there is no active game, no action left or the budget is used up
+     */
+    public Hint hint(long budget) throws LogicException {
+        checkActiveGame();
+        if (solver == null || !solver.solves(cardDeck)) {
+            solver = new Solver(cardDeck);
+        }
+        return solver.solve(cursor, currentState, resources.toList().toArray(new PlayingCard[0]), inventory,
+                budget);
+    }
+
+    /**
+     * Returns <code>true</code> if the game is won.
+     *
+     * @return <code>true</code> if the game is won
+     */
+    public boolean isWon() {
+        return currentState == State.WIN;
+    }
+
+    /**
+     * Gets the number of cards that are left in the current card deck.
+     *
+     * @return the number of cards left
+     */
+    public int getRemainingCards() {
+        return cardDeck.length - cursor;
+    }
+
+    /**
+     * Gets the size of the dice the player has to roll next. This is the dice of the last drawn card
+     * during an {@link State#ENCOUNTER encounter} and the dice of the last built item during an
+     * {@link State#ENDEAVOR endeavor}.
+     *
+     * @return the required dice size wrapped in an {@link Optional}, empty if no dice has to be rolled
+     */
+    public Optional<Integer> getRequiredDiceSize() {
+        if (currentState == State.ENCOUNTER) {
+            return card.getDiceSize();
+        } else if (currentState == State.ENDEAVOR) {
+            return playerInventory.get(playerInventory.size() - 1).getDiceSize();
+        }
+        return Optional.empty();
+    }
+
     /**
      * Checks whether the game is lost, and if so, sets the {@link CardGame#currentState} to {@link State#LOST lost}.
      * The game is lost if the player cannot draw cards anymore, cannot roll the dice and cannot build any more items.
@@ -371,24 +664,61 @@ public class CardGame {
     private void checkIsLost() {
         if (currentState != State.LOST
                 // Cannot draw cards anymore
-                && currentCardDeck != null && currentCardDeck.isEmpty()
+                && cursor == cardDeck.length
                 // Cannot roll the dice
                 && currentState != State.ENCOUNTER && currentState != State.ENDEAVOR
                 // Cannot build the item
-                && Stream.of(Item.values()).noneMatch(this::canBuild)) {
+                && buildableMask() == 0) {
             gameOver();
-            currentState = State.LOST;
+            changeState(State.LOST);
         }
     }
 
     /**
-     * This method sets the {@link CardGame#currentCardDeck} to null for the sake of beauty.
-     * Otherwise there would be a half used stack in the object.
-     * If the user were to access it somehow, a bug would occur.
-     * In this way the user learns about it directly, because a NPE is thrown.
+     * Moves the cursor to the end of the card deck once the game is over, so that no cards are left.
      */
     private void gameOver() {
-        this.currentCardDeck = null;
+        moveCursor(cardDeck.length);
+    }
+
+    /**
+     * Takes an immutable snapshot of the current position of the game.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(cardDeck, cursor, card, currentState, resources, playerInventory);
+    }
+
+    /**
+     * Restores the position of the given {@code snapshot}. The snapshot can be restored again afterwards.
+     *
+     * @param snapshot to be restored
+     */
+    public void restore(Snapshot snapshot) {
+        final boolean otherCardDeck = !Arrays.equals(snapshot.getCardDeck(), cardDeck);
+        this.cardDeck = snapshot.getCardDeck();
+        moveCursor(snapshot.getCursor());
+        this.card = snapshot.getCard();
+        changeState(snapshot.getState());
+        snapshot.restoreResources(resources);
+        changeInventory(snapshot.restoreItems(playerInventory));
+        assert (isKeyConsistent());
+        if (observer != null) {
+            if (otherCardDeck) {
+                observer.cardDeckSet(cardDeck);
+            }
+            observer.restored(snapshot);
+        }
+    }
+
+    /**
+     * Creates an independent copy of the game in its current position. The copy has no observer.
+     *
+     * @return the new game
+     */
+    public CardGame fork() {
+        return snapshot().fork();
     }
 
     /**
@@ -399,17 +729,49 @@ public class CardGame {
     public void resetGame() throws LogicException {
         checkGameStarted();
         reset();
+        if (observer != null) {
+            observer.reset();
+        }
     }
 
     /**
-     * Resets the game by resetting the {@link CardGame#currentCardDeck} to
-     * its {@link CardGame#originalCardDeck}, clearing the {@link CardGame#resources}, {@link CardGame#playerInventory}
+     * Resets the game by moving the {@link CardGame#cursor} back to the top of the {@link CardGame#cardDeck},
+     * clearing the {@link CardGame#resources}, {@link CardGame#playerInventory}
      * and setting the {@link CardGame#currentState} to {@link State#SCAVENGE}.
      */
     private void reset() {
-        this.currentCardDeck = new ArrayDeque<>(originalCardDeck);
+        moveCursor(0);
         this.resources.clear();
         this.playerInventory.clear();
-        this.currentState = State.SCAVENGE;
+        changeInventory(0);
+        changeState(State.SCAVENGE);
+        assert (isKeyConsistent());
+    }
+
+    /**
+     * Checks whether the state machine reached a valid state.
+     *
+     * @param next state or null if no valid state can be reached
+     * @return the next state
+     * @throws LogicException if no valid state can be reached
+     */
+    private static State checkNextState(State next) throws LogicException {
+        if (next == null) {
+            throw ErrorMessages.NO_VALID_NEXT_STAGE.exception();
+        }
+        return next;
+    }
+
+    /**
+     * Changes the {@link CardGame#currentState} and reports the transition to the flight recorder.
+     *
+     * @param next state of the game
+     */
+    private void changeState(State next) {
+        if (next != currentState) {
+            StateTransitionEvent.commit(currentState, next);
+            key ^= Zobrist.state(currentState) ^ Zobrist.state(next);
+        }
+        currentState = next;
     }
 }
@@ -0,0 +1,71 @@
+package edu.kit.informatik.cardgame;
+
+import java.util.SplittableRandom;
+
+/**
+ * The dice of the engine, which roll the 4-, 6- or 8-sided dice instead of the player. The same seed always
+ * leads to the same numbers. This class is not thread-safe.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Dice {
+    /**
+     * Name of the system property that seeds the dice of every session. Without it, every session is
+     * seeded randomly.
+     */
+    public static final String SEED_PROPERTY = "edu.kit.informatik.dice.seed";
+    /**
+     * Number generator seeded with the system property {@value #SEED_PROPERTY}, from which the dice of every
+     * session are split, or null if the property was not read yet or is not set.
+     */
+    private static SplittableRandom seeded;
+    private final SplittableRandom random;
+
+    /**
+     * Creates new dice with the given {@code seed}.
+     *
+     * @param seed of the dice
+     */
+    public Dice(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    /**
+     * Creates new dice that take their numbers from the given {@code random} number generator.
+     *
+     * @param random number generator, which may also be used for other purposes
+     */
+    public Dice(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Creates new dice for a session. If the system property {@value #SEED_PROPERTY} is set to a 64-bit
+     * integer, the dice of each session are split from one number generator with this seed, so that every
+     * session rolls its own numbers and the n-th session of a process always rolls the same ones.
+     * Otherwise the dice are seeded randomly.
+     *
+     * @return the new dice
+     */
+    public static synchronized Dice fromSystemProperty() {
+        if (seeded == null) {
+            final Long seed = Long.getLong(SEED_PROPERTY);
+            if (seed == null) {
+                return new Dice(new SplittableRandom());
+            }
+            seeded = new SplittableRandom(seed);
+        }
+        return new Dice(seeded.split());
+    }
+
+    /**
+     * Rolls a dice of the given {@code size}.
+     *
+     * @param size of the dice
+     * @return the diced number from 1 to the size
+     */
+    public int roll(int size) {
+        return random.nextInt(size) + 1;
+    }
+}
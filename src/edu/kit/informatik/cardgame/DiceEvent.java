@@ -0,0 +1,59 @@
+package edu.kit.informatik.cardgame;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of the dice that have been rolled in an encounter or an endeavor.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.Dice")
+@Label("Dice")
+@Category(DrawEvent.CATEGORY)
+@Description("The dice have been rolled in an encounter or an endeavor")
+@Enabled(false)
+@StackTrace(false)
+final class DiceEvent extends Event {
+    @Label("Size")
+    private int size;
+    @Label("Roll")
+    private int roll;
+    @Label("Bonus")
+    @Description("The bonus of the player's tools, which is only added in an encounter")
+    private int bonus;
+    @Label("State Before")
+    private String from;
+    @Label("State After")
+    private String to;
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * Commits the event if it is enabled.
+     *
+     * @param diceSize size of the dice
+     * @param diced number
+     * @param diceBonus that was added to the diced number
+     * @param before state of the game before the dice were rolled
+     * @param after state of the game after the dice were rolled
+     * @param result of the roll
+     */
+    void commit(int diceSize, int diced, int diceBonus, State before, State after, String result) {
+        if (shouldCommit()) {
+            size = diceSize;
+            roll = diced;
+            bonus = diceBonus;
+            from = String.valueOf(before);
+            to = String.valueOf(after);
+            outcome = result;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package edu.kit.informatik.cardgame;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+The events of the game are disabled unless a recording enables them, e.g. with the settings in cardgame.jfc.
+As long as they are disabled, shouldCommit() is false and the JIT compiler removes the event object,
+so the game does not pay for them. Their fields are only filled in if the event is committed.
+ */
+
+/**
+ * Flight recorder event of a card that has been drawn from the card deck.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+@Name(DrawEvent.NAME)
+@Label("Draw")
+@Category(DrawEvent.CATEGORY)
+@Description("A card has been drawn from the card deck")
+@Enabled(false)
+@StackTrace(false)
+final class DrawEvent extends Event {
+    /**
+     * Name of the event.
+     */
+    static final String NAME = "edu.kit.informatik.Draw";
+    /**
+     * Category of all events of the card game.
+     */
+    static final String CATEGORY = "Card Game";
+
+    @Label("Card")
+    private String card;
+    @Label("Category")
+    private String cardCategory;
+    @Label("State Before")
+    private String from;
+    @Label("State After")
+    private String to;
+
+    /**
+     * Commits the event if it is enabled.
+     *
+     * @param drawn card
+     * @param before state of the game before the card was drawn
+     * @param after state of the game after the card was drawn
+     */
+    void commit(PlayingCard drawn, State before, State after) {
+        if (shouldCommit()) {
+            card = drawn.toString();
+            cardCategory = drawn.getCategory().toString();
+            from = String.valueOf(before);
+            to = String.valueOf(after);
+            commit();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package edu.kit.informatik.cardgame;
 
+import edu.kit.informatik.exception.LogicException;
+
 /*
 One could argue that these Strings do not belong in the game logic, but an alternative solution
 would be way too much for this small program and it is still easy to replace these Strings in the ui.
@@ -57,15 +59,42 @@ public enum ErrorMessages {
     /**
      * To indicate that no valid next state can be reached in the state machine.
      */
-    NO_VALID_NEXT_STAGE("no valid next state can be reached");
+    NO_VALID_NEXT_STAGE("no valid next state can be reached"),
+    /**
+     * To indicate that no move has been made that could be undone.
+     */
+    NOTHING_TO_UNDO("there is nothing to undo"),
+    /**
+     * To indicate that the search for a hint has used up its budget, a later hint continues it.
+     */
+    HINT_INTERRUPTED("the hint needs more time, ask again to continue the search"),
+    /**
+     * To indicate that the stats command is not available, because no metrics are recorded.
+     */
+    METRICS_DISABLED("metrics are disabled");
 
     private final String text;
+    /**
+     * The exception of this error message, which is created once without a stack trace.
+     */
+    private final LogicException exception;
 
     /**
      * @param text of the error message
      */
     ErrorMessages(final String text) {
         this.text = text;
+        this.exception = new LogicException(text, false);
+    }
+
+    /**
+     * Gets the preallocated exception with this error message. It has no stack trace, so throwing it
+     * costs no more than returning from the method.
+     *
+     * @return the exception of this error message
+     */
+    public LogicException exception() {
+        return exception;
     }
 
     @Override
@@ -0,0 +1,265 @@
+package edu.kit.informatik.cardgame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+A parked game is a record of a fixed size in direct memory, so the garbage collector neither has to trace
+nor to copy it, no matter how many games are parked. A record consists of the length of the card deck, the
+encoded snapshot of the position and the card deck itself, three bits per card, which is enough for the seven
+types of cards. Records are allocated in chunks of direct buffers, because a single buffer cannot be larger than
+2 GiB, and a handle is simply the number of a record. A released record keeps the handle of the next released
+record, so released records are reused without any collection on the heap.
+Moves are not made on the records themselves: a game is restored into an ordinary CardGame, played and parked
+again, so the rules of the game exist only once.
+ */
+
+/**
+ * Stores the positions of many idle {@link CardGame card games} off the heap in fixed-size records, which are
+ * identified by handles. A game is {@link #park(CardGame) parked} while it waits for its next move and
+ * {@link #restore(int, CardGame) restored} into a card game to make it. This class is not thread-safe.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class GameArena {
+    /**
+     * Number of bits of a card in a packed card deck.
+     */
+    private static final int BITS_PER_CARD = 3;
+    private static final long CARD_MASK = (1L << BITS_PER_CARD) - 1;
+    /**
+     * Largest card deck that can be parked, which is the card deck of a valid game.
+     */
+    private static final int MAX_DECK_SIZE = 64;
+    private static final int DECK_LONGS = MAX_DECK_SIZE * BITS_PER_CARD / Long.SIZE;
+    private static final int SNAPSHOT_OFFSET = Byte.BYTES;
+    private static final int DECK_OFFSET = SNAPSHOT_OFFSET + Snapshot.ENCODED_SIZE;
+    /**
+     * Number of bytes of a record.
+     */
+    public static final int RECORD_SIZE = DECK_OFFSET + DECK_LONGS * Long.BYTES;
+    /**
+     * Marks a released record instead of the length of its card deck.
+     */
+    private static final byte RELEASED = -1;
+    private static final int NO_RECORD = -1;
+    private static final int CHUNK_BITS = 20;
+    private static final int RECORDS_PER_CHUNK = 1 << CHUNK_BITS;
+    private static final int RECORD_MASK = RECORDS_PER_CHUNK - 1;
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    /**
+     * Number of records that have ever been allocated.
+     */
+    private int allocated;
+    /**
+     * Handle of the released record that is reused next or {@link #NO_RECORD}.
+     */
+    private int released = NO_RECORD;
+    private int size;
+
+    /**
+     * Parks the position of the given {@code game} in a new record.
+     *
+     * @param game to be parked, which can be used for other games afterwards
+     * @return the handle of the record
+     * @throws IllegalArgumentException if the card deck of the game has more than 64 cards
+     * @throws IllegalStateException if the arena is full
+     */
+    public int park(CardGame game) {
+        final Snapshot snapshot = checkedSnapshotOf(game);
+        final int handle;
+        if (released != NO_RECORD) {
+            handle = released;
+            released = chunkOf(handle).getInt(offsetOf(handle) + SNAPSHOT_OFFSET);
+        } else {
+            if (allocated == Integer.MAX_VALUE) {
+                throw new IllegalStateException("the arena is full");
+            }
+            handle = allocated++;
+            if (chunks.size() <= handle >>> CHUNK_BITS) {
+                chunks.add(ByteBuffer.allocateDirect(RECORDS_PER_CHUNK * RECORD_SIZE));
+            }
+        }
+        write(handle, snapshot);
+        size++;
+        return handle;
+    }
+
+    /**
+     * Overwrites the record of the given {@code handle} with the position of the given {@code game}.
+     *
+     * @param handle of a parked game
+     * @param game whose position is parked from now on
+     * @throws IllegalArgumentException if there is no parked game with this handle or the card deck of the game
+     *  has more than 64 cards
+     */
+    public void update(int handle, CardGame game) {
+        checkParked(handle);
+        write(handle, checkedSnapshotOf(game));
+    }
+
+    /**
+     * Restores the position of the parked game with the given {@code handle} into the given {@code game}.
+     * The record stays parked.
+     *
+     * @param handle of a parked game
+     * @param game to be overwritten
+     * @throws IllegalArgumentException if there is no parked game with this handle
+     */
+    public void restore(int handle, CardGame game) {
+        checkParked(handle);
+        final ByteBuffer chunk = chunkOf(handle);
+        final int offset = offsetOf(handle);
+        final long[] packed = new long[DECK_LONGS];
+        for (int i = 0; i < DECK_LONGS; i++) {
+            packed[i] = chunk.getLong(offset + DECK_OFFSET + i * Long.BYTES);
+        }
+        final PlayingCard[] cardDeck = new PlayingCard[chunk.get(offset)];
+        for (int i = 0; i < cardDeck.length; i++) {
+            final int bit = i * BITS_PER_CARD;
+            long card = packed[bit / Long.SIZE] >>> bit % Long.SIZE;
+            // A card may continue in the next long
+            if (bit % Long.SIZE > Long.SIZE - BITS_PER_CARD) {
+                card |= packed[bit / Long.SIZE + 1] << Long.SIZE - bit % Long.SIZE;
+            }
+            cardDeck[i] = CARDS[(int) (card & CARD_MASK)];
+        }
+        chunk.position(offset + SNAPSHOT_OFFSET);
+        game.restore(Snapshot.decode(chunk, cardDeck));
+    }
+
+    /**
+     * Creates a new game in the position of the parked game with the given {@code handle}.
+     *
+     * @param handle of a parked game
+     * @return the new game
+     * @throws IllegalArgumentException if there is no parked game with this handle
+     */
+    public CardGame fork(int handle) {
+        final CardGame game = new CardGame();
+        restore(handle, game);
+        return game;
+    }
+
+    /**
+     * Releases the record of the given {@code handle}, which may be returned again by a later
+     * {@link #park(CardGame)}.
+     *
+     * @param handle of a parked game
+     * @throws IllegalArgumentException if there is no parked game with this handle
+     */
+    public void release(int handle) {
+        checkParked(handle);
+        final ByteBuffer chunk = chunkOf(handle);
+        chunk.put(offsetOf(handle), RELEASED);
+        chunk.putInt(offsetOf(handle) + SNAPSHOT_OFFSET, released);
+        released = handle;
+        size--;
+    }
+
+    /**
+     * Returns <code>true</code> if there is a parked game with the given {@code handle}.
+     *
+     * @param handle to be checked
+     * @return <code>true</code> if the handle belongs to a parked game
+     */
+    public boolean isParked(int handle) {
+        return handle >= 0 && handle < allocated && chunkOf(handle).get(offsetOf(handle)) != RELEASED;
+    }
+
+    /**
+     * Gets the number of parked games.
+     *
+     * @return the number of parked games
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of bytes of direct memory that the arena has allocated.
+     *
+     * @return the allocated off-heap memory in bytes
+     */
+    public long getAllocatedBytes() {
+        return (long) chunks.size() * RECORDS_PER_CHUNK * RECORD_SIZE;
+    }
+
+    /**
+     * Takes a snapshot of the given {@code game} and checks whether it fits into a record.
+     *
+     * @param game to be parked
+     * @return the snapshot of the game
+     * @throws IllegalArgumentException if the card deck of the game has more than 64 cards
+     */
+    private static Snapshot checkedSnapshotOf(CardGame game) {
+        final Snapshot snapshot = game.snapshot();
+        if (snapshot.getCardDeck().length > MAX_DECK_SIZE) {
+            throw new IllegalArgumentException("the card deck is too large");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes the given {@code snapshot} into the record of the given {@code handle}.
+     *
+     * @param handle of the record
+     * @param snapshot to be written
+     */
+    private void write(int handle, Snapshot snapshot) {
+        final PlayingCard[] cardDeck = snapshot.getCardDeck();
+        final ByteBuffer chunk = chunkOf(handle);
+        final int offset = offsetOf(handle);
+        final long[] packed = new long[DECK_LONGS];
+        for (int i = 0; i < cardDeck.length; i++) {
+            final int bit = i * BITS_PER_CARD;
+            final long card = cardDeck[i].ordinal();
+            packed[bit / Long.SIZE] |= card << bit % Long.SIZE;
+            if (bit % Long.SIZE > Long.SIZE - BITS_PER_CARD) {
+                packed[bit / Long.SIZE + 1] |= card >>> Long.SIZE - bit % Long.SIZE;
+            }
+        }
+        for (int i = 0; i < DECK_LONGS; i++) {
+            chunk.putLong(offset + DECK_OFFSET + i * Long.BYTES, packed[i]);
+        }
+        chunk.position(offset + SNAPSHOT_OFFSET);
+        snapshot.encode(chunk);
+        chunk.put(offset, (byte) cardDeck.length);
+    }
+
+    /**
+     * Checks whether there is a parked game with the given {@code handle}.
+     *
+     * @param handle to be checked
+     * @throws IllegalArgumentException if there is no parked game with this handle
+     */
+    private void checkParked(int handle) {
+        if (!isParked(handle)) {
+            throw new IllegalArgumentException("invalid handle");
+        }
+    }
+
+    /**
+     * Gets the chunk that contains the record of the given {@code handle}.
+     *
+     * @param handle of the record
+     * @return the chunk of the record
+     */
+    private ByteBuffer chunkOf(int handle) {
+        return chunks.get(handle >>> CHUNK_BITS);
+    }
+
+    /**
+     * Gets the offset of the record of the given {@code handle} in its chunk.
+     *
+     * @param handle of the record
+     * @return the offset in bytes
+     */
+    private static int offsetOf(int handle) {
+        return (handle & RECORD_MASK) * RECORD_SIZE;
+    }
+}
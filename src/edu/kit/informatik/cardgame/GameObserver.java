@@ -0,0 +1,53 @@
+package edu.kit.informatik.cardgame;
+
+/**
+ * Is notified by a {@link CardGame} about every call that changed the game. Calls that throw a
+ * {@link edu.kit.informatik.exception.LogicException} did not change anything and are not reported.
+ * The methods are called on the thread that plays the game, after the game has been changed.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public interface GameObserver {
+    /**
+     * Is called after a new card deck has been set and the game has been reset.
+     *
+     * @param cardDeck the new card deck, starting with the top card, which must not be altered
+     */
+    void cardDeckSet(PlayingCard[] cardDeck);
+
+    /**
+     * Is called after a card has been drawn.
+     *
+     * @param card that was drawn
+     */
+    void drawn(PlayingCard card);
+
+    /**
+     * Is called after an item has been built.
+     *
+     * @param item that was built
+     */
+    void built(Item item);
+
+    /**
+     * Is called after the dice have been rolled.
+     *
+     * @param size of the dice
+     * @param diced number
+     */
+    void diced(int size, int diced);
+
+    /**
+     * Is called after the game has been reset.
+     */
+    void reset();
+
+    /**
+     * Is called after a snapshot has been restored. If the snapshot belongs to another card deck,
+     * {@link #cardDeckSet(PlayingCard[])} is called with it first.
+     *
+     * @param snapshot that was restored
+     */
+    void restored(Snapshot snapshot);
+}
@@ -0,0 +1,69 @@
+package edu.kit.informatik.cardgame;
+
+import java.util.Locale;
+
+/**
+ * The best action in a position of a {@link CardGame} together with the probability to win the game
+ * if the player plays optimally from then on.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Hint {
+    private final Item item;
+    private final Integer diceSize;
+    private final double probability;
+
+    /**
+     * Creates a new hint. If neither an item nor a dice size is given, the best action is to draw a card.
+     *
+     * @param item to be built or null
+     * @param diceSize of the dice to be rolled or null
+     * @param probability to win the game
+     */
+    Hint(Item item, Integer diceSize, double probability) {
+        this.item = item;
+        this.diceSize = diceSize;
+        this.probability = probability;
+    }
+
+    /**
+     * Gets the item that should be built.
+     *
+     * @return the item to be built or null if no item should be built
+     */
+    public Item getItem() {
+        return item;
+    }
+
+    /**
+     * Gets the size of the dice that has to be rolled.
+     *
+     * @return the dice size or null if no dice has to be rolled
+     */
+    public Integer getDiceSize() {
+        return diceSize;
+    }
+
+    /**
+     * Gets the probability to win the game with optimal play.
+     *
+     * @return the probability to win
+     */
+    public double getProbability() {
+        return probability;
+    }
+
+    @Override
+    public String toString() {
+        final String action;
+        if (item != null) {
+            action = "build " + item;
+        } else if (diceSize != null) {
+            action = "rollD" + diceSize;
+        } else {
+            action = "draw";
+        }
+        return String.format(Locale.ROOT, "%s %.4f", action, probability);
+    }
+}
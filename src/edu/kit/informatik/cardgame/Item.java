@@ -1,5 +1,7 @@
 package edu.kit.informatik.cardgame;
 
+import edu.kit.informatik.userinterface.CharSequences;
+
 import java.util.Optional;
 
 /*
@@ -83,11 +85,16 @@ public enum Item {
     BALLON(ItemCategory.RESCUES, true, null, 0, PlayingCard.WOOD, PlayingCard.PLASTIC,
             PlayingCard.PLASTIC, PlayingCard.PLASTIC, PlayingCard.PLASTIC, PlayingCard.PLASTIC, PlayingCard.PLASTIC);
 
+    private static final Item[] ITEMS = values();
     private final ItemCategory category;
     /**
      * Required cards to build the item.
      */
     private final PlayingCard[] requiredCards;
+    /**
+     * Required amount of every resource type, indexed like the resources of a {@link ResourceStore}.
+     */
+    private final int[] requiredAmounts;
     /**
      * Determines whether a fireplace is required to build the item or not.
      */
@@ -100,6 +107,10 @@ public enum Item {
      * Certain items provide a bonus which gets added to the diced number.
      */
     private final int bonus;
+    /**
+     * The String representation of the item, which is also its identifier in user input.
+     */
+    private final String identifier;
 
     /**
      * Creates a new item with the given {@code category}.
@@ -116,6 +127,11 @@ public enum Item {
         this.diceSize = diceSize;
         this.bonus = bonus;
         this.requiredCards = requiredCards;
+        this.requiredAmounts = new int[ResourceStore.TYPES];
+        for (final PlayingCard card : requiredCards) {
+            requiredAmounts[ResourceStore.indexOf(card)]++;
+        }
+        this.identifier = name().toLowerCase();
     }
 
     /**
@@ -136,6 +152,25 @@ public enum Item {
         return requiredCards;
     }
 
+    /**
+     * Gets the required amount of the given resource {@code card} to build the item.
+     *
+     * @param card type of the resource
+     * @return the required amount of this resource
+     */
+    int getRequiredAmount(PlayingCard card) {
+        return requiredAmounts[ResourceStore.indexOf(card)];
+    }
+
+    /**
+     * Gets the bit that represents the item in a bitmask of items.
+     *
+     * @return the bit of the item
+     */
+    int getMask() {
+        return 1 << ordinal();
+    }
+
     /**
      * Returns <code>true</code> if the item requires a fireplace to be built.
      *
@@ -179,8 +214,21 @@ public enum Item {
      * @return the item or null if the String format does not represent an item
      */
     public static Item parse(String itemString) {
-        for (final Item item : values()) {
-            if (item.name().toLowerCase().equals(itemString)) {
+        return parse(itemString, 0, itemString.length());
+    }
+
+    /**
+     * Parses the region from {@code from} (inclusive) to {@code to} (exclusive) of the given {@code input}
+     * to an actual item without copying the region.
+     *
+     * @param input that contains the item in String format
+     * @param from index of the first character of the item
+     * @param to index after the last character of the item
+     * @return the item or null if the region does not represent an item
+     */
+    public static Item parse(CharSequence input, int from, int to) {
+        for (final Item item : ITEMS) {
+            if (CharSequences.regionEquals(input, from, to, item.identifier)) {
                 return item;
             }
         }
@@ -189,6 +237,6 @@ public enum Item {
 
     @Override
     public String toString() {
-        return name().toLowerCase();
+        return identifier;
     }
 }
@@ -0,0 +1,64 @@
+package edu.kit.informatik.cardgame;
+
+/*
+A card game only has a single reference to its observer, so a game without observers costs no more than
+a null check per move. Further observers are chained in pairs, which is only paid for by games that have them.
+ */
+
+/**
+ * Notifies two observers of a {@link CardGame}, the first one before the second one.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class ObserverPair implements GameObserver {
+    private final GameObserver first;
+    private final GameObserver second;
+
+    /**
+     * Creates a new pair of observers.
+     *
+     * @param first observer to be notified
+     * @param second observer to be notified
+     */
+    ObserverPair(GameObserver first, GameObserver second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void cardDeckSet(PlayingCard[] cardDeck) {
+        first.cardDeckSet(cardDeck);
+        second.cardDeckSet(cardDeck);
+    }
+
+    @Override
+    public void drawn(PlayingCard card) {
+        first.drawn(card);
+        second.drawn(card);
+    }
+
+    @Override
+    public void built(Item item) {
+        first.built(item);
+        second.built(item);
+    }
+
+    @Override
+    public void diced(int size, int diced) {
+        first.diced(size, diced);
+        second.diced(size, diced);
+    }
+
+    @Override
+    public void reset() {
+        first.reset();
+        second.reset();
+    }
+
+    @Override
+    public void restored(Snapshot snapshot) {
+        first.restored(snapshot);
+        second.restored(snapshot);
+    }
+}
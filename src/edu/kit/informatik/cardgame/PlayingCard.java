@@ -1,5 +1,7 @@
 package edu.kit.informatik.cardgame;
 
+import edu.kit.informatik.userinterface.CharSequences;
+
 import java.util.Optional;
 
 /**
@@ -38,6 +40,7 @@ public enum PlayingCard {
      */
     THUNDERSTORM(CardCategory.CATASTROPHE, null, null, 1);
 
+    private static final PlayingCard[] CARDS = values();
     private final CardCategory category;
     /**
      * Required dice size of the card.
@@ -51,6 +54,10 @@ public enum PlayingCard {
      * Required amount of the playing card in the card deck.
      */
     private final int requiredAmount;
+    /**
+     * The String representation of the playing card, which is also its identifier in user input.
+     */
+    private final String identifier;
 
     /**
      * Creates a new playing card with the given {@code category}.
@@ -65,6 +72,7 @@ public enum PlayingCard {
         this.diceSize = diceSize;
         this.minRoll = minRoll;
         this.requiredAmount = requiredAmount;
+        this.identifier = name().toLowerCase();
     }
 
     /**
@@ -110,8 +118,21 @@ public enum PlayingCard {
      * @return the playing card or null if the String format does not represent a playing card
      */
     public static PlayingCard parse(String cardString)  {
-        for (final PlayingCard card : values()) {
-            if (card.name().toLowerCase().equals(cardString)) {
+        return parse(cardString, 0, cardString.length());
+    }
+
+    /**
+     * Parses the region from {@code from} (inclusive) to {@code to} (exclusive) of the given {@code input}
+     * to an actual playing card without copying the region.
+     *
+     * @param input that contains the playing card in String format
+     * @param from index of the first character of the playing card
+     * @param to index after the last character of the playing card
+     * @return the playing card or null if the region does not represent a playing card
+     */
+    public static PlayingCard parse(CharSequence input, int from, int to) {
+        for (final PlayingCard card : CARDS) {
+            if (CharSequences.regionEquals(input, from, to, card.identifier)) {
                 return card;
             }
         }
@@ -120,6 +141,6 @@ public enum PlayingCard {
 
     @Override
     public String toString() {
-        return name().toLowerCase();
+        return identifier;
     }
 }
\ No newline at end of file
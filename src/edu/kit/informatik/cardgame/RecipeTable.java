@@ -0,0 +1,158 @@
+package edu.kit.informatik.cardgame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/*
+No recipe needs more than a handful of cards of one type, so every amount above the largest requirement
+can be treated like that requirement. This leaves only (4 + 1) * (6 + 1) * (6 + 1) combinations of wood,
+metal and plastic, and for each of them the items it suffices for are computed once.
+Ownership and the fireplace are applied afterwards with two bit operations instead of multiplying the
+size of the table by every possible inventory.
+ */
+
+/**
+ * Precompiled recipes of all {@link Item items}. The table maps the resources of a player
+ * to a bitmask of the items that can be built with them.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class RecipeTable {
+    private static final Item[] ITEMS = Item.values();
+    private static final PlayingCard[] RESOURCES = Arrays.copyOf(PlayingCard.values(), ResourceStore.TYPES);
+    /**
+     * Unmodifiable lists of the items of every bitmask, sorted alphabetically by their String representation.
+     */
+    private static final List<List<Item>> ALPHABETICAL = IntStream.range(0, 1 << ITEMS.length)
+            .mapToObj(mask -> Arrays.stream(ITEMS)
+                    .filter(item -> (mask & item.getMask()) != 0)
+                    .sorted(Comparator.comparing(Object::toString))
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)))
+            .collect(Collectors.toList());
+    /**
+     * Largest required amount of every resource type.
+     */
+    private static final int[] CAPS = new int[ResourceStore.TYPES];
+    /**
+     * Bitmask of all items that can be built without a fireplace.
+     */
+    private static final int WITHOUT_FIREPLACE;
+    /**
+     * Bitmask of the items whose recipe is satisfied, indexed by the capped resource counts.
+     */
+    private static final int[] TABLE;
+
+    static {
+        int withoutFireplace = 0;
+        for (final Item item : ITEMS) {
+            for (final PlayingCard resource : RESOURCES) {
+                final int type = ResourceStore.indexOf(resource);
+                CAPS[type] = Math.max(CAPS[type], item.getRequiredAmount(resource));
+            }
+            if (!item.isFireplaceRequired()) {
+                withoutFireplace |= item.getMask();
+            }
+        }
+        WITHOUT_FIREPLACE = withoutFireplace;
+        int size = 1;
+        for (final int cap : CAPS) {
+            size *= cap + 1;
+        }
+        TABLE = new int[size];
+        final int[] amounts = new int[ResourceStore.TYPES];
+        for (int index = 0; index < size; index++) {
+            int rest = index;
+            for (int type = ResourceStore.TYPES - 1; type >= 0; type--) {
+                amounts[type] = rest % (CAPS[type] + 1);
+                rest /= CAPS[type] + 1;
+            }
+            for (final Item item : ITEMS) {
+                if (isSatisfied(item, amounts)) {
+                    TABLE[index] |= item.getMask();
+                }
+            }
+        }
+    }
+
+    /**
+     * Utility-class constructor.
+     */
+    private RecipeTable() {
+    }
+
+    /**
+     * Returns <code>true</code> if the given resource {@code amounts} suffice to build the {@code item}.
+     *
+     * @param item to be checked
+     * @param amounts of every resource type
+     * @return <code>true</code> if the amounts suffice
+     */
+    private static boolean isSatisfied(Item item, int[] amounts) {
+        for (final PlayingCard resource : RESOURCES) {
+            if (item.getRequiredAmount(resource) > amounts[ResourceStore.indexOf(resource)]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the bitmask of all items that can be built with the given {@code resources} and {@code inventory}.
+     * For an item to be buildable, the player must not already own it.
+     * Certain items also need a fireplace to be buildable.
+     *
+     * @param resources of the player
+     * @param inventory bitmask of the items the player owns
+     * @return the bitmask of all buildable items
+     */
+    static int buildable(ResourceStore resources, int inventory) {
+        int index = 0;
+        for (final PlayingCard resource : RESOURCES) {
+            final int cap = CAPS[ResourceStore.indexOf(resource)];
+            index = index * (cap + 1) + Math.min(resources.count(resource), cap);
+        }
+        return lookup(index, inventory);
+    }
+
+    /**
+     * Gets the bitmask of all items that can be built with the given resource {@code amounts} and {@code inventory}.
+     *
+     * @param amounts of every resource type, indexed like the resources of a {@link ResourceStore}
+     * @param inventory bitmask of the items the player owns
+     * @return the bitmask of all buildable items
+     */
+    static int buildable(int[] amounts, int inventory) {
+        int index = 0;
+        for (int type = 0; type < ResourceStore.TYPES; type++) {
+            index = index * (CAPS[type] + 1) + Math.min(amounts[type], CAPS[type]);
+        }
+        return lookup(index, inventory);
+    }
+
+    /**
+     * Looks up the buildable items and removes those that are owned or need a missing fireplace.
+     *
+     * @param index of the capped resource counts in the table
+     * @param inventory bitmask of the items the player owns
+     * @return the bitmask of all buildable items
+     */
+    private static int lookup(int index, int inventory) {
+        final int allowed = (inventory & Item.FIREPLACE.getMask()) != 0 ? ~0 : WITHOUT_FIREPLACE;
+        return TABLE[index] & ~inventory & allowed;
+    }
+
+    /**
+     * Gets all items of the given bitmask sorted alphabetically by their String representation.
+     *
+     * @param mask of the items
+     * @return an unmodifiable list of the items in alphabetical order
+     */
+    static List<Item> alphabetical(int mask) {
+        return ALPHABETICAL.get(mask);
+    }
+}
@@ -0,0 +1,304 @@
+package edu.kit.informatik.cardgame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+The store keeps two views of the same resources. The counts answer "do I have enough?" in constant time,
+while the insertion order is still needed for the shack rule and for listing the resources.
+Every resource card gets a sequence number when it is added. The sequence numbers of one type are always
+ascending, so the last occurrence of a type is the newest entry of its own ring and the oldest resource
+overall is the oldest entry of the ring of its type. Removing a card only marks its slot as free,
+which is why neither building nor the shack rule has to shift any elements.
+ */
+
+/**
+ * Stores the {@link CardCategory#RESOURCES resources} of the player as per-type counts
+ * next to a compact ring of their insertion order.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class ResourceStore {
+    /**
+     * Number of different resource types. Resources are the first playing cards, so their ordinal is their index.
+     */
+    static final int TYPES = 3;
+    /**
+     * Capacity of the rings. A card deck consists of 64 cards, so there can never be more resources.
+     */
+    static final int CAPACITY = 64;
+    private static final int MASK = CAPACITY - 1;
+    /**
+     * Marks a slot in the order ring whose resource has already been removed.
+     */
+    private static final byte FREE = -1;
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    /**
+     * Number of bits a packed resource takes.
+     */
+    private static final int BITS_PER_RESOURCE = 2;
+    /**
+     * Number of resources that can be packed into a long.
+     */
+    static final int PACKED_PER_LONG = Long.SIZE / BITS_PER_RESOURCE;
+    private static final long RESOURCE_MASK = (1L << BITS_PER_RESOURCE) - 1;
+
+    /**
+     * Number of resources per type.
+     */
+    private final int[] counts = new int[TYPES];
+    /**
+     * Resource type of every sequence number or {@link #FREE} if it has been removed.
+     */
+    private final byte[] order = new byte[CAPACITY];
+    /**
+     * Sequence numbers of every resource type in ascending order.
+     */
+    private final int[][] sequences = new int[TYPES][CAPACITY];
+    private final int[] firstOfType = new int[TYPES];
+    /**
+     * Oldest sequence number that may still be in use.
+     */
+    private int first;
+    /**
+     * Next sequence number to be assigned.
+     */
+    private int next;
+    private int size;
+    /**
+     * Exclusive or of the {@link Zobrist#slot(int, int) numbers} of every resource at its index in the order,
+     * counted from the oldest resource.
+     */
+    private long key;
+    /**
+     * Whether the oldest resources have been removed since the {@link #key} was computed, which moved all
+     * remaining resources to other indices.
+     */
+    private boolean keyStale;
+
+    /**
+     * Gets the index of the given resource {@code card} in the count vector.
+     *
+     * @param card of the category resources
+     * @return the index of the card
+     */
+    static int indexOf(PlayingCard card) {
+        assert (card.getCategory() == CardCategory.RESOURCES);
+        return card.ordinal();
+    }
+
+    /**
+     * Adds the given resource {@code card} as the newest resource.
+     *
+     * @param card to be added
+     */
+    void addLast(PlayingCard card) {
+        if (next - first == CAPACITY) {
+            compact();
+        }
+        final int type = indexOf(card);
+        key = getKey() ^ Zobrist.slot(size, type);
+        order[next & MASK] = (byte) type;
+        sequences[type][(firstOfType[type] + counts[type]) & MASK] = next;
+        counts[type]++;
+        next++;
+        size++;
+    }
+
+    /**
+     * Removes the newest resource of the given type.
+     *
+     * @param card type of the resource to be removed
+     * @return <code>true</code> if a resource was removed
+     */
+    boolean removeLastOccurrence(PlayingCard card) {
+        final int type = indexOf(card);
+        if (counts[type] == 0) {
+            return false;
+        }
+        counts[type]--;
+        final int sequence = sequences[type][(firstOfType[type] + counts[type]) & MASK];
+        order[sequence & MASK] = FREE;
+        // Every newer resource moves to the index below, starting at the newest one with the index size - 1
+        int index = size - 1;
+        for (int newer = next - 1; newer != sequence; newer--) {
+            final byte newerType = order[newer & MASK];
+            if (newerType != FREE) {
+                key ^= Zobrist.slot(index, newerType) ^ Zobrist.slot(index - 1, newerType);
+                index--;
+            }
+        }
+        key ^= Zobrist.slot(index, type);
+        size--;
+        while (next != first && order[(next - 1) & MASK] == FREE) {
+            next--;
+        }
+        return true;
+    }
+
+    /**
+     * Removes the oldest resources until at most {@code amount} resources are left.
+     *
+     * @param amount of the newest resources to be kept
+     */
+    void retainLast(int amount) {
+        // The newest resources are kept, but at lower indices
+        keyStale |= size > amount;
+        while (size > amount) {
+            while (order[first & MASK] == FREE) {
+                first++;
+            }
+            final int type = order[first & MASK];
+            order[first & MASK] = FREE;
+            firstOfType[type]++;
+            counts[type]--;
+            first++;
+            size--;
+        }
+    }
+
+    /**
+     * Removes all resources.
+     */
+    void clear() {
+        retainLast(0);
+        Arrays.fill(firstOfType, 0);
+        first = 0;
+        next = 0;
+    }
+
+    /**
+     * Moves all resources to the beginning of the rings, so that free slots can be reused.
+     */
+    private void compact() {
+        final List<PlayingCard> resources = toList();
+        clear();
+        resources.forEach(this::addLast);
+    }
+
+    /**
+     * Gets the amount of resources of the given type.
+     *
+     * @param card type of the resource
+     * @return the amount of resources of this type
+     */
+    int count(PlayingCard card) {
+        return counts[indexOf(card)];
+    }
+
+    /**
+     * Returns <code>true</code> if there are no resources.
+     *
+     * @return <code>true</code> if there are no resources
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the amount of all resources.
+     *
+     * @return the amount of all resources
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Packs up to 32 resources into a long, two bits each. A resource is stored as its type plus one,
+     * so that the packed value is independent of the number of resources.
+     *
+     * @param from index of the oldest resource to be packed
+     * @return the packed resources
+     */
+    long pack(int from) {
+        long packed = 0;
+        int index = 0;
+        for (int sequence = first; sequence != next && index < from + PACKED_PER_LONG; sequence++) {
+            final byte type = order[sequence & MASK];
+            if (type != FREE) {
+                if (index >= from) {
+                    packed |= (long) (type + 1) << BITS_PER_RESOURCE * (index - from);
+                }
+                index++;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Gets the {@link Zobrist} number of the order of all resources, which is computed again lazily after
+     * the oldest resources have been removed.
+     *
+     * @return the exclusive or of the numbers of every resource at its index
+     */
+    long getKey() {
+        if (keyStale) {
+            key = 0;
+            int index = 0;
+            for (int sequence = first; sequence != next; sequence++) {
+                final byte type = order[sequence & MASK];
+                if (type != FREE) {
+                    key ^= Zobrist.slot(index++, type);
+                }
+            }
+            keyStale = false;
+        }
+        return key;
+    }
+
+    /**
+     * Replaces all resources by the given packed resources.
+     *
+     * @param low packed oldest resources as created by {@link #pack(int)}
+     * @param high packed newer resources as created by {@link #pack(int)}
+     * @param amount of the packed resources
+     */
+    void unpack(long low, long high, int amount) {
+        clear();
+        for (int index = 0; index < amount; index++) {
+            final long packed = index < PACKED_PER_LONG ? low : high;
+            final int shift = BITS_PER_RESOURCE * (index % PACKED_PER_LONG);
+            addLast(CARDS[(int) (packed >>> shift & RESOURCE_MASK) - 1]);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the given packed resources are valid, which means that every one of them
+     * is a resource type.
+     *
+     * @param low packed oldest resources as created by {@link #pack(int)}
+     * @param high packed newer resources as created by {@link #pack(int)}
+     * @param amount of the packed resources
+     * @return <code>true</code> if the packed resources can be unpacked
+     */
+    static boolean isPacked(long low, long high, int amount) {
+        for (int index = 0; index < amount; index++) {
+            final long packed = index < PACKED_PER_LONG ? low : high;
+            final int shift = BITS_PER_RESOURCE * (index % PACKED_PER_LONG);
+            final int type = (int) (packed >>> shift & RESOURCE_MASK) - 1;
+            if (type < 0 || type >= TYPES) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets all resources, from the oldest to the newest one.
+     *
+     * @return a list of all resources in the order they were added
+     */
+    List<PlayingCard> toList() {
+        final List<PlayingCard> resources = new ArrayList<>(size);
+        for (int sequence = first; sequence != next; sequence++) {
+            final byte type = order[sequence & MASK];
+            if (type != FREE) {
+                resources.add(CARDS[type]);
+            }
+        }
+        return resources;
+    }
+}
@@ -0,0 +1,219 @@
+package edu.kit.informatik.cardgame;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/*
+A snapshot has to be cheap enough to take one before every move, so it does not copy any collection.
+The card deck is never altered, so all snapshots of a game share it and only remember the cursor.
+At most 64 resources of three types fit into two longs with two bits each, and the at most eight items of the
+inventory fit into one int with four bits each, both in the order they were added. Everything else is a
+reference to an enum constant. This way a snapshot takes a few dozen bytes no matter how far the game is.
+Since all fields are final and nothing they refer to is ever altered, a snapshot can be restored or forked
+by any number of threads at the same time.
+ */
+
+/**
+ * An immutable snapshot of a {@link CardGame}, which can be {@link CardGame#restore(Snapshot) restored}
+ * or {@link #fork() forked} into a new game.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Snapshot {
+    /**
+     * Number of bytes of an {@link #encode(ByteBuffer) encoded} snapshot.
+     */
+    public static final int ENCODED_SIZE = 4 * Byte.BYTES + 2 * Long.BYTES + Integer.BYTES;
+    /**
+     * Number of bits a packed item takes.
+     */
+    private static final int BITS_PER_ITEM = 4;
+    private static final int ITEM_MASK = (1 << BITS_PER_ITEM) - 1;
+    private static final Item[] ITEMS = Item.values();
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    private static final State[] STATES = State.values();
+
+    private final PlayingCard[] cardDeck;
+    private final int cursor;
+    private final PlayingCard card;
+    private final State state;
+    private final long lowResources;
+    private final long highResources;
+    private final int resourceAmount;
+    /**
+     * Items in the order they were built, each one as its ordinal plus one.
+     */
+    private final int items;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param cardDeck of the game, which must not be altered afterwards
+     * @param cursor index of the top card
+     * @param card that was drawn last or null
+     * @param state of the game
+     * @param resources of the player
+     * @param playerInventory items of the player in the order they were built
+     */
+    Snapshot(PlayingCard[] cardDeck, int cursor, PlayingCard card, State state, ResourceStore resources,
+             Iterable<Item> playerInventory) {
+        this.cardDeck = cardDeck;
+        this.cursor = cursor;
+        this.card = card;
+        this.state = state;
+        this.lowResources = resources.pack(0);
+        this.highResources = resources.pack(ResourceStore.PACKED_PER_LONG);
+        this.resourceAmount = resources.size();
+        int packed = 0;
+        int shift = 0;
+        for (final Item item : playerInventory) {
+            packed |= (item.ordinal() + 1) << shift;
+            shift += BITS_PER_ITEM;
+        }
+        this.items = packed;
+    }
+
+    /**
+     * Creates a new snapshot of already packed resources and items.
+     *
+     * @param cardDeck of the game, which must not be altered afterwards
+     * @param cursor index of the top card
+     * @param card that was drawn last or null
+     * @param state of the game or null
+     * @param lowResources the oldest packed resources
+     * @param highResources the newer packed resources
+     * @param resourceAmount number of packed resources
+     * @param items packed items
+     */
+    private Snapshot(PlayingCard[] cardDeck, int cursor, PlayingCard card, State state, long lowResources,
+                     long highResources, int resourceAmount, int items) {
+        this.cardDeck = cardDeck;
+        this.cursor = cursor;
+        this.card = card;
+        this.state = state;
+        this.lowResources = lowResources;
+        this.highResources = highResources;
+        this.resourceAmount = resourceAmount;
+        this.items = items;
+    }
+
+    /**
+     * Writes the snapshot without its card deck into {@link #ENCODED_SIZE} bytes of the given {@code target}.
+     *
+     * @param target to write to
+     */
+    public void encode(ByteBuffer target) {
+        target.put((byte) cursor)
+                .put((byte) (card == null ? 0 : card.ordinal() + 1))
+                .put((byte) (state == null ? 0 : state.ordinal() + 1))
+                .put((byte) resourceAmount)
+                .putLong(lowResources)
+                .putLong(highResources)
+                .putInt(items);
+    }
+
+    /**
+     * Reads a snapshot that was {@link #encode(ByteBuffer) encoded} before.
+     *
+     * @param source to read from
+     * @param cardDeck of the snapshot, which must not be altered afterwards
+     * @return the decoded snapshot
+     * @throws IllegalArgumentException if the source does not contain a valid snapshot of the card deck
+     */
+    public static Snapshot decode(ByteBuffer source, PlayingCard[] cardDeck) {
+        final int cursor = source.get();
+        final int card = source.get();
+        final int state = source.get();
+        final int resourceAmount = source.get();
+        if (cursor < 0 || cursor > cardDeck.length || card < 0 || card > CARDS.length || state < 0
+                || state > STATES.length || resourceAmount < 0 || resourceAmount > ResourceStore.CAPACITY) {
+            throw new IllegalArgumentException("invalid snapshot");
+        }
+        final Snapshot snapshot = new Snapshot(cardDeck, cursor, card == 0 ? null : CARDS[card - 1],
+                state == 0 ? null : STATES[state - 1], source.getLong(), source.getLong(), resourceAmount,
+                source.getInt());
+        if (!ResourceStore.isPacked(snapshot.lowResources, snapshot.highResources, resourceAmount)) {
+            throw new IllegalArgumentException("invalid snapshot");
+        }
+        for (int packed = snapshot.items; packed != 0; packed >>>= BITS_PER_ITEM) {
+            if ((packed & ITEM_MASK) == 0 || (packed & ITEM_MASK) > ITEMS.length) {
+                throw new IllegalArgumentException("invalid snapshot");
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Creates a new game in the position of this snapshot.
+     *
+     * @return the new game
+     */
+    public CardGame fork() {
+        final CardGame game = new CardGame();
+        game.restore(this);
+        return game;
+    }
+
+    /**
+     * Gets the card deck of the game.
+     *
+     * @return the card deck, which must not be altered
+     */
+    PlayingCard[] getCardDeck() {
+        return cardDeck;
+    }
+
+    /**
+     * Gets the index of the top card.
+     *
+     * @return the cursor of the card deck
+     */
+    int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Gets the card that was drawn last.
+     *
+     * @return the last drawn card or null
+     */
+    PlayingCard getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the state of the game.
+     *
+     * @return the state or null if the game has not started yet
+     */
+    State getState() {
+        return state;
+    }
+
+    /**
+     * Restores the resources of the player.
+     *
+     * @param resources to be overwritten
+     */
+    void restoreResources(ResourceStore resources) {
+        resources.unpack(lowResources, highResources, resourceAmount);
+    }
+
+    /**
+     * Restores the items of the player.
+     *
+     * @param playerInventory to be overwritten, in the order the items were built
+     * @return the bitmask of the items
+     */
+    int restoreItems(List<Item> playerInventory) {
+        playerInventory.clear();
+        int inventory = 0;
+        for (int packed = items; packed != 0; packed >>>= BITS_PER_ITEM) {
+            final Item item = ITEMS[(packed & ITEM_MASK) - 1];
+            playerInventory.add(item);
+            inventory |= item.getMask();
+        }
+        return inventory;
+    }
+}
@@ -0,0 +1,586 @@
+package edu.kit.informatik.cardgame;
+
+import edu.kit.informatik.exception.LogicException;
+
+import java.util.Arrays;
+
+/*
+Once the card deck is known, the only randomness left are the dice. The solver is therefore an expectimax search:
+the player maximises over drawing and building, while encounters and endeavors average over all dice outcomes.
+Positions of the stage scavenge are memoised in a transposition table. The key consists of the position in the
+card deck, the inventory, the stage and the resources. The order of the resources only matters while an animal
+or a catastrophe can still destroy them, afterwards the resources are sorted so that equal multisets share a key.
+The search is pruned by an upper bound: if no rescue can be paid for with the resources in hand and the
+resources left in the card deck, the position is lost no matter what the player does.
+Every position after a move is a position of the same card deck, so one solver and its table are kept for
+all hints of a card deck, and later hints mostly look up what earlier ones computed. A value only enters the
+table once its whole sub-tree is searched, so a search that runs out of its budget can be interrupted at any
+point and the next one continues where it stopped.
+ */
+
+/**
+ * Computes the exact probability to win a {@link CardGame} with optimal play, and the action that achieves it.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class Solver {
+    private static final Item[] ITEMS = Item.values();
+    /**
+     * Items that are tried first, because they end the game or give it a chance to end.
+     */
+    private static final Item[] RESCUES = Arrays.stream(ITEMS)
+            .filter(item -> item.getCategory() == ItemCategory.RESCUES)
+            .toArray(Item[]::new);
+    /**
+     * Value of a position that is certainly won. No position can be better.
+     */
+    private static final double WON = 1;
+    private static final double LOST = 0;
+
+    private final PlayingCard[] deck;
+    /**
+     * Resources per type that are left in the card deck from every position on.
+     */
+    private final int[][] resourcesAhead;
+    /**
+     * Whether an animal or a catastrophe is left in the card deck from every position on.
+     */
+    private final boolean[] hazardsAhead;
+    private final TranspositionTable table = new TranspositionTable();
+    /**
+     * Number of positions that the current search may still evaluate.
+     */
+    private long budget;
+
+    /**
+     * Creates a new solver for the given card {@code deck}. The deck must not be changed afterwards.
+     *
+     * @param deck the whole card deck, also containing the cards that have already been drawn
+     */
+    Solver(PlayingCard[] deck) {
+        this.deck = deck;
+        this.resourcesAhead = new int[deck.length + 1][ResourceStore.TYPES];
+        this.hazardsAhead = new boolean[deck.length + 1];
+        for (int i = deck.length - 1; i >= 0; i--) {
+            resourcesAhead[i] = resourcesAhead[i + 1].clone();
+            if (deck[i].getCategory() == CardCategory.RESOURCES) {
+                resourcesAhead[i][ResourceStore.indexOf(deck[i])]++;
+            }
+            hazardsAhead[i] = hazardsAhead[i + 1] || deck[i].getCategory() != CardCategory.RESOURCES;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if this solver solves positions of the given card {@code deck}.
+     *
+     * @param deck the whole card deck
+     * @return <code>true</code> if the solver was created for this very deck
+     */
+    boolean solves(PlayingCard[] deck) {
+        return this.deck == deck;
+    }
+
+    /**
+     * Solves the given position of the card deck of this solver.
+     *
+     * @param cursor index of the next card to be drawn
+     * @param state current stage of the game
+     * @param resources of the player, from the oldest to the newest one
+     * @param inventory bitmask of the items the player owns
+     * @param budget maximum number of positions that are evaluated or {@link CardGame#UNLIMITED_HINT_BUDGET}
+     * @return the best action and its probability to win
+     * @throws LogicException if the stage of the game does not allow any action or the budget is used up
+     */
+    Hint solve(int cursor, State state, PlayingCard[] resources, int inventory, long budget)
+            throws LogicException {
+        this.budget = budget;
+        final byte[] sequence = new byte[resources.length];
+        for (int i = 0; i < resources.length; i++) {
+            sequence[i] = (byte) ResourceStore.indexOf(resources[i]);
+        }
+        final Position position = new Position(cursor, state, inventory, sequence);
+        switch (state) {
+            case ENCOUNTER:
+                return new Hint(null, deck[cursor - 1].getDiceSize().get(), encounter(position));
+            case ENDEAVOR:
+                return new Hint(null, lastDiceSize(inventory), endeavor(position));
+            case SCAVENGE:
+                return bestAction(position);
+            default:
+                throw ErrorMessages.NO_ACTIVE_GAME.exception();
+        }
+    }
+
+    /**
+     * Gets the dice size of the rescue that started the endeavor.
+     *
+     * @param inventory bitmask of the items the player owns
+     * @return the dice size of the endeavor
+     */
+    private static int lastDiceSize(int inventory) {
+        for (final Item item : RESCUES) {
+            if ((inventory & item.getMask()) != 0 && item.requiresDice()) {
+                return item.getDiceSize().get();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    /**
+     * Finds the best action of a position of the stage scavenge.
+     *
+     * @param position of the stage scavenge
+     * @return the best action and its probability to win
+     * @throws LogicException if there is no action left or the budget is used up
+     */
+    private Hint bestAction(Position position) throws LogicException {
+        final int buildable = position.buildable();
+        if (position.cursor == deck.length && buildable == 0) {
+            throw ErrorMessages.NO_MORE_CARDS.exception();
+        }
+        Item bestItem = null;
+        // Without cards left, any item is better than drawing
+        double best = position.cursor < deck.length ? draw(position) : -1;
+        for (final Item item : ITEMS) {
+            if ((buildable & item.getMask()) != 0) {
+                final double value = build(position, item);
+                if (value > best) {
+                    best = value;
+                    bestItem = item;
+                }
+            }
+        }
+        return new Hint(bestItem, null, best);
+    }
+
+    /**
+     * Computes the probability to win a position of the stage scavenge.
+     *
+     * @param position of the stage scavenge
+     * @return the probability to win
+     * @throws LogicException if the budget is used up
+     */
+    private double scavenge(Position position) throws LogicException {
+        if (!canStillEscape(position)) {
+            return LOST;
+        }
+        final Position key = hazardsAhead[position.cursor] ? position : position.sorted();
+        final long low = key.keyLow();
+        final long high = key.keyHigh();
+        final double known = table.get(low, high);
+        if (known >= 0) {
+            return known;
+        }
+        if (--budget < 0) {
+            throw ErrorMessages.HINT_INTERRUPTED.exception();
+        }
+        final int buildable = position.buildable();
+        double best = LOST;
+        for (final Item item : RESCUES) {
+            if ((buildable & item.getMask()) != 0) {
+                best = Math.max(best, build(position, item));
+                if (best == WON) {
+                    table.put(low, high, best);
+                    return best;
+                }
+            }
+        }
+        if (position.cursor < deck.length) {
+            best = Math.max(best, draw(position));
+        }
+        for (final Item item : ITEMS) {
+            if (best == WON) {
+                break;
+            }
+            if ((buildable & item.getMask()) != 0 && item.getCategory() != ItemCategory.RESCUES
+                    && isWorthBuilding(position, item)) {
+                best = Math.max(best, build(position, item));
+            }
+        }
+        table.put(low, high, best);
+        return best;
+    }
+
+    /**
+     * Returns <code>false</code> if building the given {@code item} cannot help. Apart from the fireplace,
+     * tools and buildings only matter while an animal or a catastrophe is left in the card deck. Even an item
+     * without any effect on the fight may help then, because it changes which resources the shack keeps.
+     * Otherwise such an item would only cost resources.
+     *
+     * @param position of the stage scavenge
+     * @param item that is no rescue
+     * @return <code>false</code> if building the item is pointless
+     */
+    private boolean isWorthBuilding(Position position, Item item) {
+        return item == Item.FIREPLACE || hazardsAhead[position.cursor];
+    }
+
+    /**
+     * Returns <code>true</code> if at least one rescue could be paid for with the resources in hand and the
+     * resources left in the card deck. This is an upper bound, it ignores the fireplace and all dangers.
+     *
+     * @param position to be checked
+     * @return <code>false</code> if the position is certainly lost
+     */
+    private boolean canStillEscape(Position position) {
+        final int[] amounts = position.amounts();
+        for (int type = 0; type < ResourceStore.TYPES; type++) {
+            amounts[type] += resourcesAhead[position.cursor][type];
+        }
+        for (final Item item : RESCUES) {
+            if ((position.inventory & item.getMask()) == 0
+                    && (RecipeTable.buildable(amounts, position.inventory | Item.FIREPLACE.getMask())
+                    & item.getMask()) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes the probability to win after drawing the next card.
+     *
+     * @param position of the stage scavenge
+     * @return the probability to win
+     * @throws LogicException if the budget is used up
+     */
+    private double draw(Position position) throws LogicException {
+        final PlayingCard card = deck[position.cursor];
+        final Position next = position.copy();
+        next.cursor++;
+        switch (card.getCategory()) {
+            case RESOURCES:
+                next.add(card);
+                return scavenge(next);
+            case CATASTROPHE:
+                next.inventory &= ~Item.FIREPLACE.getMask();
+                next.removeResources();
+                return scavenge(next);
+            default:
+                next.state = State.ENCOUNTER;
+                return encounter(next);
+        }
+    }
+
+    /**
+     * Computes the probability to win after building the given {@code item}.
+     *
+     * @param position of the stage scavenge
+     * @param item to be built
+     * @return the probability to win
+     * @throws LogicException if the budget is used up
+     */
+    private double build(Position position, Item item) throws LogicException {
+        final Position next = position.copy();
+        next.inventory |= item.getMask();
+        for (final PlayingCard required : item.getRequiredCards()) {
+            next.removeLastOccurrence(required);
+        }
+        if (item.getCategory() != ItemCategory.RESCUES) {
+            return scavenge(next);
+        }
+        if (!item.requiresDice()) {
+            return WON;
+        }
+        next.state = State.ENDEAVOR;
+        return endeavor(next);
+    }
+
+    /**
+     * Computes the probability to win a fight against the last drawn animal, averaged over the dice.
+     *
+     * @param position of the stage encounter
+     * @return the probability to win
+     * @throws LogicException if the budget is used up
+     */
+    private double encounter(Position position) throws LogicException {
+        final PlayingCard card = deck[position.cursor - 1];
+        final int size = card.getDiceSize().get();
+        final int bonus = CardGame.bonusOf(position.inventory);
+        int survivals = 0;
+        for (int diced = 1; diced <= size; diced++) {
+            if (CardGame.survives(card, diced + bonus)) {
+                survivals++;
+            }
+        }
+        final Position next = position.copy();
+        next.state = State.SCAVENGE;
+        double value = survivals == 0 ? LOST : survivals * scavenge(next);
+        if (survivals < size) {
+            final Position defeated = next.copy();
+            defeated.removeResources();
+            value += (size - survivals) * scavenge(defeated);
+        }
+        return value / size;
+    }
+
+    /**
+     * Computes the probability to win an endeavor, averaged over the dice.
+     *
+     * @param position of the stage endeavor
+     * @return the probability to win
+     * @throws LogicException if the budget is used up
+     */
+    private double endeavor(Position position) throws LogicException {
+        final int size = lastDiceSize(position.inventory);
+        final Position next = position.copy();
+        next.state = State.SCAVENGE;
+        double value = 0;
+        for (int diced = 1; diced <= size; diced++) {
+            final State state = State.ENDEAVOR.next(size, diced);
+            if (state == State.WIN) {
+                // The game checks whether it is lost before it notices the win, see CardGame#setDiced
+                value += position.cursor == deck.length && next.buildable() == 0 ? LOST : WON;
+            } else {
+                value += scavenge(next);
+            }
+        }
+        return value / size;
+    }
+
+    /**
+     * A mutable position of the search. Positions are copied before they are altered,
+     * so every position on the stack of the search stays intact.
+     */
+    private static final class Position {
+        private int cursor;
+        private State state;
+        private int inventory;
+        /**
+         * Resource types from the oldest to the newest one.
+         */
+        private byte[] resources;
+
+        /**
+         * Creates a new position.
+         *
+         * @param cursor index of the next card to be drawn
+         * @param state stage of the game
+         * @param inventory bitmask of the items the player owns
+         * @param resources types from the oldest to the newest one
+         */
+        Position(int cursor, State state, int inventory, byte[] resources) {
+            this.cursor = cursor;
+            this.state = state;
+            this.inventory = inventory;
+            this.resources = resources;
+        }
+
+        /**
+         * Creates a copy of this position.
+         *
+         * @return the copy
+         */
+        Position copy() {
+            return new Position(cursor, state, inventory, resources);
+        }
+
+        /**
+         * Gets the amount of resources per type.
+         *
+         * @return a new array of the amounts
+         */
+        int[] amounts() {
+            final int[] amounts = new int[ResourceStore.TYPES];
+            for (final byte type : resources) {
+                amounts[type]++;
+            }
+            return amounts;
+        }
+
+        /**
+         * Gets the bitmask of all items that can be built.
+         *
+         * @return the bitmask of all buildable items
+         */
+        int buildable() {
+            return RecipeTable.buildable(amounts(), inventory);
+        }
+
+        /**
+         * Adds the given resource {@code card} as the newest resource.
+         *
+         * @param card to be added
+         */
+        void add(PlayingCard card) {
+            resources = Arrays.copyOf(resources, resources.length + 1);
+            resources[resources.length - 1] = (byte) ResourceStore.indexOf(card);
+        }
+
+        /**
+         * Removes the newest resource of the given type.
+         *
+         * @param card type of the resource
+         */
+        void removeLastOccurrence(PlayingCard card) {
+            final int type = ResourceStore.indexOf(card);
+            for (int i = resources.length - 1; i >= 0; i--) {
+                if (resources[i] == type) {
+                    final byte[] remaining = new byte[resources.length - 1];
+                    System.arraycopy(resources, 0, remaining, 0, i);
+                    System.arraycopy(resources, i + 1, remaining, i, remaining.length - i);
+                    resources = remaining;
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Removes all resources except those stored in the {@link Item#SHACK shack}.
+         */
+        void removeResources() {
+            if ((inventory & Item.SHACK.getMask()) != 0 && resources.length > CardGame.SHACK_CAPACITY) {
+                resources = Arrays.copyOfRange(resources, resources.length - CardGame.SHACK_CAPACITY,
+                        resources.length);
+            } else if ((inventory & Item.SHACK.getMask()) == 0) {
+                resources = new byte[0];
+            }
+        }
+
+        /**
+         * Creates a copy of this position whose resources are sorted by their type.
+         * This is done once their order cannot matter anymore.
+         *
+         * @return the sorted copy
+         */
+        Position sorted() {
+            final byte[] sorted = resources.clone();
+            Arrays.sort(sorted);
+            return new Position(cursor, state, inventory, sorted);
+        }
+
+        /**
+         * Gets the low part of the key, which are the oldest resources two bits each.
+         *
+         * @return the low part of the key
+         */
+        long keyLow() {
+            return pack(0);
+        }
+
+        /**
+         * Gets the high part of the key, which are the remaining resources and the rest of the position.
+         * The highest bit is always set, so that the high part of a key is never zero.
+         *
+         * @return the high part of the key
+         */
+        long keyHigh() {
+            return pack(Long.SIZE / 2) | (long) resources.length << 32 | (long) cursor << 38
+                    | (long) inventory << 45 | (long) state.ordinal() << 53 | Long.MIN_VALUE;
+        }
+
+        /**
+         * Packs up to 32 resources into a long, two bits each.
+         *
+         * @param from index of the first resource to be packed
+         * @return the packed resources
+         */
+        private long pack(int from) {
+            long packed = 0;
+            for (int i = from; i < Math.min(resources.length, from + Long.SIZE / 2); i++) {
+                packed |= (long) (resources[i] + 1) << 2 * (i - from);
+            }
+            return packed;
+        }
+    }
+
+    /**
+     * Memoises the probabilities to win of positions, stored with open addressing.
+     */
+    private static final class TranspositionTable {
+        private static final int INITIAL_CAPACITY = 1 << 12;
+        /**
+         * Largest capacity, which takes 24 MiB. A full table is cleared instead of growing further, since the
+         * table is kept as long as its card deck is played.
+         */
+        private static final int MAX_CAPACITY = 1 << 20;
+        private long[] lows = new long[INITIAL_CAPACITY];
+        private long[] highs = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size;
+
+        /**
+         * Gets the probability to win of the position with the given key.
+         *
+         * @param low part of the key
+         * @param high part of the key
+         * @return the probability to win or a negative number if the position is unknown
+         */
+        double get(long low, long high) {
+            final int mask = lows.length - 1;
+            for (int slot = hash(low, high) & mask; highs[slot] != 0; slot = (slot + 1) & mask) {
+                if (lows[slot] == low && highs[slot] == high) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Stores the probability to win of the position with the given key.
+         *
+         * @param low part of the key
+         * @param high part of the key, never zero
+         * @param value probability to win
+         */
+        void put(long low, long high, double value) {
+            if (2 * (size + 1) > lows.length) {
+                if (lows.length == MAX_CAPACITY) {
+                    clear();
+                } else {
+                    grow();
+                }
+            }
+            final int mask = lows.length - 1;
+            int slot = hash(low, high) & mask;
+            while (highs[slot] != 0 && (lows[slot] != low || highs[slot] != high)) {
+                slot = (slot + 1) & mask;
+            }
+            if (highs[slot] == 0) {
+                size++;
+            }
+            lows[slot] = low;
+            highs[slot] = high;
+            values[slot] = value;
+        }
+
+        /**
+         * Removes all positions.
+         */
+        private void clear() {
+            Arrays.fill(highs, 0);
+            size = 0;
+        }
+
+        /**
+         * Doubles the capacity of the table.
+         */
+        private void grow() {
+            final long[] oldLows = lows;
+            final long[] oldHighs = highs;
+            final double[] oldValues = values;
+            lows = new long[oldLows.length * 2];
+            highs = new long[oldLows.length * 2];
+            values = new double[oldLows.length * 2];
+            size = 0;
+            for (int i = 0; i < oldLows.length; i++) {
+                if (oldHighs[i] != 0) {
+                    put(oldLows[i], oldHighs[i], oldValues[i]);
+                }
+            }
+        }
+
+        /**
+         * Mixes both parts of a key into a hash.
+         *
+         * @param low part of the key
+         * @param high part of the key
+         * @return the hash of the key
+         */
+        private static int hash(long low, long high) {
+            final long mixed = (low * 0x9E3779B97F4A7C15L ^ high) * 0xBF58476D1CE4E5B9L;
+            return (int) (mixed ^ mixed >>> 32);
+        }
+    }
+}
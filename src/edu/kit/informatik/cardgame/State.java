@@ -1,6 +1,11 @@
 package edu.kit.informatik.cardgame;
 
-import edu.kit.informatik.exception.LogicException;
+/*
+The rules are compiled into flat transition tables once, so a transition is a single array access instead of
+a virtual call with a switch statement. A transition that the rules do not allow is null in the tables,
+which is returned as it is: probing invalid moves is common in simulations, and creating an exception
+for each of them would cost far more than the move itself. The CardGame decides which error to report.
+ */
 
 /**
  * Saves the state of the {@link CardGame}, which consists of the state and the expected next action.
@@ -14,62 +19,16 @@ enum State {
     /**
      * At the beginning of the {@link CardGame} the player has the opportunity to draw cards and build items.
      */
-    SCAVENGE {
-        @Override
-        public State next(PlayingCard card) throws LogicException {
-            switch (card.getCategory()) {
-                case ANIMALS:
-                    return State.ENCOUNTER;
-                case RESOURCES:
-                case CATASTROPHE:
-                    return this;
-                default:
-                    throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
-            }
-        }
-
-        @Override
-        public State next(Item item) {
-            switch (item) {
-                case BALLON:
-                case STEAMBOAT:
-                    return State.WIN;
-                case HANGGLIDER:
-                case SAILINGRAFT:
-                    return State.ENDEAVOR;
-                default:
-                    return this;
-            }
-        }
-    },
+    SCAVENGE,
     /**
      * If an {@link Item} has been built of the {@link ItemCategory#RESCUES} category,
      * the dice must usually be thrown to decide whether a rescue takes place.
      */
-    ENDEAVOR {
-        /*
-        This was implemented in this way, because it is a rule of the game.
-         */
-        @Override
-        public State next(int size, int diced) throws LogicException {
-            if (size == 6) {
-                return diced < 4 ? State.SCAVENGE : State.WIN;
-            }
-            throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
-        }
-    },
+    ENDEAVOR,
     /**
      * When a card of the category {@link CardCategory#ANIMALS} is drawn, the player must fight it.
      */
-    ENCOUNTER {
-        @Override
-        public State next(int size, int diced) throws LogicException {
-            if (size == 4 || size == 6 || size == 8) {
-                return State.SCAVENGE;
-            }
-            throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
-        }
-    },
+    ENCOUNTER,
     /**
      * The game is lost and the player cannot continue.
      */
@@ -79,26 +38,112 @@ enum State {
      */
     WIN;
 
+    private static final State[] STATES = values();
+    private static final int CATEGORIES = CardCategory.values().length;
+    private static final Item[] ITEMS = Item.values();
+    /**
+     * Largest size of a dice that is used in the game.
+     */
+    private static final int MAX_DICE_SIZE = 8;
+    /**
+     * Lowest number that rescues the player in an endeavor.
+     */
+    private static final int RESCUE_NUMBER = 4;
+    /**
+     * Next state after a card of a category has been drawn, indexed by the state and the category.
+     */
+    private static final State[] AFTER_CARD = new State[STATES.length * CATEGORIES];
+    /**
+     * Next state after an item has been built, indexed by the state and the item.
+     */
+    private static final State[] AFTER_ITEM = new State[STATES.length * ITEMS.length];
+    /**
+     * Next state after the dice have been rolled, indexed by the state, the size of the dice and
+     * whether the diced number is at least the {@link #RESCUE_NUMBER}.
+     */
+    private static final State[] AFTER_DICE = new State[STATES.length * (MAX_DICE_SIZE + 1) * 2];
+
+    /* This was implemented in this way, because these are the rules of the game.*/
+    static {
+        SCAVENGE.afterCard(CardCategory.RESOURCES, SCAVENGE);
+        SCAVENGE.afterCard(CardCategory.CATASTROPHE, SCAVENGE);
+        SCAVENGE.afterCard(CardCategory.ANIMALS, ENCOUNTER);
+        for (final Item item : ITEMS) {
+            if (item.getCategory() != ItemCategory.RESCUES) {
+                SCAVENGE.afterItem(item, SCAVENGE);
+            } else {
+                // Rescues without a dice rescue the player at once
+                SCAVENGE.afterItem(item, item.requiresDice() ? ENDEAVOR : WIN);
+            }
+        }
+        ENDEAVOR.afterDice(6, false, SCAVENGE);
+        ENDEAVOR.afterDice(6, true, WIN);
+        for (final int size : new int[] {4, 6, 8}) {
+            ENCOUNTER.afterDice(size, false, SCAVENGE);
+            ENCOUNTER.afterDice(size, true, SCAVENGE);
+        }
+    }
+
+    /**
+     * Adds the transition after a card of the given {@code category} has been drawn.
+     *
+     * @param category of the drawn card
+     * @param next state
+     */
+    private void afterCard(CardCategory category, State next) {
+        AFTER_CARD[ordinal() * CATEGORIES + category.ordinal()] = next;
+    }
+
+    /**
+     * Adds the transition after the given {@code item} has been built.
+     *
+     * @param item that was built
+     * @param next state
+     */
+    private void afterItem(Item item, State next) {
+        AFTER_ITEM[ordinal() * ITEMS.length + item.ordinal()] = next;
+    }
+
+    /**
+     * Adds the transition after a dice of the given {@code size} has been rolled.
+     *
+     * @param size of the dice
+     * @param rescued whether the diced number is at least the {@link #RESCUE_NUMBER}
+     * @param next state
+     */
+    private void afterDice(int size, boolean rescued, State next) {
+        AFTER_DICE[diceIndex(size, rescued)] = next;
+    }
+
+    /**
+     * Gets the index of a transition after the dice have been rolled.
+     *
+     * @param size of the dice
+     * @param rescued whether the diced number is at least the {@link #RESCUE_NUMBER}
+     * @return the index in {@link #AFTER_DICE}
+     */
+    private int diceIndex(int size, boolean rescued) {
+        return (ordinal() * (MAX_DICE_SIZE + 1) + size) * 2 + (rescued ? 1 : 0);
+    }
+
     /**
      * This method is invoked in order to go further in the {@link CardGame}.
      *
      * @param card last drawn card
-     * @return the next state
-     * @throws LogicException if no valid state can be reached
+     * @return the next state or null if no valid state can be reached
      */
-    public State next(PlayingCard card) throws LogicException {
-        throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
+    public State next(PlayingCard card) {
+        return AFTER_CARD[ordinal() * CATEGORIES + card.getCategory().ordinal()];
     }
 
     /**
      * This method is invoked in order to go further in the {@link CardGame}.
      *
      * @param item that was built
-     * @return the next state
-     * @throws LogicException if no valid state can be reached
+     * @return the next state or null if no valid state can be reached
      */
-    public State next(Item item) throws LogicException {
-        throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
+    public State next(Item item) {
+        return AFTER_ITEM[ordinal() * ITEMS.length + item.ordinal()];
     }
 
     /**
@@ -106,10 +151,12 @@ enum State {
      *
      * @param size of the dice
      * @param diced number
-     * @return the next state
-     * @throws LogicException if no valid state can be reached
+     * @return the next state or null if no valid state can be reached
      */
-    public State next(int size, int diced) throws LogicException {
-        throw new LogicException(ErrorMessages.NO_VALID_NEXT_STAGE.toString());
+    public State next(int size, int diced) {
+        if (size < 0 || size > MAX_DICE_SIZE) {
+            return null;
+        }
+        return AFTER_DICE[diceIndex(size, diced >= RESCUE_NUMBER)];
     }
-}
\ No newline at end of file
+}
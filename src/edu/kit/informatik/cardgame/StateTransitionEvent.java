@@ -0,0 +1,43 @@
+package edu.kit.informatik.cardgame;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of a change of the {@link State} of a card game.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.StateTransition")
+@Label("State Transition")
+@Category(DrawEvent.CATEGORY)
+@Description("The state of a card game has changed")
+@Enabled(false)
+@StackTrace(false)
+final class StateTransitionEvent extends Event {
+    @Label("State Before")
+    private String from;
+    @Label("State After")
+    private String to;
+
+    /**
+     * Commits a new event if it is enabled.
+     *
+     * @param before state of the game before the transition
+     * @param after state of the game after the transition
+     */
+    static void commit(State before, State after) {
+        final StateTransitionEvent event = new StateTransitionEvent();
+        if (event.shouldCommit()) {
+            event.from = String.valueOf(before);
+            event.to = String.valueOf(after);
+            event.commit();
+        }
+    }
+}
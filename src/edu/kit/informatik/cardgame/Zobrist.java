@@ -0,0 +1,131 @@
+package edu.kit.informatik.cardgame;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/*
+A Zobrist key is the exclusive or of one random number per feature of a position, so a move only has to remove
+the numbers of the features it changes and add the new ones. The features are the cursor, the state, every
+owned item and every resource at its index in the order of the resources. The whole order matters, because
+building removes the newest resources of a type and thereby moves older ones into the reach of a shack, so
+positions that only differ in the order of old resources may still be played out differently. The numbers are
+drawn from a fixed seed, so a key is the same in every run and can be stored.
+ */
+
+/**
+ * Computes the random numbers that make up the {@link CardGame#getPositionKey() position key} of a
+ * {@link CardGame}, and the key of a position from scratch.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class Zobrist {
+    private static final long SEED = 0x5DEECE66DL;
+    private static final long CURSOR_SEED = 0x2545F4914F6CDD1DL;
+    private static final State[] STATES = State.values();
+    private static final Item[] ITEMS = Item.values();
+    private static final long[] STATE_KEYS;
+    /**
+     * Exclusive or of the numbers of all items, indexed by the bitmask of the items.
+     */
+    private static final long[] INVENTORY_KEYS = new long[1 << ITEMS.length];
+    /**
+     * Numbers of a resource at an index in the order, indexed by the index times the number of types plus
+     * the type.
+     */
+    private static final long[] SLOT_KEYS;
+
+    static {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        STATE_KEYS = random.longs(STATES.length).toArray();
+        final long[] itemKeys = random.longs(ITEMS.length).toArray();
+        for (int inventory = 1; inventory < INVENTORY_KEYS.length; inventory++) {
+            final int lowest = Integer.numberOfTrailingZeros(inventory);
+            INVENTORY_KEYS[inventory] = INVENTORY_KEYS[inventory & inventory - 1] ^ itemKeys[lowest];
+        }
+        SLOT_KEYS = random.longs(ResourceStore.CAPACITY * ResourceStore.TYPES).toArray();
+    }
+
+    /**
+     * Utility-class constructor.
+     */
+    private Zobrist() {
+    }
+
+    /**
+     * Gets the number of the given {@code cursor}. The length of a card deck is not limited, so it is not
+     * taken from a table but mixed like the output of a {@link SplittableRandom}.
+     *
+     * @param cursor index of the top card
+     * @return the number of the cursor
+     */
+    static long cursor(int cursor) {
+        long mixed = CURSOR_SEED + cursor * 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ mixed >>> 30) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ mixed >>> 27) * 0x94D049BB133111EBL;
+        return mixed ^ mixed >>> 31;
+    }
+
+    /**
+     * Gets the number of the given {@code state}.
+     *
+     * @param state of the game or null if the game has not started yet
+     * @return the number of the state, 0 for null
+     */
+    static long state(State state) {
+        return state == null ? 0 : STATE_KEYS[state.ordinal()];
+    }
+
+    /**
+     * Gets the exclusive or of the numbers of all items in the given {@code inventory}. Since the numbers are
+     * combined with an exclusive or, the numbers of the items that changed between two inventories are the
+     * numbers of the exclusive or of both bitmasks.
+     *
+     * @param inventory bitmask of items
+     * @return the number of the items
+     */
+    static long items(int inventory) {
+        return INVENTORY_KEYS[inventory];
+    }
+
+    /**
+     * Gets the number of a resource of the given {@code type} at the given {@code index} in the order of
+     * the resources.
+     *
+     * @param index of the resource, counted from the oldest one
+     * @param type of the resource as returned by {@link ResourceStore#indexOf(PlayingCard)}
+     * @return the number of the resource at the index
+     */
+    static long slot(int index, int type) {
+        return SLOT_KEYS[index * ResourceStore.TYPES + type];
+    }
+
+    /**
+     * Gets the number of the given {@code resources}, which is the exclusive or of the numbers of every
+     * resource at its index.
+     *
+     * @param resources of the player
+     * @return the number of the resources
+     */
+    static long resources(ResourceStore resources) {
+        return resources.getKey();
+    }
+
+    /**
+     * Computes the key of a position from scratch, without any of the numbers that a {@link CardGame}
+     * maintains while it is played.
+     *
+     * @param cursor index of the top card
+     * @param state of the game or null if the game has not started yet
+     * @param resources of the player, from the oldest to the newest one
+     * @param inventory bitmask of the items of the player
+     * @return the key of the position
+     */
+    static long of(int cursor, State state, List<PlayingCard> resources, int inventory) {
+        long key = cursor(cursor) ^ state(state) ^ items(inventory);
+        for (int index = 0; index < resources.size(); index++) {
+            key ^= slot(index, ResourceStore.indexOf(resources.get(index)));
+        }
+        return key;
+    }
+}
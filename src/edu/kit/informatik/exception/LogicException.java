@@ -16,4 +16,16 @@ public class LogicException extends Exception {
     public LogicException(final String message) {
         super(message);
     }
+
+    /**
+     * Creates a new LogicException with the given detailed message, which optionally has no stack trace.
+     * An exception without stack trace is cheap to throw and can be created once and thrown again and again,
+     * because it has no state that depends on where it is thrown.
+     *
+     * @param message some detailed error message (null is not allowed)
+     * @param writableStackTrace whether the stack trace is filled in
+     */
+    public LogicException(final String message, final boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,68 @@
+package edu.kit.informatik.journal;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * The entry point of the journal analysis. It expects the directory of a journal and optionally the number
+ * of a game as command line arguments. Without a game it prints a summary of all games in the journal,
+ * otherwise the commands of the given game.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class JournalMain {
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private JournalMain() {
+    }
+
+    /**
+     * Replays the journal and prints the summary or the commands of a game.
+     *
+     * @param args the directory of the journal and optionally the number of a game
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final int selected;
+        try {
+            selected = args.length == 2 ? Integer.parseInt(args[1]) : -1;
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (args.length == 2 && selected < 0) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final Transcript transcript = new Transcript();
+        try {
+            final JournalReader reader = new JournalReader(Paths.get(args[0]),
+                    game -> game == selected ? transcript : null);
+            final List<CardGame> games = reader.replay();
+            transcript.flush();
+            if (selected < 0) {
+                final long won = games.stream().filter(CardGame::isWon).count();
+                final long lost = games.stream().filter(CardGame::isLost).count();
+                Terminal.printLine(String.format("games: %d, won: %d, lost: %d, records: %d, bytes: %d",
+                        games.size(), won, lost, reader.getRecords(), reader.getBytes()));
+            } else if (selected >= games.size()) {
+                Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            }
+        } catch (final IOException | InvalidPathException e) {
+            Terminal.printError(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package edu.kit.informatik.journal;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+import edu.kit.informatik.exception.LogicException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Replays a journal that was written by a {@link JournalWriter}. Every recorded game is played again by a new
+ * {@link CardGame}, so an observer of the replayed game is notified exactly like the observer of the original one.
+ * Games are numbered in the order of their first record in the journal.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class JournalReader {
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = (1 << VARINT_BITS) - 1;
+    private static final int VARINT_CONTINUATION = 1 << VARINT_BITS;
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    private static final Item[] ITEMS = Item.values();
+    private final Path directory;
+    private final IntFunction<GameObserver> observers;
+    /**
+     * All replayed games by their number.
+     */
+    private final List<Replay> games = new ArrayList<>();
+    /**
+     * Games of the current writer by the id it has given them.
+     */
+    private final Map<Integer, Replay> gamesOfWriter = new HashMap<>();
+    private Replay current;
+    private long records;
+    private long bytes;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param directory of the journal
+     * @param observers creates the observer of the replayed game with the given number, which may be null
+     */
+    public JournalReader(Path directory, IntFunction<GameObserver> observers) {
+        this.directory = directory;
+        this.observers = observers;
+    }
+
+    /**
+     * Replays all segments of the journal.
+     *
+     * @return the replayed games in their final position, by their number
+     * @throws IOException if a segment cannot be read or is corrupt
+     */
+    public List<CardGame> replay() throws IOException {
+        for (final Path segment : Segments.list(directory)) {
+            final MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            // Records of one game never span two segments, but the game may be continued in the next one
+            current = null;
+            while (buffer.hasRemaining()) {
+                final int start = buffer.position();
+                try {
+                    if (!replayRecord(buffer)) {
+                        break;
+                    }
+                } catch (final LogicException | IllegalArgumentException | IndexOutOfBoundsException
+                        | BufferUnderflowException e) {
+                    throw new IOException("corrupt record at byte " + start + " of " + segment, e);
+                }
+                records++;
+                bytes += buffer.position() - start;
+            }
+        }
+        final List<CardGame> replayed = new ArrayList<>(games.size());
+        for (final Replay replay : games) {
+            replayed.add(replay.game);
+        }
+        return replayed;
+    }
+
+    /**
+     * Replays the next record.
+     *
+     * @param buffer positioned at the tag of the record
+     * @return <code>false</code> if the end of the segment has been reached
+     * @throws LogicException if the recorded move cannot be replayed
+     * @throws IllegalArgumentException if the record is invalid
+     */
+    private boolean replayRecord(MappedByteBuffer buffer) throws LogicException {
+        final byte tag = buffer.get();
+        final RecordType type = RecordType.of(tag);
+        if (type == null) {
+            throw new IllegalArgumentException("invalid tag");
+        }
+        final int operand = RecordType.operandOf(tag);
+        switch (type) {
+            case END:
+                return false;
+            case OPEN:
+                gamesOfWriter.clear();
+                current = null;
+                return true;
+            case GAME:
+                current = gamesOfWriter.computeIfAbsent(getVarint(buffer), id -> {
+                    final Replay replay = new Replay(observers.apply(games.size()));
+                    games.add(replay);
+                    return replay;
+                });
+                return true;
+            default:
+                break;
+        }
+        if (current == null) {
+            throw new IllegalArgumentException("record without game");
+        }
+        switch (type) {
+            case DECK:
+                current.setCardDeck(getCardDeck(buffer));
+                break;
+            case DRAW:
+                for (int i = 0; i <= operand; i++) {
+                    current.game.draw();
+                }
+                break;
+            case BUILD:
+                current.game.build(ITEMS[operand]);
+                break;
+            case DICE:
+                current.game.setDiced(getVarint(buffer), operand);
+                break;
+            case RESET:
+                current.game.resetGame();
+                break;
+            case RESTORE:
+                current.game.restore(Snapshot.decode(buffer, current.cardDeck));
+                break;
+            default:
+                throw new IllegalArgumentException("invalid tag");
+        }
+        return true;
+    }
+
+    /**
+     * Reads a card deck with two cards per byte, the first one in the lower four bits.
+     *
+     * @param buffer to read from
+     * @return the read card deck
+     * @throws IllegalArgumentException if the length of the card deck is invalid
+     */
+    private static PlayingCard[] getCardDeck(MappedByteBuffer buffer) {
+        final int length = getVarint(buffer);
+        if (length < 0 || length > 2 * buffer.remaining()) {
+            throw new IllegalArgumentException("invalid card deck");
+        }
+        final PlayingCard[] cardDeck = new PlayingCard[length];
+        for (int i = 0; i < cardDeck.length; i += 2) {
+            final byte cards = buffer.get();
+            cardDeck[i] = CARDS[RecordType.operandOf(cards)];
+            if (i + 1 < cardDeck.length) {
+                cardDeck[i + 1] = CARDS[(cards & 0xFF) >>> RecordType.OPERAND_BITS];
+            }
+        }
+        return cardDeck;
+    }
+
+    /**
+     * Reads a non-negative int with seven bits per byte, the least significant ones first.
+     *
+     * @param buffer to read from
+     * @return the read int
+     * @throws IllegalArgumentException if the int is longer than five bytes
+     */
+    private static int getVarint(MappedByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += VARINT_BITS) {
+            final byte next = buffer.get();
+            value |= (next & VARINT_MASK) << shift;
+            if ((next & VARINT_CONTINUATION) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("invalid varint");
+    }
+
+    /**
+     * Gets the number of records that have been replayed.
+     *
+     * @return the number of records
+     */
+    public long getRecords() {
+        return records;
+    }
+
+    /**
+     * Gets the size of all records that have been replayed.
+     *
+     * @return the number of bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * A game that is replayed.
+     */
+    private static final class Replay {
+        private final GameObserver observer;
+        private CardGame game = new CardGame();
+        /**
+         * Card deck of the last card deck record.
+         */
+        private PlayingCard[] cardDeck = new PlayingCard[0];
+
+        /**
+         * Creates a new replay.
+         *
+         * @param observer of the replayed game or null
+         */
+        Replay(GameObserver observer) {
+            this.observer = observer;
+            game.setObserver(observer);
+        }
+
+        /**
+         * Sets a new card deck. The card deck of an active game can only be replaced by restoring a snapshot,
+         * which is recorded right after it, so an active game is replaced by a new one.
+         *
+         * @param cardDeck to be set
+         * @throws LogicException if the card deck cannot be set
+         */
+        void setCardDeck(PlayingCard[] cardDeck) throws LogicException {
+            if (game.isActive()) {
+                game = new CardGame();
+                game.setObserver(observer);
+            }
+            game.setCardDeck(cardDeck);
+            this.cardDeck = cardDeck;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package edu.kit.informatik.journal;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/*
+Recording a move has to be cheap enough to be done on every call of a card game, so the journal is written
+into a memory-mapped segment file: a record is a few plain stores into memory, there is neither a system call
+nor a copy, and the operating system writes the pages back in the background, even if the JVM crashes.
+A record does not repeat what follows from the card deck. A draw does not store the drawn card, and
+consecutive draws only increment the count in the tag of the last record, so a whole game takes the card deck
+with two cards per byte plus a few bytes for the builds and the dice.
+The tag of a record is written after its payload. Unwritten bytes are zero, which reads as the end of the
+segment, so a record that was cut off by a crash is never read as a valid one.
+A new segment is started when a record could exceed the current one. Records of different games may be
+interleaved, but a game record only precedes them when the game changes, which never happens with a single game.
+Every writer numbers its games from zero and marks where it begins, so a journal can be appended to many times.
+ */
+
+/**
+ * Appends the moves of {@link CardGame card games} to a journal of memory-mapped segment files in a directory.
+ * A writer is not thread-safe, all games that are attached to it have to be played on the same thread.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class JournalWriter implements Closeable {
+    /**
+     * Size of a segment file in bytes if none is given.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 22;
+    /**
+     * Minimum size of a segment file in bytes, which is enough for any record of a card deck of 64 cards.
+     */
+    public static final int MIN_SEGMENT_SIZE = 1 << 12;
+    /**
+     * Maximum number of bytes of a variable-length int.
+     */
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = (1 << VARINT_BITS) - 1;
+    private static final int VARINT_CONTINUATION = 1 << VARINT_BITS;
+    /**
+     * Maximum size of a game record.
+     */
+    private static final int MAX_GAME_RECORD_SIZE = 1 + MAX_VARINT_SIZE;
+    private final Path directory;
+    private final int segmentSize;
+    private MappedByteBuffer segment;
+    private int segmentIndex;
+    /**
+     * Id of the game the last record belongs to or -1 if the segment has no record yet.
+     */
+    private int currentGame = -1;
+    /**
+     * Position of the tag of the last record if it is a draw record, otherwise -1.
+     */
+    private int lastDraw = -1;
+    private int nextGame;
+
+    /**
+     * Creates a new writer with segments of the {@link #DEFAULT_SEGMENT_SIZE default size}.
+     *
+     * @param directory of the journal, which is created if it does not exist
+     * @throws IOException if the directory or the first segment cannot be created
+     */
+    public JournalWriter(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new writer. Existing segments of the journal are kept, the writer starts a new segment after them.
+     *
+     * @param directory of the journal, which is created if it does not exist
+     * @param segmentSize size of a segment file in bytes
+     * @throws IOException if the directory or the first segment cannot be created
+     * @throws IllegalArgumentException if the segment size is less than {@link #MIN_SEGMENT_SIZE}
+     */
+    public JournalWriter(Path directory, int segmentSize) throws IOException {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("the segment size must be at least " + MIN_SEGMENT_SIZE);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        final List<Path> segments = Segments.list(directory);
+        this.segmentIndex = segments.isEmpty() ? 0 : Segments.indexOf(segments.get(segments.size() - 1)) + 1;
+        map();
+        segment.put(RecordType.OPEN.tag(0));
+    }
+
+    /**
+     * Records all moves of the given {@code game} from now on. The game should be attached before its first
+     * card deck is set, otherwise the journal cannot be replayed.
+     *
+     * @param game to be recorded
+     */
+    public void attach(CardGame game) {
+        game.addObserver(new Recorder(nextGame++));
+    }
+
+    /**
+     * Maps the next segment file.
+     *
+     * @throws IOException if the segment cannot be created
+     */
+    private void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(Segments.path(directory, segmentIndex),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segmentIndex++;
+        currentGame = -1;
+        lastDraw = -1;
+    }
+
+    /**
+     * Gets the maximum size of a record whose payload has at most the given size.
+     *
+     * @param payload maximum size of the payload
+     * @return the maximum size of the record
+     */
+    private static int maxRecordSize(int payload) {
+        return 1 + MAX_VARINT_SIZE + payload;
+    }
+
+    /**
+     * Starts a new record of the given game. A new segment is started if the record might not fit into the
+     * current one, and a game record is written if the last record belongs to another game.
+     *
+     * @param game id of the game
+     * @param maxSize maximum size of the record
+     * @return the position of the tag of the new record
+     * @throws UncheckedIOException if the next segment cannot be created
+     */
+    private int begin(int game, int maxSize) {
+        if (segment.remaining() < MAX_GAME_RECORD_SIZE + maxSize) {
+            try {
+                map();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (game != currentGame) {
+            final int tag = segment.position();
+            segment.position(tag + 1);
+            putVarint(game);
+            segment.put(tag, RecordType.GAME.tag(0));
+            currentGame = game;
+        }
+        lastDraw = -1;
+        final int tag = segment.position();
+        segment.position(tag + 1);
+        return tag;
+    }
+
+    /**
+     * Completes a record by writing its tag, after its payload has been written.
+     *
+     * @param tag position of the tag as returned by {@link #begin(int, int)}
+     * @param type of the record
+     * @param operand of the record
+     */
+    private void commit(int tag, RecordType type, int operand) {
+        segment.put(tag, type.tag(operand));
+    }
+
+    /**
+     * Writes a non-negative int with seven bits per byte, the least significant ones first.
+     *
+     * @param value to be written
+     */
+    private void putVarint(int value) {
+        int rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            segment.put((byte) (rest & VARINT_MASK | VARINT_CONTINUATION));
+            rest >>>= VARINT_BITS;
+        }
+        segment.put((byte) rest);
+    }
+
+    /**
+     * Forces all records onto the storage device and releases the current segment.
+     */
+    @Override
+    public void close() {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+    }
+
+    /**
+     * Records the moves of one game.
+     */
+    private final class Recorder implements GameObserver {
+        private final int game;
+
+        /**
+         * Creates a new recorder.
+         *
+         * @param game id of the game
+         */
+        Recorder(int game) {
+            this.game = game;
+        }
+
+        @Override
+        public void cardDeckSet(PlayingCard[] cardDeck) {
+            final int payload = (cardDeck.length + 1) / 2;
+            final int tag = begin(game, maxRecordSize(payload));
+            putVarint(cardDeck.length);
+            for (int i = 0; i < cardDeck.length; i += 2) {
+                final int second = i + 1 < cardDeck.length ? cardDeck[i + 1].ordinal() : 0;
+                segment.put((byte) (cardDeck[i].ordinal() | second << RecordType.OPERAND_BITS));
+            }
+            commit(tag, RecordType.DECK, 0);
+        }
+
+        @Override
+        public void drawn(PlayingCard card) {
+            if (lastDraw >= 0 && currentGame == game) {
+                final byte tag = segment.get(lastDraw);
+                if (RecordType.operandOf(tag) < RecordType.MAX_OPERAND) {
+                    segment.put(lastDraw, (byte) (tag + 1));
+                    return;
+                }
+            }
+            final int tag = begin(game, 1);
+            commit(tag, RecordType.DRAW, 0);
+            lastDraw = tag;
+        }
+
+        @Override
+        public void built(Item item) {
+            commit(begin(game, 1), RecordType.BUILD, item.ordinal());
+        }
+
+        @Override
+        public void diced(int size, int diced) {
+            final int tag = begin(game, maxRecordSize(0));
+            putVarint(size);
+            commit(tag, RecordType.DICE, diced);
+        }
+
+        @Override
+        public void reset() {
+            commit(begin(game, 1), RecordType.RESET, 0);
+        }
+
+        @Override
+        public void restored(Snapshot snapshot) {
+            final int tag = begin(game, 1 + Snapshot.ENCODED_SIZE);
+            snapshot.encode(segment);
+            commit(tag, RecordType.RESTORE, 0);
+        }
+    }
+}
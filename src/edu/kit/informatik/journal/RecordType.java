@@ -0,0 +1,94 @@
+package edu.kit.informatik.journal;
+
+/**
+ * Represents the type of a record in the journal. Every record starts with a tag byte whose upper four bits
+ * are the ordinal of its type and whose lower four bits are an operand of the record.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+enum RecordType {
+    /**
+     * Marks the end of the records in a segment. Unwritten bytes of a segment are zero, so they are read as end.
+     */
+    END,
+    /**
+     * A writer was opened. The ids of the games in the records before refer to other games than those after.
+     */
+    OPEN,
+    /**
+     * A new card deck was set. It is followed by the length of the card deck and its cards, two per byte.
+     */
+    DECK,
+    /**
+     * Cards were drawn. The operand is the number of consecutively drawn cards minus one.
+     */
+    DRAW,
+    /**
+     * An item was built. The operand is the ordinal of the item.
+     */
+    BUILD,
+    /**
+     * The dice were rolled. The operand is the diced number, it is followed by the size of the dice.
+     */
+    DICE,
+    /**
+     * The game was reset.
+     */
+    RESET,
+    /**
+     * The following records belong to another game. It is followed by the id of the game.
+     */
+    GAME,
+    /**
+     * A snapshot was restored. It is followed by the encoded snapshot.
+     */
+    RESTORE;
+
+    /**
+     * Number of bits of the operand in the tag byte.
+     */
+    static final int OPERAND_BITS = 4;
+    /**
+     * Largest operand that fits into the tag byte.
+     */
+    static final int MAX_OPERAND = (1 << OPERAND_BITS) - 1;
+    private static final RecordType[] TYPES = values();
+
+    /**
+     * Creates the tag byte of a record of this type.
+     *
+     * @param operand of the record between 0 and {@link #MAX_OPERAND}
+     * @return the tag byte
+     */
+    byte tag(int operand) {
+        assert (operand >= 0 && operand <= MAX_OPERAND);
+        return (byte) (ordinal() << OPERAND_BITS | operand);
+    }
+
+    /**
+     * Gets the type of the given {@code tag} byte.
+     *
+     * @param tag byte of a record
+     * @return the type of the record or null if the tag is invalid
+     */
+    static RecordType of(byte tag) {
+        final int ordinal = (tag & 0xFF) >>> OPERAND_BITS;
+        return ordinal < TYPES.length ? TYPES[ordinal] : null;
+    }
+
+    /**
+     * Gets the operand of the given {@code tag} byte.
+     *
+     * @param tag byte of a record
+     * @return the operand of the record
+     */
+    static int operandOf(byte tag) {
+        return tag & MAX_OPERAND;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase();
+    }
+}
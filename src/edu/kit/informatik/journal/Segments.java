@@ -0,0 +1,83 @@
+package edu.kit.informatik.journal;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Names and finds the segment files of a journal. Segments are numbered in the order they were written,
+ * and their names sort in the same order.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class Segments {
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".seg";
+    private static final String GLOB = PREFIX + "*" + SUFFIX;
+    /**
+     * Number of digits of the index in the name of a segment, enough for every int.
+     */
+    private static final int DIGITS = 10;
+    private static final String NAME_FORMAT = PREFIX + "%0" + DIGITS + "d" + SUFFIX;
+
+    /**
+     * Utility-class constructor.
+     */
+    private Segments() {
+    }
+
+    /**
+     * Gets the path of the segment with the given {@code index}.
+     *
+     * @param directory of the journal
+     * @param index of the segment
+     * @return the path of the segment
+     */
+    static Path path(Path directory, int index) {
+        return directory.resolve(String.format(NAME_FORMAT, index));
+    }
+
+    /**
+     * Lists all segments of a journal in the order they were written.
+     *
+     * @param directory of the journal
+     * @return the paths of all segments
+     * @throws IOException if the directory cannot be read
+     */
+    static List<Path> list(Path directory) throws IOException {
+        final List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, GLOB)) {
+            for (final Path segment : stream) {
+                if (indexOf(segment) >= 0) {
+                    segments.add(segment);
+                }
+            }
+        }
+        Collections.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Gets the index of the given {@code segment}.
+     *
+     * @param segment path of the segment
+     * @return the index of the segment or -1 if the path is not named like a segment
+     */
+    static int indexOf(Path segment) {
+        final String name = segment.getFileName().toString();
+        if (name.length() != PREFIX.length() + DIGITS + SUFFIX.length()
+                || !name.startsWith(PREFIX) || !name.endsWith(SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(PREFIX.length(), PREFIX.length() + DIGITS));
+        } catch (final NumberFormatException e) {
+            return -1;
+        }
+    }
+}
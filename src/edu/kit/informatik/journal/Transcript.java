@@ -0,0 +1,80 @@
+package edu.kit.informatik.journal;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Prints the moves of a replayed game as the commands of the command line interface that made them,
+ * so that the game can be played again by the command line interface.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class Transcript implements GameObserver {
+    /**
+     * Start command of the card deck that has been set last, which is only printed with the next move.
+     * Undoing the start command restores the previous card deck, which is not a start command of its own.
+     */
+    private String pendingStart;
+
+    @Override
+    public void cardDeckSet(PlayingCard[] cardDeck) {
+        flush();
+        pendingStart = "start" + InOutput.COMMAND_SEPARATOR + Arrays.stream(cardDeck)
+                .map(PlayingCard::toString)
+                .collect(Collectors.joining(InOutput.CARD_SEPARATOR.toString()));
+    }
+
+    @Override
+    public void drawn(PlayingCard card) {
+        print("draw");
+    }
+
+    @Override
+    public void built(Item item) {
+        print("build" + InOutput.COMMAND_SEPARATOR + item);
+    }
+
+    @Override
+    public void diced(int size, int diced) {
+        print("rollD" + size + InOutput.COMMAND_SEPARATOR + diced);
+    }
+
+    @Override
+    public void reset() {
+        print("reset");
+    }
+
+    @Override
+    public void restored(Snapshot snapshot) {
+        pendingStart = null;
+        print("undo");
+    }
+
+    /**
+     * Prints the given {@code command} after the pending start command.
+     *
+     * @param command to be printed
+     */
+    private void print(String command) {
+        flush();
+        Terminal.printLine(command);
+    }
+
+    /**
+     * Prints the pending start command, if there is one.
+     */
+    void flush() {
+        if (pendingStart != null) {
+            Terminal.printLine(pendingStart);
+            pendingStart = null;
+        }
+    }
+}
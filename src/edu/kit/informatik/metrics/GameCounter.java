@@ -0,0 +1,71 @@
+package edu.kit.informatik.metrics;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+
+/**
+ * Counts the {@link GameEvent events} of one card game. A game can only be won or lost by a move,
+ * after which no other move is possible, so every move that ends the game is counted exactly once.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class GameCounter implements GameObserver {
+    private final CardGame game;
+    private final Metrics metrics;
+
+    /**
+     * Creates a new counter.
+     *
+     * @param game to be observed
+     * @param metrics that count the events
+     */
+    GameCounter(CardGame game, Metrics metrics) {
+        this.game = game;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void cardDeckSet(PlayingCard[] cardDeck) {
+        metrics.count(GameEvent.STARTED);
+    }
+
+    @Override
+    public void drawn(PlayingCard card) {
+        countEnd();
+    }
+
+    @Override
+    public void built(Item item) {
+        countEnd();
+    }
+
+    @Override
+    public void diced(int size, int diced) {
+        countEnd();
+    }
+
+    @Override
+    public void reset() {
+        metrics.count(GameEvent.RESET);
+    }
+
+    // Undoing a move is no event of the game itself
+    @Override
+    public void restored(Snapshot snapshot) {
+    }
+
+    /**
+     * Counts the end of the game if the last move ended it.
+     */
+    private void countEnd() {
+        if (game.isWon()) {
+            metrics.count(GameEvent.WON);
+        } else if (game.isLost()) {
+            metrics.count(GameEvent.LOST);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package edu.kit.informatik.metrics;
+
+/**
+ * Events of a {@link edu.kit.informatik.cardgame.CardGame CardGame} that are counted by the {@link Metrics}.
+ * The name of an event should not be obtained via the {@link Enum#name()} method but via the
+ * {@link this#toString()} method.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public enum GameEvent {
+    /**
+     * A new card deck has been set.
+     */
+    STARTED("started"),
+    /**
+     * The game has been won.
+     */
+    WON("won"),
+    /**
+     * The game has been lost.
+     */
+    LOST("lost"),
+    /**
+     * The game has been reset.
+     */
+    RESET("reset");
+
+    private final String text;
+
+    /**
+     * @param text name of the event
+     */
+    GameEvent(String text) {
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,241 @@
+package edu.kit.informatik.metrics;
+
+import edu.kit.informatik.cardgame.CardGame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+The metrics are kept per command in arrays that are indexed like the names of the commands, so recording
+does not need to look anything up. Input that does not match any command is recorded under an additional
+name at the end. Everything is recorded with atomic operations, so one instance can be shared by all sessions
+of a server and read by the thread that exports it at any time.
+ */
+
+/**
+ * Latencies and errors of the commands of sessions and the {@link GameEvent events} of their card games.
+ * The latency of a command is split into parsing the user input and executing the parsed command.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Metrics {
+    /**
+     * Name under which input that does not match any command is recorded.
+     */
+    public static final String UNKNOWN_COMMAND = "unknown";
+    private static final double[] QUANTILES = {0.5, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final GameEvent[] EVENTS = GameEvent.values();
+    private final List<String> commands;
+    private final LatencyHistogram[] parseLatencies;
+    private final LatencyHistogram[] executeLatencies;
+    private final AtomicLongArray invalidInputErrors;
+    private final AtomicLongArray logicErrors;
+    private final AtomicLongArray events = new AtomicLongArray(EVENTS.length);
+
+    /**
+     * Creates new metrics for the given commands.
+     *
+     * @param commands names of the commands, the index of a name is the index of its command
+     */
+    public Metrics(List<String> commands) {
+        final List<String> names = new ArrayList<>(commands);
+        names.add(UNKNOWN_COMMAND);
+        this.commands = Collections.unmodifiableList(names);
+        this.parseLatencies = new LatencyHistogram[names.size()];
+        this.executeLatencies = new LatencyHistogram[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            parseLatencies[i] = new LatencyHistogram();
+            executeLatencies[i] = new LatencyHistogram();
+        }
+        this.invalidInputErrors = new AtomicLongArray(names.size());
+        this.logicErrors = new AtomicLongArray(names.size());
+    }
+
+    /**
+     * Counts the {@link GameEvent events} of the given {@code game} from now on.
+     *
+     * @param game to be observed
+     */
+    public void attach(CardGame game) {
+        game.addObserver(new GameCounter(game, this));
+    }
+
+    /**
+     * Gets the index that a command is recorded with.
+     *
+     * @param command index of the command or a negative number if the input matched no command
+     * @return the index of the command in the metrics
+     */
+    private int indexOf(int command) {
+        return command < 0 ? commands.size() - 1 : command;
+    }
+
+    /**
+     * Records the time it took to parse the input of a command, successful or not.
+     *
+     * @param command index of the command or a negative number if the input matched no command
+     * @param nanos latency in nanoseconds
+     */
+    public void recordParse(int command, long nanos) {
+        parseLatencies[indexOf(command)].record(nanos);
+    }
+
+    /**
+     * Records the time it took to execute a command, successful or not.
+     *
+     * @param command index of the command
+     * @param nanos latency in nanoseconds
+     */
+    public void recordExecute(int command, long nanos) {
+        executeLatencies[indexOf(command)].record(nanos);
+    }
+
+    /**
+     * Counts an {@link edu.kit.informatik.exception.InvalidInputException InvalidInputException} of a command.
+     *
+     * @param command index of the command or a negative number if the input matched no command
+     */
+    public void countInvalidInput(int command) {
+        invalidInputErrors.incrementAndGet(indexOf(command));
+    }
+
+    /**
+     * Counts a {@link edu.kit.informatik.exception.LogicException LogicException} of a command.
+     *
+     * @param command index of the command
+     */
+    public void countLogicError(int command) {
+        logicErrors.incrementAndGet(indexOf(command));
+    }
+
+    /**
+     * Counts an event of a card game.
+     *
+     * @param event that occurred
+     */
+    void count(GameEvent event) {
+        events.incrementAndGet(event.ordinal());
+    }
+
+    /**
+     * Gets how often the given event occurred.
+     *
+     * @param event of a card game
+     * @return the number of times it occurred
+     */
+    public long getCount(GameEvent event) {
+        return events.get(event.ordinal());
+    }
+
+    /**
+     * Creates a report with one line per command that has been called, which shows the number of calls,
+     * the errors and the 50th, 99th and 99.9th percentile and the maximum of the latencies of parsing and
+     * executing the command, followed by a line with the number of games and how often they were won, lost
+     * and reset.
+     *
+     * @return the lines of the report
+     */
+    public List<String> report() {
+        final List<String> lines = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            final long calls = parseLatencies[i].getCount();
+            if (calls > 0) {
+                lines.add(String.format("%s: calls: %d, invalid input: %d, logic: %d, parse ns: %s, execute ns: %s",
+                        commands.get(i), calls, invalidInputErrors.get(i), logicErrors.get(i),
+                        percentiles(parseLatencies[i]), percentiles(executeLatencies[i])));
+            }
+        }
+        lines.add(String.format("games: %d, won: %d, lost: %d, reset: %d", getCount(GameEvent.STARTED),
+                getCount(GameEvent.WON), getCount(GameEvent.LOST), getCount(GameEvent.RESET)));
+        return lines;
+    }
+
+    /**
+     * Formats the percentiles and the maximum of the given {@code histogram}, separated by slashes.
+     *
+     * @param histogram of latencies
+     * @return the formatted latencies
+     */
+    private static String percentiles(LatencyHistogram histogram) {
+        final StringBuilder builder = new StringBuilder();
+        for (final double quantile : QUANTILES) {
+            builder.append(histogram.getPercentile(quantile)).append('/');
+        }
+        return builder.append(histogram.getMax()).toString();
+    }
+
+    /**
+     * Appends all metrics in the text format of Prometheus. The latencies are summaries in seconds with the
+     * labels command and phase, the errors and events are counters.
+     *
+     * @param builder to append the metrics to
+     */
+    public void appendPrometheus(StringBuilder builder) {
+        builder.append("# HELP cardgame_command_seconds Latency of parsing and executing commands.\n")
+                .append("# TYPE cardgame_command_seconds summary\n");
+        for (int i = 0; i < commands.size(); i++) {
+            appendSummary(builder, commands.get(i), "parse", parseLatencies[i]);
+            appendSummary(builder, commands.get(i), "execute", executeLatencies[i]);
+        }
+        builder.append("# HELP cardgame_command_errors_total Commands that failed, by type of the exception.\n")
+                .append("# TYPE cardgame_command_errors_total counter\n");
+        for (int i = 0; i < commands.size(); i++) {
+            appendCounter(builder, "cardgame_command_errors_total{command=\"" + commands.get(i)
+                    + "\",type=\"invalid_input\"}", invalidInputErrors.get(i));
+            appendCounter(builder, "cardgame_command_errors_total{command=\"" + commands.get(i)
+                    + "\",type=\"logic\"}", logicErrors.get(i));
+        }
+        builder.append("# HELP cardgame_games_total Events of the card games.\n")
+                .append("# TYPE cardgame_games_total counter\n");
+        for (final GameEvent event : EVENTS) {
+            appendCounter(builder, "cardgame_games_total{event=\"" + event + "\"}", getCount(event));
+        }
+    }
+
+    /**
+     * Appends the summary of one histogram.
+     *
+     * @param builder to append the summary to
+     * @param command name of the command
+     * @param phase of the command
+     * @param histogram of the latencies
+     */
+    private static void appendSummary(StringBuilder builder, String command, String phase,
+                                      LatencyHistogram histogram) {
+        final String labels = "command=\"" + command + "\",phase=\"" + phase + "\"";
+        for (final double quantile : QUANTILES) {
+            builder.append("cardgame_command_seconds{").append(labels).append(",quantile=\"").append(quantile)
+                    .append("\"} ").append(seconds(histogram.getPercentile(quantile))).append('\n');
+        }
+        builder.append("cardgame_command_seconds_sum{").append(labels).append("} ")
+                .append(seconds(histogram.getSum())).append('\n')
+                .append("cardgame_command_seconds_count{").append(labels).append("} ")
+                .append(histogram.getCount()).append('\n');
+    }
+
+    /**
+     * Appends one value of a counter.
+     *
+     * @param builder to append the value to
+     * @param series name and labels of the counter
+     * @param value of the counter
+     */
+    private static void appendCounter(StringBuilder builder, String series, long value) {
+        builder.append(series).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Formats nanoseconds as seconds.
+     *
+     * @param nanos duration in nanoseconds
+     * @return the duration in seconds
+     */
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / NANOS_PER_SECOND);
+    }
+}
@@ -0,0 +1,118 @@
+package edu.kit.informatik.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Exports {@link Metrics} in the text format of Prometheus at the path {@value #PATH} of a local HTTP server.
+ * The server answers on its own thread, so it does not slow down the sessions.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class MetricsServer implements Closeable {
+    /**
+     * Name of the system property that enables the metrics. Its value is the port of the HTTP server
+     * or 0 for any free port.
+     */
+    public static final String PORT_PROPERTY = "edu.kit.informatik.metrics.port";
+    /**
+     * Path of the metrics.
+     */
+    public static final String PATH = "/metrics";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final int OK = 200;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private final HttpServer server;
+    private final Metrics metrics;
+
+    /**
+     * Creates and starts a new server that listens on the loopback address.
+     *
+     * @param port to listen on or 0 for any free port
+     * @param metrics to be exported
+     * @throws IOException if the socket cannot be opened
+     */
+    public MetricsServer(int port, Metrics metrics) throws IOException {
+        this.metrics = metrics;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PATH, this::export);
+        server.start();
+    }
+
+    /**
+     * Creates new metrics for the given commands and starts a server for them on the port of the system
+     * property {@value #PORT_PROPERTY}.
+     *
+     * @param commands names of the commands, the index of a name is the index of its command
+     * @return the server or null if the property is not set
+     * @throws IOException if the socket cannot be opened
+     * @throws NumberFormatException if the property is no valid port
+     */
+    public static MetricsServer fromSystemProperty(List<String> commands) throws IOException {
+        final String port = System.getProperty(PORT_PROPERTY);
+        if (port == null) {
+            return null;
+        }
+        return new MetricsServer(Integer.parseInt(port), new Metrics(commands));
+    }
+
+    /**
+     * Answers one request.
+     *
+     * @param exchange of the request
+     * @throws IOException if the response cannot be sent
+     */
+    private void export(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(METHOD_NOT_ALLOWED, -1);
+                return;
+            }
+            final StringBuilder builder = new StringBuilder();
+            metrics.appendPrometheus(builder);
+            final byte[] body = builder.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(OK, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Gets the exported metrics.
+     *
+     * @return the metrics
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
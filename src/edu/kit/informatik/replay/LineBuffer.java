@@ -0,0 +1,212 @@
+package edu.kit.informatik.replay;
+
+import edu.kit.informatik.userinterface.InputLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+Decoding every line of a transcript into a String would cost more than executing its command. The output of
+the game is plain ASCII, so the expected lines are compared byte by byte right where they were read instead.
+Lines are addressed by their offset in the whole stream, which stays valid when the buffer is compacted,
+and everything from the mark on is kept until the mark is moved, so the expected output of the current command
+is still there when it is compared.
+ */
+
+/**
+ * Splits a stream of ASCII text into lines, which end with "\n" or "\r\n", and keeps them in a buffer
+ * instead of decoding them.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class LineBuffer {
+    private static final int INITIAL_CAPACITY = 1 << 16;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private final InputStream input;
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    /**
+     * Offset of the first byte of the buffer in the stream.
+     */
+    private long base;
+    /**
+     * Index of the first byte that has not been split into lines yet.
+     */
+    private int position;
+    /**
+     * Index after the last byte that has been read.
+     */
+    private int limit;
+    /**
+     * Offset of the first byte in the stream that must be kept.
+     */
+    private long mark;
+    private long lineStart;
+    private int lineLength;
+    private boolean endOfInput;
+
+    /**
+     * Creates a new line buffer.
+     *
+     * @param input stream to read from
+     */
+    LineBuffer(InputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @return <code>false</code> if there is no line left
+     * @throws IOException if the stream cannot be read
+     */
+    boolean nextLine() throws IOException {
+        int scan = position;
+        while (true) {
+            for (; scan < limit; scan++) {
+                if (buffer[scan] == LINE_FEED) {
+                    split(scan);
+                    position = scan + 1;
+                    return true;
+                }
+            }
+            if (endOfInput) {
+                if (position == limit) {
+                    return false;
+                }
+                split(limit);
+                position = limit;
+                return true;
+            }
+            scan -= fill();
+        }
+    }
+
+    /**
+     * Sets the current line to the bytes from the {@link #position} to the given {@code end}.
+     *
+     * @param end index of the line feed or the end of the stream
+     */
+    private void split(int end) {
+        final int last = end > position && buffer[end - 1] == CARRIAGE_RETURN ? end - 1 : end;
+        lineStart = base + position;
+        lineLength = last - position;
+    }
+
+    /**
+     * Discards the bytes before the mark and before the {@link #position} and reads more bytes.
+     *
+     * @return the number of bytes the content of the buffer was moved to the front
+     * @throws IOException if the stream cannot be read
+     */
+    private int fill() throws IOException {
+        final int keep = (int) Math.min(mark - base, position);
+        System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+        base += keep;
+        position -= keep;
+        limit -= keep;
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        final int read = input.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            endOfInput = true;
+        } else {
+            limit += read;
+        }
+        return keep;
+    }
+
+    /**
+     * Keeps all lines from the next one on until the mark is moved again.
+     */
+    void mark() {
+        mark = base + position;
+    }
+
+    /**
+     * Gets the offset of the current line in the stream.
+     *
+     * @return the offset of the current line
+     */
+    long getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * Gets the length of the current line without its line break.
+     *
+     * @return the length of the current line
+     */
+    int getLineLength() {
+        return lineLength;
+    }
+
+    /**
+     * Returns <code>true</code> if the current line starts with the given ASCII {@code prefix}.
+     *
+     * @param prefix to be checked
+     * @return <code>true</code> if the current line starts with the prefix
+     */
+    boolean lineStartsWith(String prefix) {
+        return startsWith(lineStart, lineLength, prefix);
+    }
+
+    /**
+     * Sets the given {@code line} to the rest of the current line after the given number of bytes.
+     *
+     * @param from number of bytes to be skipped
+     * @param line to be set, whose charset has to be ISO-8859-1 like the one of {@link #toString(long, int)}
+     */
+    void lineAfter(int from, InputLine line) {
+        final int start = (int) (lineStart - base);
+        line.set(buffer, start + from, start + lineLength);
+    }
+
+    /**
+     * Returns <code>true</code> if the kept line at the given offset is equal to the given ASCII {@code text}.
+     *
+     * @param offset of the line in the stream
+     * @param length of the line
+     * @param text to be compared
+     * @return <code>true</code> if the line and the text are equal
+     */
+    boolean equals(long offset, int length, String text) {
+        return length == text.length() && startsWith(offset, length, text);
+    }
+
+    /**
+     * Returns <code>true</code> if the kept line at the given offset starts with the given ASCII {@code prefix}.
+     *
+     * @param offset of the line in the stream
+     * @param length of the line
+     * @param prefix to be checked
+     * @return <code>true</code> if the line starts with the prefix
+     */
+    boolean startsWith(long offset, int length, String prefix) {
+        if (length < prefix.length()) {
+            return false;
+        }
+        final int from = (int) (offset - base);
+        for (int i = 0; i < prefix.length(); i++) {
+            if (buffer[from + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the kept line at the given offset.
+     *
+     * @param offset of the line in the stream
+     * @param length of the line
+     * @return the decoded line
+     */
+    String toString(long offset, int length) {
+        return new String(buffer, (int) (offset - base), length, StandardCharsets.ISO_8859_1);
+    }
+}
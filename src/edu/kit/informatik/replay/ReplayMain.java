@@ -0,0 +1,105 @@
+package edu.kit.informatik.replay;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The entry point of the transcript replay. It expects transcript files or directories of transcript files
+ * as command line arguments and replays all of them in parallel, one thread per core. The first diverging
+ * line of every transcript that was not reproduced is printed, followed by a summary.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ReplayMain {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private ReplayMain() {
+    }
+
+    /**
+     * Replays the transcripts and prints the divergences and the throughput.
+     *
+     * @param args the transcript files or directories
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final List<Path> transcripts = new ArrayList<>();
+        try {
+            for (final String arg : args) {
+                addTranscripts(Paths.get(arg), transcripts);
+            }
+        } catch (final IOException | InvalidPathException e) {
+            Terminal.printError(e.getMessage());
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            final long start = System.nanoTime();
+            final List<Future<ReplayResult>> futures = new ArrayList<>(transcripts.size());
+            for (final Path transcript : transcripts) {
+                futures.add(executor.submit(new TranscriptReplay(transcript)));
+            }
+            long commands = 0;
+            int diverging = 0;
+            for (final Future<ReplayResult> future : futures) {
+                final ReplayResult result = future.get();
+                commands += result.getCommands();
+                if (!result.isReproduced()) {
+                    diverging++;
+                    Terminal.printLine(result);
+                }
+            }
+            final double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+            Terminal.printLine(String.format("transcripts: %d, diverging: %d, commands: %d, time: %.3f s, "
+                    + "commands/s: %.0f", transcripts.size(), diverging, commands, seconds, commands / seconds));
+        } catch (final ExecutionException e) {
+            Terminal.printError(e.getCause().toString());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds the given transcript file or all files in the given directory, sorted by name.
+     *
+     * @param path of a transcript file or a directory
+     * @param transcripts to add the transcript files to
+     * @throws IOException if the directory cannot be read
+     */
+    private static void addTranscripts(Path path, List<Path> transcripts) throws IOException {
+        if (!Files.isDirectory(path)) {
+            transcripts.add(path);
+            return;
+        }
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path, Files::isRegularFile)) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        transcripts.addAll(files);
+    }
+}
@@ -0,0 +1,57 @@
+package edu.kit.informatik.replay;
+
+import java.nio.file.Path;
+
+/**
+ * The result of replaying one transcript.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ReplayResult {
+    private final Path transcript;
+    private final long commands;
+    private final int line;
+    private final String divergence;
+
+    /**
+     * Creates a new result.
+     *
+     * @param transcript path of the transcript
+     * @param commands number of executed commands
+     * @param line number of the first diverging line or 0 if it cannot be read
+     * @param divergence description of the first divergence or null if the transcript was reproduced
+     */
+    ReplayResult(Path transcript, long commands, int line, String divergence) {
+        this.transcript = transcript;
+        this.commands = commands;
+        this.line = line;
+        this.divergence = divergence;
+    }
+
+    /**
+     * Gets the number of commands that have been executed.
+     *
+     * @return the number of commands
+     */
+    public long getCommands() {
+        return commands;
+    }
+
+    /**
+     * Returns <code>true</code> if the whole transcript was reproduced.
+     *
+     * @return <code>true</code> if no line diverged
+     */
+    public boolean isReproduced() {
+        return divergence == null;
+    }
+
+    @Override
+    public String toString() {
+        if (divergence == null) {
+            return transcript + ": " + commands + " commands reproduced";
+        }
+        return transcript + ":" + line + ": " + divergence;
+    }
+}
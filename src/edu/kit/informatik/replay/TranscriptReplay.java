@@ -0,0 +1,90 @@
+package edu.kit.informatik.replay;
+
+import edu.kit.informatik.userinterface.InputLine;
+import edu.kit.informatik.userinterface.Session;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/*
+A transcript is read as a stream, so its size does not matter, and only the commands are decoded.
+The expected output of a command is only known once the next command or the end of the transcript has been read,
+so every command is executed one step late.
+Each replay has its own session and thereby its own card game, which is why transcripts can be replayed
+on as many threads as there are cores without any synchronisation.
+ */
+
+/**
+ * Replays one transcript of a {@link Session} and compares the output with the expected one.
+ * A transcript consists of commands, which are lines that start with {@link #PROMPT}, each one followed by
+ * the lines of its expected output.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class TranscriptReplay implements Callable<ReplayResult> {
+    /**
+     * Precedes the commands in a transcript.
+     */
+    static final String PROMPT = "> ";
+    private final Path transcript;
+
+    /**
+     * Creates a new replay.
+     *
+     * @param transcript path of the transcript
+     */
+    TranscriptReplay(Path transcript) {
+        this.transcript = transcript;
+    }
+
+    @Override
+    public ReplayResult call() {
+        long commands = 0;
+        try (InputStream input = Files.newInputStream(transcript)) {
+            final LineBuffer lines = new LineBuffer(input);
+            final VerifyingOutput output = new VerifyingOutput(lines);
+            final Session session = new Session(output);
+            final InputLine command = new InputLine(StandardCharsets.ISO_8859_1);
+            boolean hasCommand = false;
+            // Lines before the first command are compared with the output of no command at all
+            int commandLine = 0;
+            int lineNumber = 0;
+            boolean hasLine;
+            do {
+                hasLine = lines.nextLine();
+                lineNumber++;
+                if (hasLine && !lines.lineStartsWith(PROMPT)) {
+                    output.expectLine();
+                    continue;
+                }
+                if (hasCommand) {
+                    if (!session.isRunning()) {
+                        return new ReplayResult(transcript, commands, commandLine, "command after quit");
+                    }
+                    session.handle(command);
+                    commands++;
+                }
+                output.complete();
+                if (output.getDivergence() != null) {
+                    return new ReplayResult(transcript, commands, commandLine + 1 + output.getDivergenceIndex(),
+                            output.getDivergence());
+                }
+                if (hasLine) {
+                    lines.lineAfter(PROMPT.length(), command);
+                    hasCommand = true;
+                    commandLine = lineNumber;
+                    output.clear();
+                    lines.mark();
+                }
+            } while (hasLine);
+        } catch (final IOException e) {
+            return new ReplayResult(transcript, commands, 0, e.toString());
+        }
+        return new ReplayResult(transcript, commands, 0, null);
+    }
+}
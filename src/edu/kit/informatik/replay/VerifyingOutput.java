@@ -0,0 +1,137 @@
+package edu.kit.informatik.replay;
+
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.Output;
+
+import java.util.Arrays;
+
+/**
+ * Compares the output of a session line by line with the expected output of the current command, which is kept
+ * in a {@link LineBuffer}. The task does not specify the texts of error messages, so an error only has to match
+ * an expected line that starts with the {@link InOutput#ERROR_PREFIX prefix of errors}.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class VerifyingOutput implements Output {
+    private static final int INITIAL_CAPACITY = 16;
+    private final LineBuffer lines;
+    /**
+     * Offsets of the expected lines in the stream of the line buffer.
+     */
+    private long[] starts = new long[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private int expected;
+    /**
+     * Index of the next expected line.
+     */
+    private int next;
+    private String divergence;
+    /**
+     * Index of the expected line the divergence was found at.
+     */
+    private int divergenceIndex;
+
+    /**
+     * Creates a new output.
+     *
+     * @param lines buffer of the expected lines
+     */
+    VerifyingOutput(LineBuffer lines) {
+        this.lines = lines;
+    }
+
+    /**
+     * Starts a new command, whose output is expected to be the added lines.
+     */
+    void clear() {
+        expected = 0;
+        next = 0;
+    }
+
+    /**
+     * Adds the current line of the line buffer to the expected output of the current command.
+     */
+    void expectLine() {
+        if (expected == starts.length) {
+            starts = Arrays.copyOf(starts, expected * 2);
+            lengths = Arrays.copyOf(lengths, expected * 2);
+        }
+        starts[expected] = lines.getLineStart();
+        lengths[expected] = lines.getLineLength();
+        expected++;
+    }
+
+    /**
+     * Checks whether all expected lines of the current command have been printed, after it has been executed.
+     */
+    void complete() {
+        if (divergence == null && next < expected) {
+            divergenceIndex = next;
+            divergence = "expected \"" + expectedLine(next) + "\" but was no more output";
+        }
+    }
+
+    /**
+     * Gets the description of the first line that did not match the expected output.
+     *
+     * @return the divergence or null if all printed lines matched so far
+     */
+    String getDivergence() {
+        return divergence;
+    }
+
+    /**
+     * Gets the index of the expected line of the current command the divergence was found at.
+     * If more lines were printed than expected, it is the number of expected lines.
+     *
+     * @return the index of the diverging line
+     */
+    int getDivergenceIndex() {
+        return divergenceIndex;
+    }
+
+    @Override
+    public void printLine(Object object) {
+        final String line = object.toString();
+        if (divergence == null && (next == expected || !lines.equals(starts[next], lengths[next], line))) {
+            diverge(line);
+        }
+        next++;
+    }
+
+    @Override
+    public void printError(String message) {
+        if (divergence == null && (next == expected
+                || !lines.startsWith(starts[next], lengths[next], InOutput.ERROR_PREFIX.toString()))) {
+            diverge(InOutput.ERROR_PREFIX + message);
+        }
+        next++;
+    }
+
+    // Every line is compared as soon as it is printed
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Decodes an expected line.
+     *
+     * @param index of the expected line
+     * @return the expected line
+     */
+    private String expectedLine(int index) {
+        return lines.toString(starts[index], lengths[index]);
+    }
+
+    /**
+     * Records that the given {@code line} does not match the expected line.
+     *
+     * @param line that was printed
+     */
+    private void diverge(String line) {
+        final String expectedLine = next < expected ? "\"" + expectedLine(next) + "\"" : "no more output";
+        divergenceIndex = next;
+        divergence = "expected " + expectedLine + " but was \"" + line + "\"";
+    }
+}
@@ -0,0 +1,214 @@
+package edu.kit.informatik.server;
+
+import edu.kit.informatik.userinterface.InputLine;
+import edu.kit.informatik.userinterface.Output;
+import edu.kit.informatik.userinterface.OutputBuffer;
+import edu.kit.informatik.metrics.Metrics;
+import edu.kit.informatik.userinterface.Session;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+A connection never blocks the selector thread. Incoming bytes are split into lines like BufferedReader#readLine
+does it, so a line ends with "\n", "\r" or "\r\n". Every complete line is handed to the session right away,
+and whatever the commands print is appended to the output buffer of the connection.
+The output buffer is written whenever the socket accepts more bytes. If a client does not read its output,
+the buffer would grow without limit, so the connection stops reading and executing further lines as soon as
+more than a high water mark of output is pending. Once the client has caught up, the lines that are already
+buffered are executed and reading continues.
+ */
+
+/**
+ * A client connection of the {@link GameServer}. Each connection has its own {@link Session} that prints
+ * to the connection.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class Connection implements Output {
+    /**
+     * Amount of output in bytes that may be pending before the connection stops reading.
+     */
+    static final int HIGH_WATER_MARK = 1 << 16;
+    /**
+     * Number of positions a hint evaluates at most. All clients wait while a hint is searched, so a hint that
+     * needs more is interrupted after some tens of milliseconds and continued by the next one.
+     */
+    static final long HINT_BUDGET = 1 << 14;
+    private static final int READ_CAPACITY = 1 << 13;
+    private static final int INITIAL_LINE_CAPACITY = 1 << 7;
+    /**
+     * Longest accepted line in bytes. A client that sends longer lines is disconnected.
+     */
+    private static final int MAX_LINE_LENGTH = 1 << 16;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private static final String LINE_SEPARATOR = "\n";
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final Session session;
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_CAPACITY);
+    /**
+     * Pending output, which has not been accepted by the socket yet.
+     */
+    private final OutputBuffer writeBuffer = new OutputBuffer(StandardCharsets.UTF_8, LINE_SEPARATOR);
+    private final InputLine input = new InputLine(StandardCharsets.UTF_8);
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int lineLength;
+    /**
+     * Whether the last byte was a carriage return, so that a following line feed does not end another line.
+     */
+    private boolean carriageReturn;
+    private boolean endOfInput;
+
+    /**
+     * Creates a new connection.
+     *
+     * @param channel of the client in non-blocking mode
+     * @param key of the channel at the selector of the server
+     * @param metrics to record the commands and games of the session in or null
+     */
+    Connection(SocketChannel channel, SelectionKey key, Metrics metrics) {
+        this.channel = channel;
+        this.key = key;
+        this.session = new Session(this, metrics, HINT_BUDGET);
+    }
+
+    /**
+     * Gets the session of the client.
+     *
+     * @return the session
+     */
+    Session getSession() {
+        return session;
+    }
+
+    /**
+     * Reads the available bytes of the client and executes all complete lines.
+     *
+     * @throws IOException if the connection is broken
+     */
+    void onReadable() throws IOException {
+        if (channel.read(readBuffer) < 0) {
+            endOfInput = true;
+        }
+        pump();
+    }
+
+    /**
+     * Writes as much pending output as the socket accepts.
+     *
+     * @throws IOException if the connection is broken
+     */
+    void onWritable() throws IOException {
+        pump();
+    }
+
+    /**
+     * Executes buffered lines and writes output until either no complete line is left or too much output
+     * is pending. Afterwards the connection is closed if it is done, otherwise it waits for the events
+     * it can make progress on.
+     *
+     * @throws IOException if the connection is broken
+     */
+    private void pump() throws IOException {
+        readBuffer.flip();
+        boolean progress = true;
+        while (progress) {
+            executeLines();
+            writePending();
+            progress = readBuffer.hasRemaining() && writeBuffer.size() <= HIGH_WATER_MARK && session.isRunning();
+        }
+        final boolean drained = endOfInput && !readBuffer.hasRemaining();
+        readBuffer.compact();
+        if (drained && lineLength > 0 && session.isRunning()) {
+            // The last line of the input does not need a line break, just like with BufferedReader#readLine
+            execute();
+            writePending();
+        }
+        if ((drained || !session.isRunning()) && writeBuffer.size() == 0) {
+            close();
+            return;
+        }
+        final boolean reading = !endOfInput && session.isRunning() && writeBuffer.size() <= HIGH_WATER_MARK;
+        key.interestOps((reading ? SelectionKey.OP_READ : 0)
+                | (writeBuffer.size() > 0 ? SelectionKey.OP_WRITE : 0));
+    }
+
+    /**
+     * Executes the complete lines of the read buffer until too much output is pending.
+     *
+     * @throws IOException if a line is too long
+     */
+    private void executeLines() throws IOException {
+        while (readBuffer.hasRemaining() && writeBuffer.size() <= HIGH_WATER_MARK && session.isRunning()) {
+            final byte next = readBuffer.get();
+            if (next == LINE_FEED && carriageReturn) {
+                carriageReturn = false;
+            } else if (next == LINE_FEED || next == CARRIAGE_RETURN) {
+                carriageReturn = next == CARRIAGE_RETURN;
+                execute();
+            } else {
+                carriageReturn = false;
+                if (lineLength == MAX_LINE_LENGTH) {
+                    throw new IOException("line too long");
+                }
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, line.length * 2);
+                }
+                line[lineLength++] = next;
+            }
+        }
+    }
+
+    /**
+     * Executes the buffered line.
+     */
+    private void execute() {
+        input.set(line, 0, lineLength);
+        lineLength = 0;
+        session.handle(input);
+    }
+
+    /**
+     * Writes as much pending output as the socket accepts without blocking.
+     *
+     * @throws IOException if the connection is broken
+     */
+    private void writePending() throws IOException {
+        if (writeBuffer.size() > 0) {
+            writeBuffer.writeTo(channel);
+        }
+    }
+
+    /**
+     * Closes the connection.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    void close() throws IOException {
+        key.cancel();
+        channel.close();
+    }
+
+    @Override
+    public void printLine(Object object) {
+        writeBuffer.appendLine(object);
+    }
+
+    @Override
+    public void printError(String message) {
+        writeBuffer.appendError(message);
+    }
+
+    // The output is written whenever the socket accepts more bytes, after all available lines are executed
+    @Override
+    public void flush() {
+    }
+}
@@ -0,0 +1,205 @@
+package edu.kit.informatik.server;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.metrics.Metrics;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/*
+One thread serves all connections with a selector. A game only takes a few microseconds per command,
+which is much less than switching between threads would cost, and it keeps every session confined to one
+thread, so neither the sessions nor the card games have to be thread-safe.
+ */
+
+/**
+ * A server that plays one {@link edu.kit.informatik.userinterface.Session Session} per client on a local
+ * TCP socket. The clients use the same line based protocol as the command line interface.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class GameServer implements Closeable {
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    /**
+     * Journal of the games of all clients or null.
+     */
+    private final JournalWriter journal;
+    /**
+     * Metrics of the sessions of all clients or null.
+     */
+    private final Metrics metrics;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a new server that listens on the loopback address.
+     *
+     * @param port to listen on or 0 for any free port
+     * @throws IOException if the socket cannot be opened
+     */
+    public GameServer(int port) throws IOException {
+        this(port, null);
+    }
+
+    /**
+     * Creates a new server that listens on the loopback address and appends the moves of all clients
+     * to the given {@code journal}. The journal is only written by the thread that runs the server.
+     *
+     * @param port to listen on or 0 for any free port
+     * @param journal of the games or null
+     * @throws IOException if the socket cannot be opened
+     */
+    public GameServer(int port, JournalWriter journal) throws IOException {
+        this(port, journal, null);
+    }
+
+    /**
+     * Creates a new server that listens on the loopback address, appends the moves of all clients
+     * to the given {@code journal} and records their commands and games in the given {@code metrics}.
+     *
+     * @param port to listen on or 0 for any free port
+     * @param journal of the games or null
+     * @param metrics of the sessions or null
+     * @throws IOException if the socket cannot be opened
+     */
+    public GameServer(int port, JournalWriter journal, Metrics metrics) throws IOException {
+        this.journal = journal;
+        this.metrics = metrics;
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the local port
+     * @throws IOException if the socket is closed
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Serves all clients until {@link #shutdown()} is called. Afterwards all connections are closed.
+     *
+     * @throws IOException if the selector fails
+     */
+    public void run() throws IOException {
+        try {
+            while (running) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid()) {
+                        handle(key);
+                    }
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Handles the ready events of one key. If the connection of the key fails, only this connection is closed.
+     *
+     * @param key that is ready
+     * @throws IOException if no client can be accepted
+     */
+    private void handle(SelectionKey key) throws IOException {
+        if (key.isAcceptable()) {
+            accept();
+            return;
+        }
+        final Connection connection = (Connection) key.attachment();
+        try {
+            if (key.isReadable()) {
+                connection.onReadable();
+            }
+            if (key.isValid() && key.isWritable()) {
+                connection.onWritable();
+            }
+        } catch (final IOException e) {
+            // Only this client is affected, the others keep playing
+            closeQuietly(connection);
+        } catch (final RuntimeException e) {
+            // A failure in the session of this client, for example of the journal it writes to, must not stop
+            // the loop that serves all other clients
+            Terminal.printError(e.toString());
+            closeQuietly(connection);
+        }
+    }
+
+    /**
+     * Closes a failed connection. If closing fails as well, the error is printed, because it must not stop
+     * the loop that serves all other clients.
+     *
+     * @param connection to be closed
+     */
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (final IOException e) {
+            Terminal.printError(e.toString());
+        }
+    }
+
+    /**
+     * Accepts a new client.
+     *
+     * @throws IOException if the client cannot be accepted
+     */
+    private void accept() throws IOException {
+        final SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        final SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        final Connection connection = new Connection(channel, key, metrics);
+        if (journal != null) {
+            journal.attach(connection.getSession().getGame());
+        }
+        key.attach(connection);
+    }
+
+    /**
+     * Stops the server. This method may be called from any thread, {@link #run()} returns afterwards.
+     */
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Closes all connections and the server socket.
+     *
+     * @throws IOException if the selector cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!selector.isOpen()) {
+            return;
+        }
+        for (final SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+    }
+}
@@ -0,0 +1,286 @@
+package edu.kit.informatik.server;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.simulation.DeckGenerator;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/*
+Every simulated client keeps exactly one command in flight and sends the next one as soon as the response
+has arrived, so the latency of a command is the time from sending it until its response is complete.
+The script only uses commands whose response is exactly one line: a client starts a game with its own random
+card deck, plays it by drawing up to 63 cards and resets the game, over and over. A client knows its card deck,
+so whenever it draws an animal it answers the encounter with a rollDx command and a random number, as a player
+would, instead of drawing while the game waits for the dice. After the last command it quits and waits until
+the server closes the connection.
+ */
+
+/**
+ * A load generator for the {@link GameServer}. All clients are driven by one thread with a selector.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class LoadGenerator {
+    private static final String DRAW = "draw\n";
+    private static final String ROLL = "rollD";
+    private static final String RESET = "reset\n";
+    private static final String QUIT = "quit\n";
+    /**
+     * Number of cards a client draws before it resets the game. The card deck can never run out and nothing is
+     * built, so the game can neither be lost nor won and every draw and roll is answered with exactly one line.
+     */
+    private static final int DRAWS_PER_GAME = DeckGenerator.DECK_SIZE - 1;
+    private static final int READ_CAPACITY = 1 << 12;
+    private static final double NANOS_PER_MICROSECOND = 1e3;
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final Selector selector;
+    private final long[] latencies;
+    private int recorded;
+    /**
+     * Number of responses that are error messages, which should not occur in the script.
+     */
+    private int errors;
+    private int open;
+
+    /**
+     * Creates a new load generator.
+     *
+     * @param connections number of clients
+     * @param commands number of commands every client sends before it quits
+     * @throws IOException if the selector cannot be opened
+     */
+    private LoadGenerator(int connections, int commands) throws IOException {
+        this.selector = Selector.open();
+        this.latencies = new long[Math.multiplyExact(connections, commands)];
+    }
+
+    /**
+     * Runs the load generator and prints the throughput and the latency percentiles.
+     *
+     * @param args the number of clients, the number of commands per client and optionally the port and the seed
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 4) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final int connections;
+        final int commands;
+        final int port;
+        final long seed;
+        try {
+            connections = Integer.parseInt(args[0]);
+            commands = Integer.parseInt(args[1]);
+            port = args.length > 2 ? Integer.parseInt(args[2]) : ServerMain.DEFAULT_PORT;
+            seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (connections < 1 || commands < 1) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        try {
+            final LoadGenerator generator = new LoadGenerator(connections, commands);
+            final long start = System.nanoTime();
+            generator.run(connections, commands, port, seed);
+            generator.report(System.nanoTime() - start);
+        } catch (final IOException | IllegalArgumentException e) {
+            Terminal.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Connects all clients and drives them until every client has quit.
+     *
+     * @param connections number of clients
+     * @param commands number of commands every client sends before it quits
+     * @param port of the server
+     * @param seed of the card decks
+     * @throws IOException if the server cannot be reached
+     */
+    private void run(int connections, int commands, int port, long seed) throws IOException {
+        final InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        final SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < connections; i++) {
+            final PlayingCard[] deck = DeckGenerator.sortedDeck();
+            DeckGenerator.shuffle(deck, random);
+            final SocketChannel channel = SocketChannel.open(address);
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            final Client client = new Client(channel, commands, deck, random.split());
+            channel.register(selector, SelectionKey.OP_READ, client);
+            open++;
+            client.sendNext();
+        }
+        try {
+            while (open > 0) {
+                selector.select();
+                final Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (key.isValid() && key.isReadable()) {
+                        ((Client) key.attachment()).onReadable(key);
+                    }
+                }
+            }
+        } finally {
+            for (final SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            selector.close();
+        }
+    }
+
+    /**
+     * Prints the throughput and the latency percentiles of all answered commands.
+     *
+     * @param nanos duration of the whole run
+     */
+    private void report(long nanos) {
+        final long[] sorted = Arrays.copyOf(latencies, recorded);
+        Arrays.sort(sorted);
+        Terminal.printLine(String.format(Locale.ROOT, "commands: %d in %.3f s, %.0f commands/s, errors: %d",
+                recorded, nanos / NANOS_PER_SECOND, recorded * NANOS_PER_SECOND / nanos, errors));
+        if (sorted.length == 0) {
+            return;
+        }
+        final String percentiles = Arrays.stream(PERCENTILES)
+                .mapToObj(percentile -> String.format(Locale.ROOT, "p%.0f=%.1f", percentile,
+                        sorted[(int) Math.ceil(percentile / 100 * sorted.length) - 1] / NANOS_PER_MICROSECOND))
+                .collect(Collectors.joining(" "));
+        Terminal.printLine(String.format(Locale.ROOT, "latency (us): %s max=%.1f", percentiles,
+                sorted[sorted.length - 1] / NANOS_PER_MICROSECOND));
+    }
+
+    /**
+     * A simulated client with one command in flight.
+     */
+    private final class Client {
+        private final SocketChannel channel;
+        private final int commands;
+        private final PlayingCard[] deck;
+        private final SplittableRandom random;
+        private final ByteBuffer start;
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_CAPACITY);
+        private int sent;
+        private long sentAt;
+        /**
+         * Number of cards drawn in the current game.
+         */
+        private int drawn;
+        /**
+         * Size of the dice the game waits for or 0 if it does not wait for the dice.
+         */
+        private int diceSize;
+        /**
+         * Whether the next byte that is read is the first one of a response.
+         */
+        private boolean lineStart = true;
+
+        /**
+         * Creates a new client.
+         *
+         * @param channel connected to the server
+         * @param commands number of commands to be sent before quitting
+         * @param deck card deck of the start command
+         * @param random that rolls the dice of the client
+         */
+        Client(SocketChannel channel, int commands, PlayingCard[] deck, SplittableRandom random) {
+            this.channel = channel;
+            this.commands = commands;
+            this.deck = deck;
+            this.random = random;
+            this.start = encode(Arrays.stream(deck).map(PlayingCard::toString)
+                    .collect(Collectors.joining(InOutput.CARD_SEPARATOR.toString(), "start ", "\n")));
+        }
+
+        /**
+         * Sends the next command of the script, or quits after the last one.
+         *
+         * @throws IOException if the connection is broken
+         */
+        void sendNext() throws IOException {
+            final ByteBuffer command;
+            if (sent == commands) {
+                command = encode(QUIT);
+            } else if (sent == 0) {
+                command = start.duplicate();
+            } else if (diceSize > 0) {
+                command = encode(ROLL + diceSize + InOutput.COMMAND_SEPARATOR.toString()
+                        + (random.nextInt(diceSize) + 1) + "\n");
+                diceSize = 0;
+            } else if (drawn < DRAWS_PER_GAME) {
+                command = encode(DRAW);
+                diceSize = deck[drawn++].getDiceSize().orElse(0);
+            } else {
+                command = encode(RESET);
+                drawn = 0;
+            }
+            sent++;
+            sentAt = System.nanoTime();
+            // Commands are short, so the socket buffer always has room for them
+            while (command.hasRemaining()) {
+                channel.write(command);
+            }
+        }
+
+        /**
+         * Reads the response of the command in flight.
+         *
+         * @param key of the client
+         * @throws IOException if the connection is broken
+         */
+        void onReadable(SelectionKey key) throws IOException {
+            if (channel.read(readBuffer) < 0) {
+                key.cancel();
+                channel.close();
+                open--;
+                return;
+            }
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                final byte read = readBuffer.get();
+                if (lineStart && read == InOutput.ERROR_PREFIX.toString().charAt(0)) {
+                    errors++;
+                }
+                lineStart = read == '\n';
+                if (lineStart) {
+                    latencies[recorded++] = System.nanoTime() - sentAt;
+                    sendNext();
+                }
+            }
+            readBuffer.clear();
+        }
+
+        /**
+         * Encodes a command.
+         *
+         * @param command to be encoded
+         * @return a buffer that contains the command
+         */
+        private ByteBuffer encode(String command) {
+            return ByteBuffer.wrap(command.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package edu.kit.informatik.server;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.metrics.Metrics;
+import edu.kit.informatik.metrics.MetricsServer;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.commands.CommandFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * The entry point of the server mode. It optionally expects the port and the directory of a journal
+ * as command line arguments. The metrics are exported if the system property
+ * {@value MetricsServer#PORT_PROPERTY} is set.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ServerMain {
+    /**
+     * Port of the server if none is given.
+     */
+    static final int DEFAULT_PORT = 4242;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private ServerMain() {
+    }
+
+    /**
+     * Runs a {@link GameServer} until the JVM is shut down. If the directory of a journal is given,
+     * the moves of all clients are appended to it.
+     *
+     * @param args optionally the port and the directory of a journal
+     */
+    public static void main(String[] args) {
+        final int port;
+        try {
+            port = args.length >= 1 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (args.length > 2) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        try (MetricsServer metricsServer = MetricsServer.fromSystemProperty(CommandFactory.getNames());
+             JournalWriter journal = args.length == 2 ? new JournalWriter(Paths.get(args[1])) : null) {
+            final Metrics metrics = metricsServer == null ? null : metricsServer.getMetrics();
+            final GameServer server = new GameServer(port, journal, metrics);
+            final Thread serverThread = Thread.currentThread();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                server.shutdown();
+                try {
+                    serverThread.join();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            Terminal.printLine("listening on port " + server.getPort());
+            if (metricsServer != null) {
+                Terminal.printLine("metrics on port " + metricsServer.getPort());
+            }
+            server.run();
+        } catch (final IOException | IllegalArgumentException e) {
+            Terminal.printError(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.CharSequences;
+
+import java.util.List;
+
+/**
+ * The strategies that come with the simulation. The user output should not be
+ * obtained via the {@link Enum#name()} method but via the {@link this#toString()} method.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public enum BuiltInStrategy implements Strategy {
+    /**
+     * Builds an item whenever possible. Rescues are preferred, followed by the items that help to survive.
+     */
+    GREEDY(null, Item.STEAMBOAT, Item.BALLON, Item.HANGGLIDER, Item.SAILINGRAFT, Item.FIREPLACE, Item.SHACK,
+            Item.AXE, Item.CLUB),
+    /**
+     * Only builds rescues and nothing else, as soon as possible.
+     */
+    GREEDY_RESCUE(null, Item.STEAMBOAT, Item.BALLON, Item.HANGGLIDER, Item.SAILINGRAFT),
+    /**
+     * Saves the resources for the fireplace and builds nothing else before it, because it allows the rescues
+     * that do not depend on the dice. Afterwards it plays like {@link #GREEDY}.
+     */
+    FIREPLACE_FIRST(Item.FIREPLACE, Item.STEAMBOAT, Item.BALLON, Item.HANGGLIDER, Item.SAILINGRAFT, Item.FIREPLACE,
+            Item.SHACK, Item.AXE, Item.CLUB),
+    /**
+     * Saves the resources for the axe and builds nothing else before it, so that the player is armed with
+     * the highest bonus for the encounters with animals. Afterwards it plays like {@link #GREEDY}.
+     */
+    AXE_BEFORE_ENCOUNTER(Item.AXE, Item.STEAMBOAT, Item.BALLON, Item.HANGGLIDER, Item.SAILINGRAFT, Item.FIREPLACE,
+            Item.SHACK, Item.AXE, Item.CLUB);
+
+    /**
+     * Item that has to be built before any other item or null.
+     */
+    private final Item first;
+    /**
+     * Items that are built if possible, the most preferred first.
+     */
+    private final Item[] preferences;
+
+    /**
+     * Creates a new strategy that builds the given items in the order of preference.
+     *
+     * @param first item that has to be built before any other item or null
+     * @param preferences items that are built if possible, the most preferred first
+     */
+    BuiltInStrategy(Item first, Item... preferences) {
+        this.first = first;
+        this.preferences = preferences;
+    }
+
+    @Override
+    public Item next(CardGame game) throws LogicException {
+        final List<Item> buildableItems = game.buildableItems();
+        if (first != null && !game.listBuildings().contains(first)) {
+            return buildableItems.contains(first) ? first : null;
+        }
+        for (final Item item : preferences) {
+            if (buildableItems.contains(item)) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses a strategy in String format to an actual strategy.
+     *
+     * @param strategyString to be parsed
+     * @return the strategy or null if the String format does not represent a strategy
+     */
+    public static BuiltInStrategy parse(String strategyString) {
+        for (final BuiltInStrategy strategy : values()) {
+            if (strategy.toString().equals(strategyString)) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the region from {@code from} (inclusive) to {@code to} (exclusive) of the given {@code input}
+     * to an actual strategy without copying the region.
+     *
+     * @param input that contains the strategy in String format
+     * @param from index of the first character of the strategy
+     * @param to index after the last character of the strategy
+     * @return the strategy or null if the region does not represent a strategy
+     */
+    public static BuiltInStrategy parse(CharSequence input, int from, int to) {
+        for (final BuiltInStrategy strategy : values()) {
+            if (CharSequences.regionEquals(input, from, to, strategy.toString())) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return name().toLowerCase().replace('_', '-');
+    }
+}
@@ -0,0 +1,90 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.PlayingCard;
+
+import java.util.SplittableRandom;
+
+/*
+All strategies of a tournament play exactly the same card decks with the same dice seeds (common random numbers),
+so the differences between their results are caused by the strategies and not by luck.
+The corpus is generated once and never changed afterwards, so all threads can read it without copying
+or synchronisation. A card deck is stored as 64 bytes of ordinals in one flat array instead of an array of
+references per card deck, which takes a quarter of the memory and is a single object for the garbage collector.
+ */
+
+/**
+ * An immutable collection of random card decks, each one with the seed of the dice it is played with.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Corpus {
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    private final byte[] decks;
+    private final long[] diceSeeds;
+
+    /**
+     * Creates a new corpus.
+     *
+     * @param decks ordinals of the cards of all card decks, one card deck after the other
+     * @param diceSeeds seeds of the dice of all card decks
+     */
+    private Corpus(byte[] decks, long[] diceSeeds) {
+        this.decks = decks;
+        this.diceSeeds = diceSeeds;
+    }
+
+    /**
+     * Generates a corpus of uniformly random valid card decks.
+     *
+     * @param games number of card decks
+     * @param seed of the corpus, the same seed leads to the same corpus
+     * @return the new corpus
+     */
+    public static Corpus generate(int games, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final PlayingCard[] deck = DeckGenerator.sortedDeck();
+        final byte[] decks = new byte[games * DeckGenerator.DECK_SIZE];
+        final long[] diceSeeds = new long[games];
+        for (int game = 0; game < games; game++) {
+            DeckGenerator.shuffle(deck, random);
+            for (int i = 0; i < deck.length; i++) {
+                decks[game * DeckGenerator.DECK_SIZE + i] = (byte) deck[i].ordinal();
+            }
+            diceSeeds[game] = random.nextLong();
+        }
+        return new Corpus(decks, diceSeeds);
+    }
+
+    /**
+     * Gets the number of card decks.
+     *
+     * @return the number of card decks
+     */
+    public int size() {
+        return diceSeeds.length;
+    }
+
+    /**
+     * Copies the card deck of the given {@code game} into the given array.
+     *
+     * @param game number of the card deck
+     * @param deck array of {@link DeckGenerator#DECK_SIZE} cards to copy the card deck into
+     */
+    public void copyDeck(int game, PlayingCard[] deck) {
+        final int offset = game * DeckGenerator.DECK_SIZE;
+        for (int i = 0; i < DeckGenerator.DECK_SIZE; i++) {
+            deck[i] = CARDS[decks[offset + i]];
+        }
+    }
+
+    /**
+     * Creates the dice of the given {@code game}. Every call returns a new generator with the same sequence.
+     *
+     * @param game number of the card deck
+     * @return a random number generator for the dice of the game
+     */
+    public SplittableRandom diceOf(int game) {
+        return new SplittableRandom(diceSeeds[game]);
+    }
+}
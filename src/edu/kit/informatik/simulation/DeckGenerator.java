@@ -0,0 +1,58 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.PlayingCard;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates uniformly distributed random card decks. Every valid card deck contains each
+ * {@link PlayingCard} exactly {@link PlayingCard#getRequiredAmount() the required amount} of times.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class DeckGenerator {
+    /**
+     * Number of cards in a valid card deck.
+     */
+    public static final int DECK_SIZE = 64;
+
+    /**
+     * Utility-class constructor.
+     */
+    private DeckGenerator() {
+    }
+
+    /**
+     * Creates a valid card deck whose cards are sorted by their type.
+     *
+     * @return a new sorted card deck
+     */
+    public static PlayingCard[] sortedDeck() {
+        final PlayingCard[] deck = new PlayingCard[DECK_SIZE];
+        int index = 0;
+        for (final PlayingCard card : PlayingCard.values()) {
+            for (int i = 0; i < card.getRequiredAmount(); i++) {
+                deck[index++] = card;
+            }
+        }
+        assert (index == DECK_SIZE);
+        return deck;
+    }
+
+    /**
+     * Shuffles the given valid {@code deck} in place (Fisher-Yates). Since every permutation is equally likely,
+     * so is every valid card deck, no matter in which order the cards were before.
+     *
+     * @param deck to be shuffled
+     * @param random source of randomness
+     */
+    public static void shuffle(PlayingCard[] deck, SplittableRandom random) {
+        for (int i = deck.length - 1; i > 0; i--) {
+            final int j = random.nextInt(i + 1);
+            final PlayingCard card = deck[i];
+            deck[i] = deck[j];
+            deck[j] = card;
+        }
+    }
+}
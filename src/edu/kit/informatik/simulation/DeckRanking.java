@@ -0,0 +1,239 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.PlayingCard;
+
+import java.math.BigInteger;
+import java.util.function.Consumer;
+
+/*
+The valid card decks are the permutations of one multiset, so they can be numbered in lexicographic order of the
+ordinals of their cards. The number of card decks that start with a given prefix is the multinomial coefficient
+of the cards that are left. If n cards are left, of which c are of one type, fixing a card of this type as the
+next one leaves exactly M * c / n of the M card decks, so the rank is computed card by card with one
+multiplication and one division per type, which are always exact. There are about 2^142 valid card decks,
+so ranks do not even fit into two longs. Going through a range of ranks only unranks its first card deck,
+every following one is the lexicographic successor, which changes just a few cards at the end of the card deck.
+ */
+
+/**
+ * Maps every valid card deck to its rank in the lexicographic order of all valid card decks and back,
+ * so that the space of all card decks can be split into exact, reproducible and non-overlapping shards.
+ * The rank of the {@link DeckGenerator#sortedDeck() sorted card deck} is 0.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class DeckRanking {
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    /**
+     * Number of all valid card decks.
+     */
+    private static final BigInteger DECKS = decksOf(requiredAmounts());
+
+    /**
+     * Utility-class constructor.
+     */
+    private DeckRanking() {
+    }
+
+    /**
+     * Gets the number of all valid card decks, which is one more than the highest rank.
+     *
+     * @return the number of all valid card decks
+     */
+    public static BigInteger count() {
+        return DECKS;
+    }
+
+    /**
+     * Gets the first rank of the given {@code shard} if all valid card decks are split into {@code shards}
+     * shards of almost the same size. A shard ends where the next one starts, the last one ends at
+     * {@link #count()}.
+     *
+     * @param shard number of the shard, from 0 to the number of shards inclusive
+     * @param shards number of shards
+     * @return the first rank of the shard
+     * @throws IllegalArgumentException if there is no such shard
+     */
+    public static BigInteger shardStart(int shard, int shards) {
+        if (shards <= 0 || shard < 0 || shard > shards) {
+            throw new IllegalArgumentException("invalid shard");
+        }
+        return DECKS.multiply(BigInteger.valueOf(shard)).divide(BigInteger.valueOf(shards));
+    }
+
+    /**
+     * Gets the rank of the given {@code deck}.
+     *
+     * @param deck valid card deck, starting with the top card
+     * @return the rank of the card deck
+     * @throws IllegalArgumentException if the card deck is invalid
+     */
+    public static BigInteger rank(PlayingCard[] deck) {
+        final int[] left = requiredAmounts();
+        BigInteger decks = DECKS;
+        BigInteger rank = BigInteger.ZERO;
+        if (deck.length != DeckGenerator.DECK_SIZE) {
+            throw new IllegalArgumentException("invalid card deck");
+        }
+        for (int position = 0; position < deck.length; position++) {
+            final BigInteger cardsLeft = BigInteger.valueOf(deck.length - position);
+            final int type = deck[position].ordinal();
+            if (left[type] == 0) {
+                throw new IllegalArgumentException("invalid card deck");
+            }
+            // All card decks that have a smaller card at this position come first
+            for (int smaller = 0; smaller < type; smaller++) {
+                if (left[smaller] > 0) {
+                    rank = rank.add(decks.multiply(BigInteger.valueOf(left[smaller])).divide(cardsLeft));
+                }
+            }
+            decks = decks.multiply(BigInteger.valueOf(left[type])).divide(cardsLeft);
+            left[type]--;
+        }
+        return rank;
+    }
+
+    /**
+     * Creates the card deck of the given {@code rank}.
+     *
+     * @param rank of the card deck, less than {@link #count()}
+     * @return the new card deck, starting with the top card
+     * @throws IllegalArgumentException if there is no card deck of this rank
+     */
+    public static PlayingCard[] unrank(BigInteger rank) {
+        final PlayingCard[] deck = new PlayingCard[DeckGenerator.DECK_SIZE];
+        unrank(rank, deck);
+        return deck;
+    }
+
+    /**
+     * Writes the card deck of the given {@code rank} into the given array.
+     *
+     * @param rank of the card deck, less than {@link #count()}
+     * @param deck array of {@link DeckGenerator#DECK_SIZE} cards to write the card deck into
+     * @throws IllegalArgumentException if there is no card deck of this rank
+     */
+    public static void unrank(BigInteger rank, PlayingCard[] deck) {
+        if (rank.signum() < 0 || rank.compareTo(DECKS) >= 0) {
+            throw new IllegalArgumentException("invalid rank");
+        }
+        final int[] left = requiredAmounts();
+        BigInteger decks = DECKS;
+        BigInteger remainder = rank;
+        for (int position = 0; position < deck.length; position++) {
+            final BigInteger cardsLeft = BigInteger.valueOf(deck.length - position);
+            int type = 0;
+            while (true) {
+                if (left[type] > 0) {
+                    final BigInteger starting = decks.multiply(BigInteger.valueOf(left[type])).divide(cardsLeft);
+                    if (remainder.compareTo(starting) < 0) {
+                        decks = starting;
+                        break;
+                    }
+                    remainder = remainder.subtract(starting);
+                }
+                type++;
+            }
+            deck[position] = CARDS[type];
+            left[type]--;
+        }
+    }
+
+    /**
+     * Replaces the given {@code deck} by the card deck of the next rank.
+     *
+     * @param deck valid card deck, starting with the top card
+     * @return <code>true</code> if there is a next card deck, <code>false</code> if the card deck has the
+     *  highest rank, in which case it is not changed
+     */
+    public static boolean next(PlayingCard[] deck) {
+        // The longest suffix in descending order has no successor of its own
+        int pivot = deck.length - 2;
+        while (pivot >= 0 && deck[pivot].ordinal() >= deck[pivot + 1].ordinal()) {
+            pivot--;
+        }
+        if (pivot < 0) {
+            return false;
+        }
+        int successor = deck.length - 1;
+        while (deck[successor].ordinal() <= deck[pivot].ordinal()) {
+            successor--;
+        }
+        swap(deck, pivot, successor);
+        for (int low = pivot + 1, high = deck.length - 1; low < high; low++, high--) {
+            swap(deck, low, high);
+        }
+        return true;
+    }
+
+    /**
+     * Passes the card decks with the ranks from {@code from} inclusive to {@code to} exclusive to the given
+     * {@code action} in ascending order of their ranks. The action always gets the same array, which it must
+     * not alter or keep.
+     *
+     * @param from rank of the first card deck
+     * @param to rank after the last card deck, at most {@link #count()}
+     * @param action to be performed for every card deck
+     * @throws IllegalArgumentException if the range is invalid
+     */
+    public static void forEach(BigInteger from, BigInteger to, Consumer<PlayingCard[]> action) {
+        if (from.compareTo(to) > 0 || to.compareTo(DECKS) > 0) {
+            throw new IllegalArgumentException("invalid range of ranks");
+        }
+        if (from.equals(to)) {
+            return;
+        }
+        final PlayingCard[] deck = unrank(from);
+        action.accept(deck);
+        for (long left = to.subtract(from).longValueExact() - 1; left > 0; left--) {
+            next(deck);
+            action.accept(deck);
+        }
+    }
+
+    /**
+     * Swaps two cards of the given {@code deck}.
+     *
+     * @param deck of cards
+     * @param first index of one card
+     * @param second index of the other card
+     */
+    private static void swap(PlayingCard[] deck, int first, int second) {
+        final PlayingCard card = deck[first];
+        deck[first] = deck[second];
+        deck[second] = card;
+    }
+
+    /**
+     * Gets the required amount of every playing card, indexed by its ordinal.
+     *
+     * @return a new array of the required amounts
+     */
+    private static int[] requiredAmounts() {
+        final int[] amounts = new int[CARDS.length];
+        for (final PlayingCard card : CARDS) {
+            amounts[card.ordinal()] = card.getRequiredAmount();
+        }
+        return amounts;
+    }
+
+    /**
+     * Computes the number of permutations of a multiset, which is the multinomial coefficient of the amounts.
+     *
+     * @param amounts of every element of the multiset
+     * @return the number of permutations
+     */
+    private static BigInteger decksOf(int[] amounts) {
+        BigInteger permutations = BigInteger.ONE;
+        int size = 0;
+        for (final int amount : amounts) {
+            // Choosing the positions of the next element one after the other keeps every quotient exact
+            for (int i = 1; i <= amount; i++) {
+                size++;
+                permutations = permutations.multiply(BigInteger.valueOf(size)).divide(BigInteger.valueOf(i));
+            }
+        }
+        return permutations;
+    }
+}
@@ -0,0 +1,56 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.cardgame.Snapshot;
+
+/**
+ * Counts the moves of the current game of every {@link edu.kit.informatik.cardgame.CardGame CardGame} it
+ * observes, which are the draws, builds and dice rolls since the card deck was set or the game was reset.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class MoveCounter implements GameObserver {
+    private int moves;
+
+    /**
+     * Gets the number of moves of the current game.
+     *
+     * @return the number of moves
+     */
+    int getMoves() {
+        return moves;
+    }
+
+    @Override
+    public void cardDeckSet(PlayingCard[] cardDeck) {
+        moves = 0;
+    }
+
+    @Override
+    public void drawn(PlayingCard card) {
+        moves++;
+    }
+
+    @Override
+    public void built(Item item) {
+        moves++;
+    }
+
+    @Override
+    public void diced(int size, int diced) {
+        moves++;
+    }
+
+    @Override
+    public void reset() {
+        moves = 0;
+    }
+
+    // Simulations never undo a move
+    @Override
+    public void restored(Snapshot snapshot) {
+    }
+}
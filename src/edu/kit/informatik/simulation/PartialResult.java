@@ -0,0 +1,181 @@
+package edu.kit.informatik.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The outcome of a part of a simulation, which can be merged with the outcomes of the other parts. Besides the
+ * games won and lost, it counts the games by their length, which is the number of moves until the game ended.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class PartialResult {
+    /**
+     * Longest length that is counted on its own, longer games are counted as games of this length.
+     * A game has at most 64 draws, eight builds and a dice roll for each of the 15 animals and two rescues.
+     */
+    static final int MAX_LENGTH = 127;
+    private static final String WINS = "wins";
+    private static final String LOSSES = "losses";
+    private static final String LENGTHS = "lengths";
+    private long wins;
+    private long losses;
+    /**
+     * Number of games per length.
+     */
+    private final long[] lengths = new long[MAX_LENGTH + 1];
+
+    /**
+     * Adds the outcome of one game.
+     *
+     * @param won <code>true</code> if the game was won
+     * @param moves number of moves of the game
+     */
+    public void add(boolean won, int moves) {
+        if (won) {
+            wins++;
+        } else {
+            losses++;
+        }
+        lengths[Math.min(moves, MAX_LENGTH)]++;
+    }
+
+    /**
+     * Adds all games of the given {@code other} result to this result.
+     *
+     * @param other result of another part of the simulation
+     */
+    public void merge(PartialResult other) {
+        wins += other.wins;
+        losses += other.losses;
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            lengths[length] += other.lengths[length];
+        }
+    }
+
+    /**
+     * Gets the games won and lost.
+     *
+     * @return the result without the lengths of the games
+     */
+    public SimulationResult toSimulationResult() {
+        return new SimulationResult(wins, losses);
+    }
+
+    /**
+     * Gets the average length of all games.
+     *
+     * @return the mean number of moves per game, 0 if there are no games
+     */
+    public double getMeanLength() {
+        long moves = 0;
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            moves += length * lengths[length];
+        }
+        return wins + losses == 0 ? 0 : (double) moves / (wins + losses);
+    }
+
+    /**
+     * Gets the length that the given {@code quantile} of all games does not exceed.
+     *
+     * @param quantile between 0 and 1
+     * @return the number of moves at the quantile, 0 if there are no games
+     */
+    public int getLengthPercentile(double quantile) {
+        final long rank = (long) Math.ceil(quantile * (wins + losses));
+        long games = 0;
+        for (int length = 0; length < MAX_LENGTH; length++) {
+            games += lengths[length];
+            if (games >= rank && games > 0) {
+                return length;
+            }
+        }
+        return wins + losses == 0 ? 0 : MAX_LENGTH;
+    }
+
+    /**
+     * Converts the result into lines of text, which can be {@link #parse(List) parsed} again.
+     * The lengths are written as pairs of a length and the number of games of this length.
+     *
+     * @return the lines of the result
+     */
+    public List<String> toLines() {
+        final List<String> lines = new ArrayList<>();
+        lines.add(WINS + " " + wins);
+        lines.add(LOSSES + " " + losses);
+        final StringBuilder builder = new StringBuilder(LENGTHS);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+            if (lengths[length] > 0) {
+                builder.append(' ').append(length).append(':').append(lengths[length]);
+            }
+        }
+        lines.add(builder.toString());
+        return lines;
+    }
+
+    /**
+     * Parses a result from the lines that {@link #toLines()} created.
+     *
+     * @param lines of the result
+     * @return the parsed result
+     * @throws IllegalArgumentException if the lines are no valid result
+     */
+    public static PartialResult parse(List<String> lines) {
+        if (lines.size() != 3) {
+            throw new IllegalArgumentException("invalid result");
+        }
+        final PartialResult result = new PartialResult();
+        try {
+            result.wins = Long.parseLong(valueOf(lines.get(0), WINS));
+            result.losses = Long.parseLong(valueOf(lines.get(1), LOSSES));
+            long games = 0;
+            for (final String pair : valueOf(lines.get(2), LENGTHS).split(" ")) {
+                if (pair.isEmpty()) {
+                    continue;
+                }
+                final String[] parts = pair.split(":");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("invalid result");
+                }
+                final int length = Integer.parseInt(parts[0]);
+                final long count = Long.parseLong(parts[1]);
+                if (length < 0 || length > MAX_LENGTH || count < 0) {
+                    throw new IllegalArgumentException("invalid result");
+                }
+                result.lengths[length] += count;
+                games += count;
+            }
+            if (result.wins < 0 || result.losses < 0 || games != result.wins + result.losses) {
+                throw new IllegalArgumentException("invalid result");
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("invalid result");
+        }
+        return result;
+    }
+
+    /**
+     * Gets the value of a line that consists of the given {@code key}, a space and the value.
+     *
+     * @param line to be parsed
+     * @param key expected at the beginning of the line
+     * @return the value, which may be empty
+     * @throws IllegalArgumentException if the line does not start with the key
+     */
+    private static String valueOf(String line, String key) {
+        if (line.equals(key)) {
+            return "";
+        }
+        if (!line.startsWith(key + " ")) {
+            throw new IllegalArgumentException("invalid result");
+        }
+        return line.substring(key.length() + 1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, length: mean %.2f, p50 %d, p99 %d", toSimulationResult(), getMeanLength(),
+                getLengthPercentile(0.5), getLengthPercentile(0.99));
+    }
+}
@@ -0,0 +1,204 @@
+package edu.kit.informatik.simulation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+The coordinator and the workers only communicate through the files of the shards, so a worker that crashes
+cannot leave anything behind that the coordinator has to clean up: a shard is either written completely or not
+at all. The coordinator polls the files of the shards of every running worker and merges each one as soon as it
+appears. Once a worker has exited, every one of its shards without a file is started again by a new worker,
+which is why it does not matter whether the worker crashed, was killed or failed in any other way. Shards that
+already have a file when the coordinator starts are merged right away, so an interrupted simulation can be
+resumed by starting it again with the same arguments and directory.
+ */
+
+/**
+ * Plays a {@link ShardJob} with several local worker processes, merges their results and starts the shards
+ * of workers that exited before they were done again.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ShardCoordinator {
+    /**
+     * Number of times a shard is started before the simulation fails.
+     */
+    static final int MAX_ATTEMPTS = 3;
+    private static final long POLL_MILLIS = 100;
+    private final ShardJob job;
+    private final Path directory;
+    private final int workers;
+    private final Consumer<String> log;
+
+    /**
+     * Creates a new coordinator.
+     *
+     * @param job to be played
+     * @param directory of the files of the shards
+     * @param workers maximum number of worker processes at the same time
+     * @param log receives a line about the progress whenever a shard is merged or started again
+     */
+    public ShardCoordinator(ShardJob job, Path directory, int workers, Consumer<String> log) {
+        this.job = job;
+        this.directory = directory;
+        this.workers = workers;
+        this.log = log;
+    }
+
+    /**
+     * Plays all shards that have no file yet and merges the results of all shards.
+     *
+     * @return the merged result of the whole simulation
+     * @throws IOException if a file cannot be read, a worker cannot be started or a shard failed
+     *  {@link #MAX_ATTEMPTS} times
+     * @throws InterruptedException if the thread is interrupted while it waits for the workers
+     */
+    public PartialResult run() throws IOException, InterruptedException {
+        Files.createDirectories(directory);
+        final PartialResult merged = new PartialResult();
+        final boolean[] done = new boolean[job.getShards()];
+        final int[] attempts = new int[job.getShards()];
+        final Deque<Integer> pending = new ArrayDeque<>();
+        int finished = 0;
+        for (int shard = 0; shard < done.length; shard++) {
+            final PartialResult result = job.read(directory, shard);
+            if (result == null) {
+                pending.add(shard);
+            } else {
+                merged.merge(result);
+                done[shard] = true;
+                finished++;
+            }
+        }
+        if (finished > 0) {
+            log.accept(progress(finished, merged));
+        }
+        final List<Worker> running = new ArrayList<>();
+        try {
+            while (finished < done.length) {
+                while (running.size() < workers && !pending.isEmpty()) {
+                    running.add(start(takeBatch(pending, workers - running.size()), attempts));
+                }
+                Thread.sleep(POLL_MILLIS);
+                for (final Iterator<Worker> iterator = running.iterator(); iterator.hasNext();) {
+                    final Worker worker = iterator.next();
+                    // Checked before the files, so that the last file of a worker that has exited is never missed
+                    final boolean exited = !worker.process.isAlive();
+                    final List<Integer> orphans = new ArrayList<>();
+                    for (final int shard : worker.shards) {
+                        final PartialResult result = done[shard] ? null : job.read(directory, shard);
+                        if (result != null) {
+                            merged.merge(result);
+                            done[shard] = true;
+                            finished++;
+                            log.accept(progress(finished, merged));
+                        } else if (!done[shard]) {
+                            orphans.add(shard);
+                        }
+                    }
+                    if (exited) {
+                        iterator.remove();
+                        if (!orphans.isEmpty()) {
+                            log.accept(String.format("worker exited with code %d, starting shards %s again",
+                                    worker.process.exitValue(), orphans));
+                            pending.addAll(orphans);
+                        }
+                    }
+                }
+            }
+        } finally {
+            for (final Worker worker : running) {
+                worker.process.destroy();
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Takes the next shards for a new worker, so that the pending shards are spread evenly over the
+     * given number of free workers.
+     *
+     * @param pending shards that have to be started
+     * @param freeWorkers number of workers that can still be started, at least 1
+     * @return the shards of the new worker
+     */
+    private static List<Integer> takeBatch(Deque<Integer> pending, int freeWorkers) {
+        final int size = (pending.size() + freeWorkers - 1) / freeWorkers;
+        final List<Integer> batch = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            batch.add(pending.poll());
+        }
+        return batch;
+    }
+
+    /**
+     * Starts a worker process for the given {@code shards}. It uses the same Java runtime and class path as
+     * this process and shares its standard output and error.
+     *
+     * @param shards to be played by the worker
+     * @param attempts number of times every shard has been started
+     * @return the started worker
+     * @throws IOException if a shard has already failed too often or the process cannot be started
+     */
+    private Worker start(List<Integer> shards, int[] attempts) throws IOException {
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorkerMain.class.getName());
+        command.add(directory.toString());
+        command.add(Long.toString(job.getGames()));
+        command.add(Long.toString(job.getSeed()));
+        command.add(job.getStrategy().toString());
+        for (final int shard : shards) {
+            if (++attempts[shard] > MAX_ATTEMPTS) {
+                throw new IOException("shard " + shard + " failed " + MAX_ATTEMPTS + " times");
+            }
+            command.add(Integer.toString(shard));
+        }
+        final Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.INHERIT)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        return new Worker(process, shards);
+    }
+
+    /**
+     * Describes the progress of the simulation.
+     *
+     * @param finished number of merged shards
+     * @param merged result of the merged shards
+     * @return the line about the progress
+     */
+    private String progress(int finished, PartialResult merged) {
+        return String.format("shards: %d/%d, %s", finished, job.getShards(), merged);
+    }
+
+    /**
+     * A worker process and the shards it plays.
+     */
+    private static final class Worker {
+        private final Process process;
+        private final List<Integer> shards;
+
+        /**
+         * Creates a new worker.
+         *
+         * @param process of the worker
+         * @param shards played by the worker
+         */
+        Worker(Process process, List<Integer> shards) {
+            this.process = process;
+            this.shards = shards;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package edu.kit.informatik.simulation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+A shard is a range of games that starts at a block boundary of the Simulator, and every block gets its random
+numbers from the seed and its own number. So a shard plays exactly the games that a single simulation with the
+same seed plays in this range, no matter which process plays it or how often it has been started before, and
+the merged shards are the result of one simulation. A worker writes a finished shard to a temporary file and
+renames it, so a file with the name of a shard is always complete. The first line of the file identifies the
+simulation, so that the shards of a different simulation in the same directory are never merged by accident.
+ */
+
+/**
+ * A simulation that is split into shards, which can be played by different processes and merged afterwards.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ShardJob {
+    /**
+     * Number of games of a shard, except for the last one.
+     */
+    static final long SHARD_SIZE = 64L * Simulator.BLOCK_SIZE;
+    private static final String SUFFIX = ".txt";
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+    private final long games;
+    private final long seed;
+    private final BuiltInStrategy strategy;
+
+    /**
+     * Creates a new simulation.
+     *
+     * @param games number of games of the whole simulation
+     * @param seed of the simulation
+     * @param strategy that makes the decisions of the player
+     * @throws IllegalArgumentException if the number of games is negative or too large
+     */
+    public ShardJob(long games, long seed, BuiltInStrategy strategy) {
+        if (games < 0 || games / SHARD_SIZE >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid number of games");
+        }
+        this.games = games;
+        this.seed = seed;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Gets the number of games of the whole simulation.
+     *
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the seed of the simulation.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the strategy that makes the decisions of the player.
+     *
+     * @return the strategy
+     */
+    public BuiltInStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the number of shards.
+     *
+     * @return the number of shards
+     */
+    public int getShards() {
+        return (int) ((games + SHARD_SIZE - 1) / SHARD_SIZE);
+    }
+
+    /**
+     * Returns <code>true</code> if the simulation has a shard with the given number.
+     *
+     * @param shard number of the shard
+     * @return <code>true</code> if the shard exists
+     */
+    public boolean hasShard(int shard) {
+        return shard >= 0 && shard < getShards();
+    }
+
+    /**
+     * Plays all games of the given {@code shard}.
+     *
+     * @param shard number of the shard
+     * @return the result of the shard
+     */
+    public PartialResult play(int shard) {
+        final Simulator simulator = new Simulator(strategy);
+        final MoveCounter counter = new MoveCounter();
+        final PartialResult result = new PartialResult();
+        final long end = Math.min(games, (shard + 1) * SHARD_SIZE);
+        for (long from = shard * SHARD_SIZE; from < end; from += Simulator.BLOCK_SIZE) {
+            simulator.playBlock(from, Math.min(end, from + Simulator.BLOCK_SIZE), seed, counter,
+                won -> result.add(won, counter.getMoves()));
+        }
+        return result;
+    }
+
+    /**
+     * Writes the result of the given {@code shard} into its file in the given {@code directory}.
+     *
+     * @param directory of the simulation
+     * @param shard number of the shard
+     * @param result of the shard
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path directory, int shard, PartialResult result) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        lines.add(header());
+        lines.addAll(result.toLines());
+        final Path temporary = directory.resolve(nameOf(shard) + TEMPORARY_SUFFIX);
+        Files.write(temporary, lines, StandardCharsets.UTF_8);
+        Files.move(temporary, fileOf(directory, shard), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Reads the result of the given {@code shard} from its file in the given {@code directory}.
+     *
+     * @param directory of the simulation
+     * @param shard number of the shard
+     * @return the result of the shard or null if it has not been written yet
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is invalid or belongs to another simulation
+     */
+    public PartialResult read(Path directory, int shard) throws IOException {
+        final Path file = fileOf(directory, shard);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(header())) {
+            throw new IllegalArgumentException(file.getFileName() + " belongs to another simulation");
+        }
+        return PartialResult.parse(lines.subList(1, lines.size()));
+    }
+
+    /**
+     * Gets the file of the given {@code shard}.
+     *
+     * @param directory of the simulation
+     * @param shard number of the shard
+     * @return the path of the file
+     */
+    private static Path fileOf(Path directory, int shard) {
+        return directory.resolve(nameOf(shard) + SUFFIX);
+    }
+
+    /**
+     * Gets the name of the file of the given {@code shard} without its suffix.
+     *
+     * @param shard number of the shard
+     * @return the name of the file
+     */
+    private static String nameOf(int shard) {
+        return "shard-" + shard;
+    }
+
+    /**
+     * Gets the first line of the file of every shard, which identifies the simulation.
+     *
+     * @return the header of a file
+     */
+    private String header() {
+        return "simulation " + games + " " + seed + " " + strategy;
+    }
+}
@@ -0,0 +1,63 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * The entry point of a simulation that is played by several worker processes. It expects the directory of the
+ * shards, the number of games, the seed and optionally the number of workers and the name of a
+ * {@link BuiltInStrategy} as command line arguments. By default there is one worker per core.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ShardMain {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private ShardMain() {
+    }
+
+    /**
+     * Runs the simulation and prints its progress and result.
+     *
+     * @param args the directory, the number of games, the seed and optionally the workers and the strategy
+     */
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 5) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final BuiltInStrategy strategy = args.length == 5 ? BuiltInStrategy.parse(args[4]) : BuiltInStrategy.GREEDY;
+        final ShardJob job;
+        final int workers;
+        try {
+            job = new ShardJob(Long.parseLong(args[1]), Long.parseLong(args[2]), strategy);
+            workers = args.length >= 4 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        } catch (final IllegalArgumentException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (workers <= 0 || strategy == null) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final long start = System.nanoTime();
+        try {
+            final PartialResult result = new ShardCoordinator(job, Paths.get(args[0]), workers,
+                    Terminal::printLine).run();
+            Terminal.printLine(result);
+            Terminal.printLine(String.format("time: %.3f s", (System.nanoTime() - start) / NANOS_PER_SECOND));
+        } catch (final IOException | IllegalArgumentException e) {
+            Terminal.printError(e.getMessage());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
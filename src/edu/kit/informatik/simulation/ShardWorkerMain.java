@@ -0,0 +1,66 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The entry point of a worker process, which is started by a {@link ShardCoordinator}. It expects the
+ * directory of the shards, the number of games, the seed, the name of a {@link BuiltInStrategy} and the
+ * numbers of the shards to be played as command line arguments, and writes the file of every shard as soon
+ * as the shard is done.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class ShardWorkerMain {
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private ShardWorkerMain() {
+    }
+
+    /**
+     * Plays the given shards one after the other.
+     *
+     * @param args the directory, the number of games, the seed, the strategy and the shards
+     */
+    public static void main(String[] args) {
+        if (args.length < 5) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final Path directory = Paths.get(args[0]);
+        final BuiltInStrategy strategy = BuiltInStrategy.parse(args[3]);
+        final ShardJob job;
+        final int[] shards = new int[args.length - 4];
+        try {
+            job = new ShardJob(Long.parseLong(args[1]), Long.parseLong(args[2]), strategy);
+            for (int i = 0; i < shards.length; i++) {
+                shards[i] = Integer.parseInt(args[i + 4]);
+                if (!job.hasShard(shards[i])) {
+                    throw new IllegalArgumentException("invalid shard");
+                }
+            }
+        } catch (final IllegalArgumentException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        if (strategy == null) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        try {
+            for (final int shard : shards) {
+                job.write(directory, shard, job.play(shard));
+            }
+        } catch (final IOException e) {
+            Terminal.printError(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.userinterface.InOutput;
+
+/**
+ * The entry point of the headless simulation. It expects the number of games, the seed
+ * and optionally the name of a {@link BuiltInStrategy} as command line arguments.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Simulation {
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private Simulation() {
+    }
+
+    /**
+     * Runs the simulation and prints its result.
+     *
+     * @param args the number of games, the seed and optionally the strategy
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final long games;
+        final long seed;
+        try {
+            games = Long.parseLong(args[0]);
+            seed = Long.parseLong(args[1]);
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final BuiltInStrategy strategy = args.length == 3 ? BuiltInStrategy.parse(args[2]) : BuiltInStrategy.GREEDY;
+        if (games < 0 || strategy == null) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final long start = System.nanoTime();
+        final SimulationResult result = new Simulator(strategy).simulate(games, seed);
+        Terminal.printLine(result);
+        Terminal.printLine(String.format("time: %.3f s", (System.nanoTime() - start) / 1e9));
+    }
+}
@@ -0,0 +1,79 @@
+package edu.kit.informatik.simulation;
+
+/**
+ * The outcome of a simulation, i.e. how many of the simulated games were won and lost.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class SimulationResult {
+    /**
+     * Z-value of the normal distribution for a confidence level of 95%.
+     */
+    static final double Z_95 = 1.96;
+    private final long wins;
+    private final long losses;
+
+    /**
+     * Creates a new simulation result.
+     *
+     * @param wins number of games won
+     * @param losses number of games lost
+     */
+    public SimulationResult(long wins, long losses) {
+        this.wins = wins;
+        this.losses = losses;
+    }
+
+    /**
+     * Gets the number of games won.
+     *
+     * @return the number of games won
+     */
+    public long getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the number of games lost.
+     *
+     * @return the number of games lost
+     */
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the number of simulated games
+     */
+    public long getGames() {
+        return wins + losses;
+    }
+
+    /**
+     * Gets the estimated probability to win a game.
+     *
+     * @return the fraction of games won
+     */
+    public double getWinRate() {
+        return getGames() == 0 ? 0 : (double) wins / getGames();
+    }
+
+    /**
+     * Gets the half width of the 95% confidence interval of the {@link #getWinRate() win rate}.
+     *
+     * @return the margin of error of the win rate
+     */
+    public double getMarginOfError() {
+        final double rate = getWinRate();
+        return getGames() == 0 ? 0 : Z_95 * Math.sqrt(rate * (1 - rate) / getGames());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games: %d, wins: %d, losses: %d, win rate: %.4f +- %.4f",
+                getGames(), wins, losses, getWinRate(), getMarginOfError());
+    }
+}
@@ -0,0 +1,229 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Dice;
+import edu.kit.informatik.cardgame.GameObserver;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.LogicException;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+The games are divided into blocks of a fixed size and every block gets its own random number generator,
+which is seeded with a mix of the seed and the block number. Which thread plays a block and in which order
+the blocks are played therefore does not matter, the same seed always leads to the same result.
+The counters are LongAdders, which are striped internally, so the threads do not contend for one cache line.
+ */
+
+/**
+ * Headless Monte Carlo simulation of the {@link CardGame}. Uniformly random valid card decks are played
+ * by a {@link Strategy}, while the dice are rolled internally. The games are spread across all cores
+ * with the fork/join framework.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public class Simulator {
+    /**
+     * Number of games that are played by one task with one random number generator.
+     */
+    static final int BLOCK_SIZE = 1024;
+    /**
+     * Odd constant of SplitMix64, the golden ratio scaled to 64 bits, which spreads the seeds of the simulation
+     * so far apart that the blocks of different seeds never share a generator.
+     */
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private final Strategy strategy;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new simulator that uses the common fork/join pool.
+     *
+     * @param strategy that makes the decisions of the player
+     */
+    public Simulator(Strategy strategy) {
+        this(strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new simulator.
+     *
+     * @param strategy that makes the decisions of the player
+     * @param pool that plays the games
+     */
+    public Simulator(Strategy strategy, ForkJoinPool pool) {
+        this.strategy = strategy;
+        this.pool = pool;
+    }
+
+    /**
+     * Simulates the given number of {@code games}.
+     *
+     * @param games number of games to be simulated
+     * @param seed of the simulation, the same seed leads to the same result
+     * @return the result of the simulation
+     */
+    public SimulationResult simulate(long games, long seed) {
+        final LongAdder wins = new LongAdder();
+        final LongAdder losses = new LongAdder();
+        pool.invoke(new SimulationTask(0, games, seed, wins, losses));
+        return new SimulationResult(wins.sum(), losses.sum());
+    }
+
+    /**
+     * Creates the random number generator of the given {@code block}.
+     *
+     * @param seed of the simulation
+     * @param block number of the block
+     * @return a random number generator that only depends on the seed and the block
+     */
+    static SplittableRandom randomOf(long seed, long block) {
+        // Combining the seed and the block with xor would give neighbouring seeds the same blocks in another order
+        return new SplittableRandom(mix(seed * GOLDEN_GAMMA + block));
+    }
+
+    /**
+     * The finalizer of SplitMix64, which scrambles the bits of the given {@code value}, so that values that only
+     * differ in a few bits lead to unrelated results.
+     *
+     * @param value to be scrambled
+     * @return the scrambled value
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays the games from {@code from} inclusive to {@code to} exclusive, which have to be the first games
+     * of one block, exactly like {@link #simulate(long, long)} plays them.
+     *
+     * @param from first game, the first one of its block
+     * @param to game after the last game, at most the end of the block
+     * @param seed of the simulation
+     * @param observer to be set on every game or null
+     * @param outcomes receives the outcome of every game in order
+     */
+    void playBlock(long from, long to, long seed, GameObserver observer, Outcomes outcomes) {
+        final SplittableRandom random = randomOf(seed, from / BLOCK_SIZE);
+        final PlayingCard[] deck = DeckGenerator.sortedDeck();
+        CardGame game = new CardGame();
+        game.setObserver(observer);
+        for (long i = from; i < to; i++) {
+            DeckGenerator.shuffle(deck, random);
+            if (game.isActive()) {
+                game = new CardGame();
+                game.setObserver(observer);
+            }
+            try {
+                outcomes.add(play(game, deck, random));
+            } catch (final LogicException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Plays one game with the given {@code deck} until it is won or lost.
+     * If the player does not build anything although there are no cards left, the game is lost.
+     *
+     * @param game to be played, must not be active
+     * @param deck of the game
+     * @param random that rolls the dice
+     * @return <code>true</code> if the game is won
+     * @throws LogicException if the strategy makes an invalid decision
+     */
+    public boolean play(CardGame game, PlayingCard[] deck, SplittableRandom random) throws LogicException {
+        game.setCardDeck(deck);
+        return finish(game, new Dice(random));
+    }
+
+    /**
+     * Plays the given {@code game} from its current position until it is won or lost.
+     * If the player does not build anything although there are no cards left, the game counts as lost,
+     * but it stays active.
+     *
+     * @param game to be played
+     * @param dice that roll the dice
+     * @return <code>true</code> if the game is won
+     * @throws LogicException if the strategy makes an invalid decision
+     */
+    public boolean finish(CardGame game, Dice dice) throws LogicException {
+        while (game.isActive()) {
+            final Optional<Integer> diceSize = game.getRequiredDiceSize();
+            if (diceSize.isPresent()) {
+                game.setDiced(diceSize.get(), dice.roll(diceSize.get()));
+                continue;
+            }
+            final Item item = strategy.next(game);
+            if (item != null) {
+                game.build(item);
+            } else if (game.getRemainingCards() > 0) {
+                game.draw();
+            } else {
+                return false;
+            }
+        }
+        return game.isWon();
+    }
+
+    /**
+     * Plays the games of a range of games. The task is split until only one block is left.
+     */
+    private final class SimulationTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final long from;
+        private final long to;
+        private final long seed;
+        private final LongAdder wins;
+        private final LongAdder losses;
+
+        /**
+         * Creates a new task for the games from {@code from} inclusive to {@code to} exclusive.
+         *
+         * @param from first game of the task
+         * @param to game after the last game of the task
+         * @param seed of the simulation
+         * @param wins counter of the games won
+         * @param losses counter of the games lost
+         */
+        SimulationTask(long from, long to, long seed, LongAdder wins, LongAdder losses) {
+            this.from = from;
+            this.to = to;
+            this.seed = seed;
+            this.wins = wins;
+            this.losses = losses;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BLOCK_SIZE) {
+                // Split at a block boundary, so that every block is played by exactly one task
+                final long middle = from + ((to - from) / 2 + BLOCK_SIZE - 1) / BLOCK_SIZE * BLOCK_SIZE;
+                invokeAll(new SimulationTask(from, middle, seed, wins, losses),
+                        new SimulationTask(middle, to, seed, wins, losses));
+                return;
+            }
+            playBlock(from, to, seed, null, won -> (won ? wins : losses).increment());
+        }
+    }
+
+    /**
+     * Receives the outcomes of simulated games.
+     */
+    interface Outcomes {
+        /**
+         * Adds the outcome of one game.
+         *
+         * @param won <code>true</code> if the game was won
+         */
+        void add(boolean won);
+    }
+}
@@ -0,0 +1,81 @@
+package edu.kit.informatik.simulation;
+
+/**
+ * The result of one strategy in a tournament, compared to the best strategy of the tournament.
+ * Since all strategies played the same games, the difference to the best strategy is estimated from
+ * the paired outcomes of every single game, which is much more precise than comparing the win rates.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class Standing {
+    private final String strategy;
+    private final SimulationResult result;
+    private final double bestWinRate;
+    private final long differentGames;
+
+    /**
+     * Creates a new standing.
+     *
+     * @param strategy name of the strategy
+     * @param result of the strategy
+     * @param bestWinRate win rate of the best strategy
+     * @param differentGames number of games whose outcome differs from the outcome of the best strategy
+     */
+    Standing(String strategy, SimulationResult result, double bestWinRate, long differentGames) {
+        this.strategy = strategy;
+        this.result = result;
+        this.bestWinRate = bestWinRate;
+        this.differentGames = differentGames;
+    }
+
+    /**
+     * Gets the name of the strategy.
+     *
+     * @return the name of the strategy
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the wins and losses of the strategy.
+     *
+     * @return the result of the strategy
+     */
+    public SimulationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets how much lower the win rate of the strategy is than the win rate of the best strategy.
+     *
+     * @return the difference of the win rates, 0 for the best strategy
+     */
+    public double getDifference() {
+        return bestWinRate - result.getWinRate();
+    }
+
+    /**
+     * Gets the half width of the 95% confidence interval of the {@link #getDifference() difference}.
+     * Every game contributes the difference of both outcomes, which is -1, 0 or 1, so the mean square of
+     * these differences is the share of games with different outcomes.
+     *
+     * @return the margin of error of the difference
+     */
+    public double getMarginOfDifference() {
+        final long games = result.getGames();
+        if (games == 0) {
+            return 0;
+        }
+        final double difference = getDifference();
+        final double variance = (double) differentGames / games - difference * difference;
+        return SimulationResult.Z_95 * Math.sqrt(Math.max(variance, 0) / games);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: win rate: %.4f +- %.4f, behind: %.4f +- %.4f", strategy, result.getWinRate(),
+                result.getMarginOfError(), getDifference(), getMarginOfDifference());
+    }
+}
@@ -0,0 +1,24 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.exception.LogicException;
+
+/**
+ * A strategy decides which action a simulated player takes whenever there is a choice to make.
+ * This is only the case during the {@link CardGame} stage scavenge, the dice are always rolled by the simulation.
+ * Strategies are shared between all threads of a simulation, so implementations must be stateless.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public interface Strategy {
+    /**
+     * Decides on the next action in the given {@code game}.
+     *
+     * @param game the current position of the player
+     * @return the item to be built next or null if the next card is to be drawn
+     * @throws LogicException if the game cannot be queried at the moment
+     */
+    Item next(CardGame game) throws LogicException;
+}
@@ -0,0 +1,146 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.PlayingCard;
+import edu.kit.informatik.exception.LogicException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/*
+A task plays every strategy on the games of its block, so each card deck is decoded once for all strategies.
+The outcome of every game is kept as one bit per strategy and game, because comparing two strategies
+needs to know which games only one of them won. The blocks are multiples of 64 games, so every task writes
+whole words of its own and the tasks do not share anything but the read-only corpus.
+ */
+
+/**
+ * Plays several {@link Strategy strategies} on the same {@link Corpus} of card decks and dice, spread across
+ * all cores with the fork/join framework, and ranks them by their win rate.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public class Tournament {
+    private final List<String> names;
+    private final Simulator[] simulators;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new tournament that uses the common fork/join pool.
+     *
+     * @param strategies the strategies of the tournament by their names
+     */
+    public Tournament(Map<String, Strategy> strategies) {
+        this(strategies, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new tournament.
+     *
+     * @param strategies the strategies of the tournament by their names
+     * @param pool that plays the games
+     */
+    public Tournament(Map<String, Strategy> strategies, ForkJoinPool pool) {
+        this.names = new ArrayList<>(strategies.keySet());
+        this.simulators = new Simulator[names.size()];
+        for (int i = 0; i < simulators.length; i++) {
+            simulators[i] = new Simulator(strategies.get(names.get(i)), pool);
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Plays all games of the given {@code corpus} with every strategy.
+     *
+     * @param corpus of the games
+     * @return the standings of the strategies, the best one first
+     */
+    public List<Standing> play(Corpus corpus) {
+        final long[][] outcomes = new long[simulators.length][(corpus.size() + Long.SIZE - 1) / Long.SIZE];
+        pool.invoke(new TournamentTask(corpus, 0, corpus.size(), outcomes));
+        final List<Integer> ranking = new ArrayList<>();
+        final long[] wins = new long[simulators.length];
+        for (int i = 0; i < simulators.length; i++) {
+            for (final long word : outcomes[i]) {
+                wins[i] += Long.bitCount(word);
+            }
+            ranking.add(i);
+        }
+        ranking.sort(Comparator.comparingLong((Integer i) -> -wins[i]));
+        final List<Standing> standings = new ArrayList<>();
+        if (ranking.isEmpty()) {
+            return standings;
+        }
+        final int best = ranking.get(0);
+        final double bestWinRate = corpus.size() == 0 ? 0 : (double) wins[best] / corpus.size();
+        for (final int i : ranking) {
+            long differentGames = 0;
+            for (int word = 0; word < outcomes[i].length; word++) {
+                differentGames += Long.bitCount(outcomes[i][word] ^ outcomes[best][word]);
+            }
+            standings.add(new Standing(names.get(i), new SimulationResult(wins[i], corpus.size() - wins[i]),
+                    bestWinRate, differentGames));
+        }
+        return standings;
+    }
+
+    /**
+     * Plays a range of games with every strategy. The task is split until only one block is left.
+     */
+    private final class TournamentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final Corpus corpus;
+        private final int from;
+        private final int to;
+        private final long[][] outcomes;
+
+        /**
+         * Creates a new task for the games from {@code from} inclusive to {@code to} exclusive.
+         *
+         * @param corpus of the games
+         * @param from first game of the task
+         * @param to game after the last game of the task
+         * @param outcomes one bit per strategy and game that is set if the strategy won the game
+         */
+        TournamentTask(Corpus corpus, int from, int to, long[][] outcomes) {
+            this.corpus = corpus;
+            this.from = from;
+            this.to = to;
+            this.outcomes = outcomes;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > Simulator.BLOCK_SIZE) {
+                // Split at a block boundary, so that no two tasks write the same word of the outcomes
+                final int middle = from + ((to - from) / 2 + Simulator.BLOCK_SIZE - 1)
+                        / Simulator.BLOCK_SIZE * Simulator.BLOCK_SIZE;
+                invokeAll(new TournamentTask(corpus, from, middle, outcomes),
+                        new TournamentTask(corpus, middle, to, outcomes));
+                return;
+            }
+            final PlayingCard[] deck = new PlayingCard[DeckGenerator.DECK_SIZE];
+            CardGame game = new CardGame();
+            for (int i = from; i < to; i++) {
+                corpus.copyDeck(i, deck);
+                for (int strategy = 0; strategy < simulators.length; strategy++) {
+                    if (game.isActive()) {
+                        game = new CardGame();
+                    }
+                    try {
+                        if (simulators[strategy].play(game, deck, corpus.diceOf(i))) {
+                            outcomes[strategy][i / Long.SIZE] |= 1L << i;
+                        }
+                    } catch (final LogicException e) {
+                        throw new IllegalStateException(e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package edu.kit.informatik.simulation;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The entry point of a tournament of strategies. It expects the number of games, the seed and optionally
+ * the strategies as command line arguments. A strategy is either the name of a {@link BuiltInStrategy} or the
+ * fully qualified name of a class that implements {@link Strategy} and has a public constructor without
+ * parameters. Without strategies, all built-in strategies take part.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class TournamentMain {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * This class does not need to be instantiated. The only significant element
+     * is the main method.
+     */
+    private TournamentMain() {
+    }
+
+    /**
+     * Plays the tournament and prints the leaderboard.
+     *
+     * @param args the number of games, the seed and optionally the strategies
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final int games;
+        final long seed;
+        try {
+            games = Integer.parseInt(args[0]);
+            seed = Long.parseLong(args[1]);
+        } catch (final NumberFormatException e) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final Map<String, Strategy> strategies = new LinkedHashMap<>();
+        if (args.length == 2) {
+            for (final BuiltInStrategy strategy : BuiltInStrategy.values()) {
+                strategies.put(strategy.toString(), strategy);
+            }
+        }
+        for (int i = 2; i < args.length; i++) {
+            final Strategy strategy = parseStrategy(args[i]);
+            if (strategy == null) {
+                Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+                return;
+            }
+            strategies.put(args[i], strategy);
+        }
+        if (games < 0 || games > Integer.MAX_VALUE / DeckGenerator.DECK_SIZE) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        final long start = System.nanoTime();
+        final Corpus corpus = Corpus.generate(games, seed);
+        final List<Standing> standings = new Tournament(strategies).play(corpus);
+        Terminal.printLine(String.format("games: %d, strategies: %d, time: %.3f s", games, strategies.size(),
+                (System.nanoTime() - start) / NANOS_PER_SECOND));
+        for (int i = 0; i < standings.size(); i++) {
+            Terminal.printLine((i + 1) + ". " + standings.get(i));
+        }
+    }
+
+    /**
+     * Parses the name of a built-in strategy or creates an instance of the strategy class with the given name.
+     *
+     * @param strategyString to be parsed
+     * @return the strategy or null if the String format does not represent a strategy
+     */
+    private static Strategy parseStrategy(String strategyString) {
+        final BuiltInStrategy builtIn = BuiltInStrategy.parse(strategyString);
+        if (builtIn != null) {
+            return builtIn;
+        }
+        try {
+            return Class.forName(strategyString).asSubclass(Strategy.class).getConstructor().newInstance();
+        } catch (final ReflectiveOperationException | ClassCastException | LinkageError e) {
+            return null;
+        }
+    }
+}
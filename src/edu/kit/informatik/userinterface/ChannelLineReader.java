@@ -0,0 +1,120 @@
+package edu.kit.informatik.userinterface;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+
+/*
+The input is read in large chunks straight into one byte buffer, and the lines are found in it where they are.
+Only the current line is copied into the reusable InputLine, so no String is created for a line at all.
+A line that does not fit into the buffer any more is moved to its front, and the buffer only grows for a
+line that is longer than the whole buffer. Reading from the channel is the only place where the session may
+wait for the user, so the output is flushed right before it and never while lines are still buffered.
+ */
+
+/**
+ * Reads the lines of user input from a channel. A line ends with "\n", "\r" or "\r\n", just like with
+ * {@link java.io.BufferedReader#readLine()}.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class ChannelLineReader {
+    private static final int CAPACITY = 1 << 16;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    private final ReadableByteChannel channel;
+    private final Output output;
+    private final InputLine line;
+    /**
+     * Bytes that have been read, from the index {@link #position} to the position of the buffer.
+     */
+    private ByteBuffer buffer = ByteBuffer.allocate(CAPACITY);
+    /**
+     * Index of the first byte that has not been split into lines yet.
+     */
+    private int position;
+    /**
+     * Whether the last line ended with a carriage return, so that a following line feed does not end another line.
+     */
+    private boolean carriageReturn;
+    private boolean endOfInput;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param channel to read from
+     * @param charset of the input, which has to encode ASCII as one byte per character
+     * @param output to be flushed before every read from the channel
+     */
+    ChannelLineReader(ReadableByteChannel channel, Charset charset, Output output) {
+        this.channel = channel;
+        this.output = output;
+        this.line = new InputLine(charset);
+    }
+
+    /**
+     * Reads the next line. The returned line is reused, its content is only valid until the next call.
+     *
+     * @return the line without its line break or null if the end of the input has been reached
+     * @throws IOException if the channel cannot be read
+     */
+    InputLine readLine() throws IOException {
+        int scan = position;
+        while (true) {
+            final byte[] bytes = buffer.array();
+            final int limit = buffer.position();
+            if (carriageReturn && scan < limit) {
+                carriageReturn = false;
+                // The line feed of "\r\n" belongs to the line break of the last line
+                if (bytes[scan] == LINE_FEED) {
+                    position++;
+                    scan++;
+                }
+            }
+            for (; scan < limit; scan++) {
+                if (bytes[scan] == LINE_FEED || bytes[scan] == CARRIAGE_RETURN) {
+                    carriageReturn = bytes[scan] == CARRIAGE_RETURN;
+                    line.set(bytes, position, scan);
+                    position = scan + 1;
+                    return line;
+                }
+            }
+            if (endOfInput) {
+                if (position == limit) {
+                    return null;
+                }
+                line.set(bytes, position, limit);
+                position = limit;
+                return line;
+            }
+            scan -= fill();
+        }
+    }
+
+    /**
+     * Moves the bytes from the {@link #position} on to the front of the buffer, flushes the output and reads
+     * more bytes. The buffer grows if it is full of one line.
+     *
+     * @return the number of bytes the content of the buffer was moved to the front
+     * @throws IOException if the channel cannot be read
+     */
+    private int fill() throws IOException {
+        final int moved = position;
+        buffer.limit(buffer.position()).position(moved);
+        buffer.compact();
+        position = 0;
+        if (!buffer.hasRemaining()) {
+            final ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+        output.flush();
+        if (channel.read(buffer) < 0) {
+            endOfInput = true;
+        }
+        return moved;
+    }
+}
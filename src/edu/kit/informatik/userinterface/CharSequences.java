@@ -0,0 +1,38 @@
+package edu.kit.informatik.userinterface;
+
+/**
+ * Compares regions of user input, which is a {@link CharSequence} such as an {@link InputLine} rather than a
+ * String, without copying the regions.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class CharSequences {
+    /**
+     * Utility-class constructor.
+     */
+    private CharSequences() {
+    }
+
+    /**
+     * Returns <code>true</code> if the region from {@code from} (inclusive) to {@code to} (exclusive) of the given
+     * {@code input} equals the given {@code text}. A region outside of the input does not equal any text.
+     *
+     * @param input of the user
+     * @param from index of the first character of the region
+     * @param to index after the last character of the region
+     * @param text to be compared
+     * @return <code>true</code> if the region equals the text
+     */
+    public static boolean regionEquals(CharSequence input, int from, int to, String text) {
+        if (from < 0 || to > input.length() || to - from != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (input.charAt(from + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,29 +1,14 @@
 package edu.kit.informatik.userinterface;
 
-import edu.kit.informatik.cardgame.PlayingCard;
-
 /**
  * String constants for the command line interface. The user output should not be
  * obtained via the {@link Enum#name()} method but via the {@link this#toString()} method.
- * This class contains regular expressions, input patterns and user output.
+ * This class contains the separators of user input and user output.
  *
  * @author Lukas Probst
  * @version 1.0
  */
 public enum InOutput {
-    /**
-     * Regular expression for all cards from {@link PlayingCard}.
-     */
-    CARDS_PATTERN("((wood|metal|plastic|spider|snake|tiger|thunderstorm),){63}"
-            + "(wood|metal|plastic|spider|snake|tiger|thunderstorm)"),
-    /**
-     * Regular expression for all items from {@link edu.kit.informatik.cardgame.Item Item}.
-     */
-    ITEM_TYPE_PATTERN("(axe|club|shack|fireplace|sailingraft|hangglider|steamboat|ballon)"),
-    /**
-     * Regular expression for a natural number excluding zero.
-     */
-    NUMBER_PATTERN("[+]?[0-9]*[1-9][0-9]*"),
     /**
      * Separates the command from its potential arguments.
      */
@@ -32,6 +17,10 @@ public enum InOutput {
      * Separates the cards that are initialised by the start command.
      */
     CARD_SEPARATOR(","),
+    /**
+     * Precedes every error message.
+     */
+    ERROR_PREFIX("Error, "),
     /**
      * The output to use for communicating successful execution
      */
@@ -72,6 +61,10 @@ public enum InOutput {
      * To indicate that the diced number has to be a 32-bit integer.
      */
     INVALID_DICED_INTEGER("diced number must be a 32-bit integer"),
+    /**
+     * To indicate that the number of cards to be drawn has to be a 32-bit integer.
+     */
+    INVALID_CARDS_INTEGER("number of cards must be a 32-bit integer"),
     /**
      * To indicate that the card deck is invalid.
      */
@@ -0,0 +1,121 @@
+package edu.kit.informatik.userinterface;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/*
+The commands only look at the characters of a line while they parse it and keep nothing but the parsed
+arguments, so one line object can be reused for every line of a session instead of creating a String per line.
+Almost all input is ASCII, whose bytes already are its characters, so such a line is only copied as it is and
+each character is widened when it is read. Whether a line is ASCII is checked eight bytes at a time. Only a line
+with other bytes is decoded with the charset. Line breaks are ASCII in every charset a terminal uses, so the bytes
+of a line can be found before they are decoded.
+ */
+
+/**
+ * A reusable line of user input, which is a view of a line of encoded bytes. Its content stays the same until
+ * it is {@link #set(byte[], int, int) set} to the next line.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class InputLine implements CharSequence {
+    private static final int INITIAL_CAPACITY = 1 << 7;
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+    /**
+     * Highest bit of each of the eight bytes of a long, which is only set for bytes outside of ASCII.
+     */
+    private static final long NON_ASCII_BITS = 0x8080808080808080L;
+    private final Charset charset;
+    /**
+     * The line if it is ASCII.
+     */
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    /**
+     * The decoded line if it is not ASCII, otherwise null.
+     */
+    private char[] characters;
+    private int length;
+
+    /**
+     * Creates a new empty line.
+     *
+     * @param charset of the bytes of the lines, which has to encode ASCII as one byte per character
+     */
+    public InputLine(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * Sets the line to the bytes from {@code from} (inclusive) to {@code to} (exclusive), without the line break.
+     *
+     * @param bytes that contain the line
+     * @param from index of the first byte of the line
+     * @param to index after the last byte of the line
+     */
+    public void set(byte[] bytes, int from, int to) {
+        if (isAscii(bytes, from, to)) {
+            if (this.bytes.length < to - from) {
+                this.bytes = new byte[Math.max(this.bytes.length * 2, to - from)];
+            }
+            System.arraycopy(bytes, from, this.bytes, 0, to - from);
+            characters = null;
+            length = to - from;
+        } else {
+            characters = new String(bytes, from, to - from, charset).toCharArray();
+            length = characters.length;
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the bytes from {@code from} (inclusive) to {@code to} (exclusive) are ASCII.
+     *
+     * @param bytes to be checked
+     * @param from index of the first byte
+     * @param to index after the last byte
+     * @return <code>true</code> if no byte is outside of ASCII
+     */
+    private static boolean isAscii(byte[] bytes, int from, int to) {
+        int index = from;
+        for (; index <= to - Long.BYTES; index += Long.BYTES) {
+            if (((long) LONGS.get(bytes, index) & NON_ASCII_BITS) != 0) {
+                return false;
+            }
+        }
+        for (; index < to; index++) {
+            // Bytes outside of ASCII are negative
+            if (bytes[index] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, length);
+        return characters == null ? (char) bytes[index] : characters[index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, length);
+        return characters == null ? new String(bytes, start, end - start, StandardCharsets.US_ASCII)
+                : new String(characters, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return subSequence(0, length).toString();
+    }
+}
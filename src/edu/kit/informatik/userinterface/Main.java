@@ -1,5 +1,14 @@
 package edu.kit.informatik.userinterface;
 
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.journal.JournalWriter;
+import edu.kit.informatik.metrics.Metrics;
+import edu.kit.informatik.metrics.MetricsServer;
+import edu.kit.informatik.userinterface.commands.CommandFactory;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
 /**
  * The program's main entry point.
  *
@@ -16,12 +25,27 @@ public final class Main {
     }
 
     /**
-     * Initiates user input by creating and running a new {@link Session}.
+     * Initiates user input by creating and running a new {@link Session}. If the directory of a journal is given,
+     * all moves of the session are appended to it. If the system property {@value MetricsServer#PORT_PROPERTY}
+     * is set, the commands and games of the session are recorded and exported.
      *
-     * @param args the command line arguments
+     * @param args the command line arguments, optionally the directory of a journal
      */
     public static void main(String[] args) {
-        final Session session = new Session();
-        session.run();
+        if (args.length > 1) {
+            Terminal.printError(InOutput.INVALID_ARGUMENTS.toString());
+            return;
+        }
+        try (MetricsServer metricsServer = MetricsServer.fromSystemProperty(CommandFactory.getNames());
+             JournalWriter journal = args.length == 1 ? new JournalWriter(Paths.get(args[0])) : null) {
+            final Metrics metrics = metricsServer == null ? null : metricsServer.getMetrics();
+            final Session session = new Session(new TerminalOutput(), metrics);
+            if (journal != null) {
+                journal.attach(session.getGame());
+            }
+            session.run();
+        } catch (final IOException | IllegalArgumentException e) {
+            Terminal.printError(e.getMessage());
+        }
     }
 }
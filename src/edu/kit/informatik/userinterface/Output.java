@@ -0,0 +1,30 @@
+package edu.kit.informatik.userinterface;
+
+/**
+ * Destination of the output of a {@link Session}. The output is line based, like the output of the
+ * {@link edu.kit.informatik.Terminal Terminal}, and may be buffered until it is {@link #flush() flushed}.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public interface Output {
+    /**
+     * Prints the String representation of the given {@code object} followed by a line break.
+     *
+     * @param object to be printed
+     */
+    void printLine(Object object);
+
+    /**
+     * Prints the given error {@code message} with the prefix of errors, followed by a line break.
+     *
+     * @param message of the error
+     */
+    void printError(String message);
+
+    /**
+     * Writes the output that has been buffered so far. The {@link Session} calls this whenever the user is
+     * waiting for the output, at the latest before its input would block.
+     */
+    void flush();
+}
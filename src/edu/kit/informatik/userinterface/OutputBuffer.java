@@ -0,0 +1,211 @@
+package edu.kit.informatik.userinterface;
+
+import edu.kit.informatik.cardgame.ErrorMessages;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.PlayingCard;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+Almost every line of output is a playing card, an item, one of the InOutput texts or an error message, so these
+are encoded once for all buffers and appended as they are. All of them are ASCII, which is encoded the same way
+by every charset a terminal uses. Any other line is copied character by character as long as it is ASCII and
+only encoded with the charset otherwise. The bytes collect in one array that is reused after it is written,
+so printing a line neither synchronises nor allocates anything.
+ */
+
+/**
+ * A reusable buffer of encoded lines of output, which are written all at once.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+public final class OutputBuffer {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    /**
+     * Largest character that is encoded as one byte with the same value.
+     */
+    private static final char MAX_ASCII = 0x7F;
+    private static final byte[][] CARDS = encodeAll(PlayingCard.values());
+    private static final byte[][] ITEMS = encodeAll(Item.values());
+    private static final byte[] ERROR_PREFIX = encode(InOutput.ERROR_PREFIX.toString());
+    /**
+     * Encoded texts of the {@link InOutput} constants.
+     */
+    private static final Map<String, byte[]> TEXTS = new HashMap<>();
+    /**
+     * Encoded error lines, including the error prefix, of all known error messages.
+     */
+    private static final Map<String, byte[]> ERRORS = new HashMap<>();
+    private final Charset charset;
+    private final byte[] lineSeparator;
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    static {
+        for (final InOutput text : InOutput.values()) {
+            TEXTS.put(text.toString(), encode(text.toString()));
+            ERRORS.put(text.toString(), encode(InOutput.ERROR_PREFIX + text.toString()));
+        }
+        for (final ErrorMessages message : ErrorMessages.values()) {
+            ERRORS.put(message.toString(), encode(InOutput.ERROR_PREFIX + message.toString()));
+        }
+    }
+
+    /**
+     * Creates a new empty buffer.
+     *
+     * @param charset of the lines that are not ASCII, which has to encode ASCII as one byte per character
+     * @param lineSeparator that ends every line
+     */
+    public OutputBuffer(Charset charset, String lineSeparator) {
+        this.charset = charset;
+        this.lineSeparator = lineSeparator.getBytes(charset);
+    }
+
+    /**
+     * Encodes the given ASCII {@code text}.
+     *
+     * @param text to be encoded
+     * @return the encoded text
+     */
+    private static byte[] encode(String text) {
+        assert (text.chars().allMatch(character -> character <= MAX_ASCII));
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Encodes the String representations of the given {@code constants}.
+     *
+     * @param constants to be encoded
+     * @return the encoded constants, indexed by their ordinal
+     */
+    private static byte[][] encodeAll(Enum<?>[] constants) {
+        final byte[][] encoded = new byte[constants.length][];
+        for (final Enum<?> constant : constants) {
+            encoded[constant.ordinal()] = encode(constant.toString());
+        }
+        return encoded;
+    }
+
+    /**
+     * Appends the String representation of the given {@code object} followed by a line break, exactly like
+     * {@link java.io.PrintStream#println(Object)} prints it.
+     *
+     * @param object to be appended
+     */
+    public void appendLine(Object object) {
+        final byte[] encoded;
+        if (object instanceof PlayingCard) {
+            encoded = CARDS[((PlayingCard) object).ordinal()];
+        } else if (object instanceof Item) {
+            encoded = ITEMS[((Item) object).ordinal()];
+        } else {
+            encoded = object instanceof String ? TEXTS.get(object) : null;
+        }
+        if (encoded != null) {
+            append(encoded);
+        } else {
+            append(String.valueOf(object));
+        }
+        append(lineSeparator);
+    }
+
+    /**
+     * Appends the given error {@code message} with the prefix of errors, followed by a line break.
+     *
+     * @param message of the error
+     */
+    public void appendError(String message) {
+        final byte[] encoded = ERRORS.get(message);
+        if (encoded != null) {
+            append(encoded);
+        } else {
+            append(ERROR_PREFIX);
+            append(String.valueOf(message));
+        }
+        append(lineSeparator);
+    }
+
+    /**
+     * Gets the number of bytes that have not been written yet.
+     *
+     * @return the number of buffered bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes all buffered bytes to the given {@code stream} and empties the buffer.
+     *
+     * @param stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public void writeTo(OutputStream stream) throws IOException {
+        stream.write(bytes, 0, size);
+        size = 0;
+    }
+
+    /**
+     * Writes as many buffered bytes to the given {@code channel} as it accepts. The remaining bytes stay
+     * in the buffer.
+     *
+     * @param channel to write to, which may be in non-blocking mode
+     * @throws IOException if the channel cannot be written
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        final int written = channel.write(ByteBuffer.wrap(bytes, 0, size));
+        System.arraycopy(bytes, written, bytes, 0, size - written);
+        size -= written;
+    }
+
+    /**
+     * Appends the given {@code encoded} bytes.
+     *
+     * @param encoded bytes to be appended
+     */
+    private void append(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, size, encoded.length);
+        size += encoded.length;
+    }
+
+    /**
+     * Appends the given {@code text}, which is only encoded with the {@link #charset} if it is not ASCII.
+     *
+     * @param text to be appended
+     */
+    private void append(String text) {
+        ensureCapacity(text.length());
+        final int start = size;
+        for (int i = 0; i < text.length(); i++) {
+            final char character = text.charAt(i);
+            if (character > MAX_ASCII) {
+                size = start;
+                append(text.getBytes(charset));
+                return;
+            }
+            bytes[size++] = (byte) character;
+        }
+    }
+
+    /**
+     * Makes sure that the given number of {@code additional} bytes fit into the buffer.
+     *
+     * @param additional number of bytes to be appended
+     */
+    private void ensureCapacity(int additional) {
+        if (bytes.length - size < additional) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+    }
+}
@@ -2,46 +2,208 @@ package edu.kit.informatik.userinterface;
 
 import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.CardGame;
+import edu.kit.informatik.cardgame.Dice;
+import edu.kit.informatik.cardgame.ErrorMessages;
+import edu.kit.informatik.cardgame.Snapshot;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.metrics.Metrics;
 import edu.kit.informatik.userinterface.commands.Command;
 import edu.kit.informatik.userinterface.commands.CommandFactory;
 
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 /**
  * User input and output are handled here. Exception handling for invalid input also takes place here.
- * A session can be started and stopped.
+ * A session can be started and stopped. Every session has its own {@link CardGame}, so that many sessions
+ * can be played side by side, each one with its own {@link Output}.
  *
  * @author Lukas Probst
  * @version 1.0
  */
 public class Session {
+    /**
+     * Maximum number of moves that can be undone.
+     */
+    private static final int UNDO_LIMIT = 1024;
+    private final CardGame game = new CardGame();
+    /**
+     * Positions before the last moves, the most recent one first.
+     */
+    private final Deque<Snapshot> history = new ArrayDeque<>();
+    /**
+     * The dice of the engine, seeded by the system property {@value Dice#SEED_PROPERTY} if it is set.
+     */
+    private final Dice dice = Dice.fromSystemProperty();
+    private final Output output;
+    private final CommandFactory factory;
+    /**
+     * Records the latencies and errors of the commands or null if they are not recorded.
+     */
+    private final Metrics metrics;
+    /**
+     * Maximum number of positions a hint evaluates before it gives up for now.
+     */
+    private final long hintBudget;
     private boolean running = true;
-    private CardGame game;
+    private boolean lost;
+
+    /**
+     * Creates a new session whose output is printed on the {@link Terminal}.
+     */
+    public Session() {
+        this(new TerminalOutput());
+    }
+
+    /**
+     * Creates a new session with the given {@code output}.
+     *
+     * @param output of the session
+     */
+    public Session(Output output) {
+        this(output, null);
+    }
+
+    /**
+     * Creates a new session with the given {@code output} that records its commands and games in the given
+     * {@code metrics}.
+     *
+     * @param output of the session
+     * @param metrics to record the commands and games in or null to record nothing
+     */
+    public Session(Output output, Metrics metrics) {
+        this(output, metrics, CardGame.UNLIMITED_HINT_BUDGET);
+    }
+
+    /**
+     * Creates a new session with the given {@code output} that records its commands and games in the given
+     * {@code metrics} and limits the search of every hint to the given {@code hintBudget}.
+     *
+     * @param output of the session
+     * @param metrics to record the commands and games in or null to record nothing
+     * @param hintBudget maximum number of positions a hint evaluates, see {@link CardGame#hint(long)}
+     */
+    public Session(Output output, Metrics metrics, long hintBudget) {
+        this.output = output;
+        this.metrics = metrics;
+        this.hintBudget = hintBudget;
+        this.factory = new CommandFactory(this);
+        if (metrics != null) {
+            metrics.attach(game);
+        }
+    }
 
     /**
      * After the session is started, this method remains in a loop until the {@link this#terminate()} method is called.
+     * The lines of the standard input are split like {@link Terminal#readLine()} splits them, but without creating
+     * a String per line. The output is only flushed before more input is read and when the session ends.
      */
     void run() {
-        game = new CardGame();
-        final CommandFactory factory = new CommandFactory(this);
-        boolean lost = false;
-        while (running) {
-            final String input = Terminal.readLine();
+        final ChannelLineReader input = new ChannelLineReader(new FileInputStream(FileDescriptor.in).getChannel(),
+                Charset.defaultCharset(), output);
+        try {
+            while (running) {
+                handle(input.readLine());
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            output.flush();
+        }
+    }
+
+    /**
+     * Executes the command of one line of user input and prints its output.
+     *
+     * @param input one line of user input, which is not used any more afterwards
+     */
+    public void handle(CharSequence input) {
+        if (metrics != null) {
+            handleMeasured(input);
+            return;
+        }
+        try {
+            execute(factory.getCommand(input));
+        } catch (final InvalidInputException | LogicException e) {
+            output.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Does the same as {@link #handle(CharSequence)} and records the latencies and errors of the command in the
+     * {@link #metrics}. This is a separate method, so that a session without metrics does not even read the clock.
+     *
+     * @param input one line of user input
+     */
+    private void handleMeasured(CharSequence input) {
+        long start = System.nanoTime();
+        final int index = CommandFactory.find(input);
+        try {
+            final Command command;
+            try {
+                command = factory.getCommand(index, input);
+            } finally {
+                // The end of parsing is the start of executing, which saves reading the clock once
+                final long parsed = System.nanoTime();
+                metrics.recordParse(index, parsed - start);
+                start = parsed;
+            }
             try {
-                final Command command = factory.getCommand(input);
-                command.execute();
-                if (lost != game.isLost()) {
-                    lost = game.isLost();
-                    if (lost) {
-                        Terminal.printLine(InOutput.LOST_MESSAGE.toString());
-                    }
-                }
-            } catch (final InvalidInputException | LogicException e) {
-                Terminal.printError(e.getMessage());
+                execute(command);
+            } finally {
+                metrics.recordExecute(index, System.nanoTime() - start);
+            }
+        } catch (final InvalidInputException e) {
+            metrics.countInvalidInput(index);
+            output.printError(e.getMessage());
+        } catch (final LogicException e) {
+            metrics.countLogicError(index);
+            output.printError(e.getMessage());
+        }
+    }
+
+    /**
+     * Executes a parsed command, remembers the position before it if it can be undone and prints whether
+     * it lost the game.
+     *
+     * @param command to be executed
+     * @throws LogicException if the command violates the rules of the game
+     */
+    private void execute(Command command) throws LogicException {
+        final Snapshot before = command.isUndoable() ? game.snapshot() : null;
+        command.execute();
+        if (before != null) {
+            history.push(before);
+            if (history.size() > UNDO_LIMIT) {
+                history.removeLast();
+            }
+        }
+        if (lost != game.isLost()) {
+            lost = game.isLost();
+            if (lost) {
+                output.printLine(InOutput.LOST_MESSAGE.toString());
             }
         }
     }
 
+    /**
+     * Restores the position of the game before the last move.
+     *
+     * @throws LogicException if there is no move left to be undone
+     */
+    public void undo() throws LogicException {
+        if (history.isEmpty()) {
+            throw ErrorMessages.NOTHING_TO_UNDO.exception();
+        }
+        game.restore(history.pop());
+    }
+
     /**
      * Terminates the active session.
      */
@@ -49,6 +211,15 @@ public class Session {
         running = false;
     }
 
+    /**
+     * Returns <code>true</code> if the session has not been terminated yet.
+     *
+     * @return <code>true</code> if the session is running
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
     /**
      * Gets the current game.
      *
@@ -57,4 +228,40 @@ public class Session {
     public CardGame getGame() {
         return game;
     }
+
+    /**
+     * Gets the dice of the engine, which roll the dice for the player.
+     *
+     * @return the dice of the session
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Gets the budget of the hints of the session.
+     *
+     * @return the maximum number of positions a hint evaluates
+     */
+    public long getHintBudget() {
+        return hintBudget;
+    }
+
+    /**
+     * Gets the metrics of the session.
+     *
+     * @return the metrics the commands and games are recorded in or null if they are not recorded
+     */
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the output of the session.
+     *
+     * @return the output the commands print to
+     */
+    public Output getOutput() {
+        return output;
+    }
 }
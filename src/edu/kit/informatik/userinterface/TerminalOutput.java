@@ -0,0 +1,58 @@
+package edu.kit.informatik.userinterface;
+
+import edu.kit.informatik.Terminal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
+/**
+ * Output of a {@link Session} that is printed on the {@link Terminal}. The lines are collected in an
+ * {@link OutputBuffer} and written to {@link System#out}, the stream of the terminal, all at once when the output
+ * is flushed or the buffer is full. The output is exactly what the terminal would print line by line.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class TerminalOutput implements Output {
+    /**
+     * Number of buffered bytes from which on the buffer is written without waiting for a flush.
+     */
+    private static final int FLUSH_THRESHOLD = 1 << 16;
+    private final OutputBuffer buffer = new OutputBuffer(Charset.defaultCharset(), System.lineSeparator());
+
+    @Override
+    public void printLine(Object object) {
+        buffer.appendLine(object);
+        flushIfFull();
+    }
+
+    @Override
+    public void printError(String message) {
+        buffer.appendError(message);
+        flushIfFull();
+    }
+
+    @Override
+    public void flush() {
+        if (buffer.size() == 0) {
+            return;
+        }
+        try {
+            buffer.writeTo(System.out);
+        } catch (final IOException e) {
+            // PrintStream never throws, it only sets its error flag
+            throw new UncheckedIOException(e);
+        }
+        System.out.flush();
+    }
+
+    /**
+     * Flushes the output if the buffer has reached the {@link #FLUSH_THRESHOLD}.
+     */
+    private void flushIfFull() {
+        if (buffer.size() >= FLUSH_THRESHOLD) {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.cardgame.Dice;
+import edu.kit.informatik.cardgame.ErrorMessages;
+import edu.kit.informatik.cardgame.Item;
+import edu.kit.informatik.cardgame.ItemCategory;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.simulation.BuiltInStrategy;
+import edu.kit.informatik.simulation.Simulator;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.util.List;
+
+/**
+ * Command to play the active game to its end with a {@link BuiltInStrategy} and dice of the engine that are
+ * seeded with the given seed. Only the result is printed.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class Autoplay extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "autoplay";
+    private BuiltInStrategy strategy;
+    private long seed;
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    Autoplay() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        if (!game.isActive()) {
+            throw ErrorMessages.NO_ACTIVE_GAME.exception();
+        }
+        final Simulator simulator = new Simulator(strategy);
+        final Dice dice = new Dice(seed);
+        // The strategy gives up once no cards are left, but the game is only lost if nothing can be built anymore,
+        // so the remaining items are built until the engine ends the game
+        Item item = null;
+        while (!simulator.finish(game, dice) && game.isActive()
+                && (item = lastResort(game.buildableItems())) != null) {
+            game.build(item);
+        }
+        // A lost game is printed by the session, a game that is still active has no result to print
+        if (game.isWon()) {
+            output.printLine(InOutput.WIN_MESSAGE.toString());
+        }
+    }
+
+    /**
+     * Chooses the item to build after the strategy gave up: a rescue if one is buildable, otherwise the first item.
+     *
+     * @param buildable the buildable items
+     * @return the item to build or null if no item is buildable
+     */
+    private static Item lastResort(List<Item> buildable) {
+        for (final Item item : buildable) {
+            if (item.getCategory() == ItemCategory.RESCUES) {
+                return item;
+            }
+        }
+        return buildable.isEmpty() ? null : buildable.get(0);
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        final int strategyStart = skipSeparator(input, NAME.length());
+        final int strategyEnd = indexOf(input, InOutput.COMMAND_SEPARATOR.toString().charAt(0), strategyStart);
+        if (strategyEnd < 0) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
+        strategy = BuiltInStrategy.parse(input, strategyStart, strategyEnd);
+        if (strategy == null) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
+        try {
+            seed = Long.parseLong(input, skipSeparator(input, strategyEnd), input.length(), RADIX);
+        } catch (final NumberFormatException e) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
+    }
+}
@@ -1,14 +1,10 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.Item;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
 import edu.kit.informatik.userinterface.InOutput;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Command to build an {@link Item}.
  *
@@ -20,12 +16,6 @@ class Build extends Command {
      * Name of the command.
      */
     private static final String NAME = "build";
-    /**
-     * The syntax of the command's arguments as a regular expression.
-     */
-    private static final Pattern PATTERN = Pattern.compile(String.format("%s(?<buildType>%s)",
-            InOutput.COMMAND_SEPARATOR,
-            InOutput.ITEM_TYPE_PATTERN));
     private Item item;
 
     /**
@@ -43,14 +33,21 @@ class Build extends Command {
         return NAME;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public void execute() throws LogicException {
-        Terminal.printLine(game.build(item));
+        output.printLine(game.build(item));
     }
 
     @Override
-    public void parse(String input) throws InvalidInputException {
-        final Matcher matcher = checkPattern(input, PATTERN, NAME);
-        item = Item.parse(matcher.group("buildType"));
+    public void parse(CharSequence input) throws InvalidInputException {
+        item = Item.parse(input, skipSeparator(input, NAME.length()), input.length());
+        if (item == null) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
     }
 }
@@ -1,6 +1,5 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.Item;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
@@ -38,14 +37,14 @@ class BuildRequest extends Command {
     public void execute() throws LogicException {
         final List<Item> buildableItems = game.buildableItems();
         if (!buildableItems.isEmpty()) {
-            buildableItems.stream().map(Enum::toString).map(String::toLowerCase).forEach(Terminal::printLine);
+            buildableItems.stream().map(Enum::toString).map(String::toLowerCase).forEach(output::printLine);
         } else {
-            Terminal.printLine("EMPTY");
+            output.printLine("EMPTY");
         }
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
+    void parse(CharSequence input) throws InvalidInputException {
         validateNoArguments(input, NAME);
     }
 }
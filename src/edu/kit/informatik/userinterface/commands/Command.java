@@ -4,19 +4,14 @@ import edu.kit.informatik.cardgame.CardGame;
 import edu.kit.informatik.cardgame.PlayingCard;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.CharSequences;
 import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.Output;
 import edu.kit.informatik.userinterface.Session;
 
-import java.util.ArrayDeque;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Deque;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /* There are a few reasons that this is an abstract class rather than an interface: one being
- style reasons. I do not like the default methods in interfaces. Also validateNoArguments(...) and checkPattern(...)
+ style reasons. I do not like the default methods in interfaces. Also validateNoArguments(...) and skipSeparator(...)
  be questionable as static methods of an interface. Another reason is that an
  interface does not allow package-private methods and public methods would contradict the idea of this package.*/
 
@@ -28,10 +23,25 @@ import java.util.stream.Collectors;
  * @version 1.0
  */
 public abstract class Command {
+    /**
+     * Number of playing cards in a card deck.
+     */
+    private static final int DECK_SIZE = 64;
+    private static final PlayingCard[] CARDS = PlayingCard.values();
+    private static final char CARD_SEPARATOR = InOutput.CARD_SEPARATOR.toString().charAt(0);
+    /**
+     * Optional sign in front of a number.
+     */
+    private static final char PLUS = '+';
+    static final int RADIX = 10;
     /**
      * This is the reference to the logic which allows commands to alter or query a {@link CardGame}.
      */
     protected CardGame game;
+    /**
+     * The output of the session, which the command prints its results to.
+     */
+    protected Output output;
 
     /**
      * Runs the command.
@@ -41,12 +51,23 @@ public abstract class Command {
     public abstract void execute() throws LogicException;
 
     /**
-     * Checks its pattern and passes valid arguments to the command.
+     * Returns <code>true</code> if the command may change the game, so that the session has to remember
+     * the position before it to be able to undo it.
+     *
+     * @return <code>true</code> if the command can be undone
+     */
+    public boolean isUndoable() {
+        return false;
+    }
+
+    /**
+     * Checks its pattern and passes valid arguments to the command. The {@code input} must not be kept, because
+     * it is reused for the next line.
      *
      * @param input of the user
      * @throws InvalidInputException if the parsed user input is invalid
      */
-    abstract void parse(String input) throws InvalidInputException;
+    abstract void parse(CharSequence input) throws InvalidInputException;
 
     /**
      * This allows the a command to manipulate a {@link Session}. For instance, {@link Session#terminate()}
@@ -58,6 +79,7 @@ public abstract class Command {
      */
     void setSession(Session session) {
         this.game = session.getGame();
+        this.output = session.getOutput();
     }
 
     /**
@@ -67,48 +89,126 @@ public abstract class Command {
      * @param name of the command
      * @throws InvalidInputException if the command does not expect any arguments
      */
-    void validateNoArguments(String input, String name) throws InvalidInputException {
+    void validateNoArguments(CharSequence input, String name) throws InvalidInputException {
         if (input.length() != name.length()) {
             throw new InvalidInputException(InOutput.NO_ARGUMENTS_EXPECTED.toString());
         }
     }
 
     /**
-     * Checks the pattern of the command.
+     * Checks that the {@code input} contains the command separator at the index {@code from}.
      *
-     * @param input to be checked
-     * @param pattern of the command
-     * @param name of the command
-     * @return the matcher of the pattern
-     * @throws InvalidInputException if the arguments are invalid
+     * @param input of the user
+     * @param from index of the command separator
+     * @return the index after the command separator
+     * @throws InvalidInputException if the command separator is missing
      */
-    Matcher checkPattern(String input, Pattern pattern, String name) throws InvalidInputException {
-        final Matcher matcher = pattern.matcher(input.substring(name.length()));
-        if (!matcher.matches()) {
+    int skipSeparator(CharSequence input, int from) throws InvalidInputException {
+        final String separator = InOutput.COMMAND_SEPARATOR.toString();
+        if (!CharSequences.regionEquals(input, from, from + separator.length(), separator)) {
             throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
         }
-        return matcher;
+        return from + separator.length();
+    }
+
+    /**
+     * Finds the first index of the given {@code character} in the {@code input} from the index {@code from} on.
+     *
+     * @param input of the user
+     * @param character to be found
+     * @param from index from which on the character is searched
+     * @return the index of the character or -1 if the input does not contain it from the index on
+     */
+    static int indexOf(CharSequence input, char character, int from) {
+        for (int index = from; index < input.length(); index++) {
+            if (input.charAt(index) == character) {
+                return index;
+            }
+        }
+        return -1;
     }
 
     /**
      * Parses a card deck which has 64 {@link PlayingCard playing cards} and it starts with the top card.
      * The playing card identifiers (wood, metal, plastic, spider, snake, tiger, thunderstorm)
-     * are separated by exactly one comma.
+     * are separated by exactly one comma. The card deck is scanned once from {@code from} to the end of the
+     * {@code input}, while the amount of every playing card is counted.
+     *
+     * @param input that contains the card deck
+     * @param from index of the first character of the card deck
+     * @return an array of playing cards, starting with the top card
+     * @throws InvalidInputException if the syntax of the card deck or the amount of certain cards is incorrect
+     */
+    PlayingCard[] parseCards(CharSequence input, int from) throws InvalidInputException {
+        final PlayingCard[] playingCards = new PlayingCard[DECK_SIZE];
+        final int[] amounts = new int[CARDS.length];
+        int size = 0;
+        int start = from;
+        int end;
+        do {
+            end = indexOf(input, CARD_SEPARATOR, start);
+            if (end < 0) {
+                end = input.length();
+            }
+            final PlayingCard card = PlayingCard.parse(input, start, end);
+            if (card == null || size == DECK_SIZE) {
+                throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+            }
+            playingCards[size++] = card;
+            amounts[card.ordinal()]++;
+            start = end + 1;
+        } while (end < input.length());
+        if (size != DECK_SIZE) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
+        for (final PlayingCard card : CARDS) {
+            if (amounts[card.ordinal()] != card.getRequiredAmount()) {
+                throw new InvalidInputException(InOutput.INVALID_CARD_DECK.toString());
+            }
+        }
+        return playingCards;
+    }
+
+    /**
+     * Finds the end of the natural number excluding zero that starts at the index {@code from} of the
+     * {@code input}. The number may have a leading plus sign and leading zeros.
      *
-     * @param input to be parsed
-     * @return a deque of playing cards
-     * @throws InvalidInputException if the parsed card deck is incorrect
+     * @param input of the user
+     * @param from index of the first character of the number
+     * @return the index after the last digit of the number
+     * @throws InvalidInputException if there is no natural number at the index
+     */
+    static int endOfNumber(CharSequence input, int from) throws InvalidInputException {
+        int index = from < input.length() && input.charAt(from) == PLUS ? from + 1 : from;
+        boolean positive = false;
+        while (index < input.length() && input.charAt(index) >= '0' && input.charAt(index) <= '9') {
+            positive |= input.charAt(index) != '0';
+            index++;
+        }
+        if (!positive) {
+            throw new InvalidInputException(InOutput.INVALID_ARGUMENTS.toString());
+        }
+        return index;
+    }
+
+    /**
+     * Parses a natural number whose syntax has already been checked by {@link #endOfNumber(CharSequence, int)}.
+     *
+     * @param input of the user
+     * @param from index of the first character of the number
+     * @param to index after the last digit of the number
+     * @param overflow error message if the number is not a 32-bit integer
+     * @return the number
+     * @throws InvalidInputException if the number is not a 32-bit integer
      */
-    Deque<PlayingCard> parseCards(String input) throws InvalidInputException {
-        final String[] stringList = input.split(InOutput.CARD_SEPARATOR.toString());
-        final Deque<PlayingCard> playingCards = Arrays.stream(stringList)
-                .map(PlayingCard::parse)
-                .collect(Collectors.toCollection(ArrayDeque::new));
-        if (playingCards.stream()
-                .allMatch(cardType -> Collections.frequency(playingCards, cardType) == cardType.getRequiredAmount())) {
-            return playingCards;
-        } else {
-            throw new InvalidInputException(InOutput.INVALID_CARD_DECK.toString());
+    static int parseNumber(CharSequence input, int from, int to, InOutput overflow) throws InvalidInputException {
+        long number = 0;
+        for (int index = input.charAt(from) == PLUS ? from + 1 : from; index < to; index++) {
+            number = number * RADIX + input.charAt(index) - '0';
+            if (number > Integer.MAX_VALUE) {
+                throw new InvalidInputException(overflow.toString());
+            }
         }
+        return (int) number;
     }
 }
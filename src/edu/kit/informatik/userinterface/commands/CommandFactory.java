@@ -4,6 +4,9 @@ import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.userinterface.InOutput;
 import edu.kit.informatik.userinterface.Session;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.TreeMap;
 import java.util.function.Supplier;
 
@@ -21,7 +24,15 @@ public class CommandFactory {
      * The key is a String and the value a Supplier of the type Command.
      */
     private static final TreeMap<String, Supplier<Command>> COMMAND_PACKAGE = new TreeMap<>();
-    private final Session session;
+    /**
+     * Names of all commands, the index of a name is the index of its command.
+     */
+    private static final List<String> NAMES;
+    private static final CommandTrie TRIE;
+    /**
+     * The commands of the session, indexed like their {@link #NAMES}.
+     */
+    private final Command[] commands;
 
     /* Static initialisation block that runs before the main() method
     and will execute only one time in the entire program.
@@ -30,57 +41,89 @@ public class CommandFactory {
     static {
         COMMAND_PACKAGE.put(Start.getName(), Start::new);
         COMMAND_PACKAGE.put(Draw.getName(), Draw::new);
+        COMMAND_PACKAGE.put(DrawUntilDecision.getName(), DrawUntilDecision::new);
         COMMAND_PACKAGE.put(ListResources.getName(), ListResources::new);
         COMMAND_PACKAGE.put(Build.getName(), Build::new);
         COMMAND_PACKAGE.put(ListBuildings.getName(), ListBuildings::new);
         COMMAND_PACKAGE.put(BuildRequest.getName(), BuildRequest::new);
         COMMAND_PACKAGE.put(RollDx.getName(), RollDx::new);
+        COMMAND_PACKAGE.put(Roll.getName(), Roll::new);
+        COMMAND_PACKAGE.put(Autoplay.getName(), Autoplay::new);
         COMMAND_PACKAGE.put(Reset.getName(), Reset::new);
+        COMMAND_PACKAGE.put(Hint.getName(), Hint::new);
+        COMMAND_PACKAGE.put(Undo.getName(), Undo::new);
+        COMMAND_PACKAGE.put(Stats.getName(), Stats::new);
         COMMAND_PACKAGE.put(Quit.getName(), Quit::new);
+        NAMES = Collections.unmodifiableList(new ArrayList<>(COMMAND_PACKAGE.keySet()));
+        TRIE = new CommandTrie(NAMES);
     }
 
     /**
-     * Constructs a {@link CommandFactory} for one specific {@link Session}.
+     * Constructs a {@link CommandFactory} for one specific {@link Session}. Every command is created once
+     * and reused for all inputs of the session.
      *
      * @param session that uses this command factory
      */
     public CommandFactory(final Session session) {
-        this.session = session;
+        this.commands = new Command[NAMES.size()];
+        for (int i = 0; i < commands.length; i++) {
+            commands[i] = COMMAND_PACKAGE.get(NAMES.get(i)).get();
+            commands[i].setSession(session);
+        }
     }
 
     /**
-     * Gets a command from the command package.
+     * Gets a subclass of {@link Command} matching the {@code input}. The command with the longest name
+     * the input starts with is chosen. The returned command is only valid until the next call.
      *
      * @param input of the user
-     * @return the command that matches the supplied name or null if no command matches
+     * @return a reference to the corresponding command
+     * @throws InvalidInputException if there is no matching command
      */
-    private static Supplier<Command> getFromPackage(final String input) {
-        /* This stream checks longer command names that start with the input in the tree map first
-        and returns it. If none is found, it returns null.*/
-        return COMMAND_PACKAGE.descendingKeySet()
-                .stream()
-                .filter(input::startsWith)
-                .findFirst()
-                .map(COMMAND_PACKAGE::get)
-                .orElse(null);
+    public Command getCommand(final CharSequence input) throws InvalidInputException {
+        return getCommand(find(input), input);
     }
 
     /**
-     * Gets a subclass of {@link Command} matching the {@code input}.
+     * Gets the names of all commands. The index of a name is the index of its command.
+     *
+     * @return an unmodifiable list of the names
+     */
+    public static List<String> getNames() {
+        return NAMES;
+    }
+
+    /**
+     * Finds the index of the command with the longest name the {@code input} starts with.
      *
      * @param input of the user
+     * @return the index of the command or a negative number if there is no matching command
+     */
+    public static int find(final CharSequence input) {
+        return TRIE.find(input);
+    }
+
+    /**
+     * Gets the subclass of {@link Command} with the given {@code index}, which has been
+     * {@link #find(CharSequence) found} for the {@code input}. The returned command is only valid until the next call.
+     *
+     * @param index of the command or a negative number if there is no matching command
+     * @param input of the user
      * @return a reference to the corresponding command
      * @throws InvalidInputException if there is no matching command
      */
-    public Command getCommand(final String input) throws InvalidInputException {
-        final Command command;
-        final Supplier<Command> model = getFromPackage(input);
-        if (model == null) {
+    public Command getCommand(final int index, final CharSequence input) throws InvalidInputException {
+        if (index < 0) {
+            ParseFailureEvent.commit(null, input, InOutput.UNKNOWN_COMMAND.toString());
             throw new InvalidInputException(InOutput.UNKNOWN_COMMAND.toString());
         }
-        command = model.get();
-        command.parse(input);
-        command.setSession(session);
+        final Command command = commands[index];
+        try {
+            command.parse(input);
+        } catch (final InvalidInputException e) {
+            ParseFailureEvent.commit(NAMES.get(index), input, e.getMessage());
+            throw e;
+        }
         return command;
     }
 }
@@ -0,0 +1,98 @@
+package edu.kit.informatik.userinterface.commands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/*
+Command names only consist of ASCII characters, so every node of the trie has one child slot per ASCII character.
+The nodes are stored in one flat array, so finding a command is a walk along the input that ends as soon as
+no name continues with the next character. The last node that completed a name on the way is the longest
+name the input starts with, which is the same command the former descending scan over all names found.
+ */
+
+/**
+ * A character trie of the names of all commands. It finds the longest command name that is a prefix of the input.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+final class CommandTrie {
+    /**
+     * Number of children of every node.
+     */
+    private static final int ALPHABET = 128;
+    private static final int NONE = -1;
+    /**
+     * Child nodes, the child of node n for the character c is stored at n * {@link #ALPHABET} + c.
+     */
+    private final int[] children;
+    /**
+     * Index of the command whose name ends at every node or {@link #NONE}.
+     */
+    private final int[] commands;
+
+    /**
+     * Creates a new trie of the given command {@code names}.
+     *
+     * @param names of the commands, a name's index is the index of its command
+     */
+    CommandTrie(List<String> names) {
+        final List<int[]> nodes = new ArrayList<>();
+        final List<Integer> ends = new ArrayList<>();
+        nodes.add(newNode());
+        ends.add(NONE);
+        for (int command = 0; command < names.size(); command++) {
+            int node = 0;
+            for (final char character : names.get(command).toCharArray()) {
+                assert (character < ALPHABET);
+                if (nodes.get(node)[character] == NONE) {
+                    nodes.get(node)[character] = nodes.size();
+                    nodes.add(newNode());
+                    ends.add(NONE);
+                }
+                node = nodes.get(node)[character];
+            }
+            ends.set(node, command);
+        }
+        children = new int[nodes.size() * ALPHABET];
+        commands = new int[nodes.size()];
+        for (int node = 0; node < nodes.size(); node++) {
+            System.arraycopy(nodes.get(node), 0, children, node * ALPHABET, ALPHABET);
+            commands[node] = ends.get(node);
+        }
+    }
+
+    /**
+     * Creates a node without any children.
+     *
+     * @return the children of the new node
+     */
+    private static int[] newNode() {
+        final int[] node = new int[ALPHABET];
+        Arrays.fill(node, NONE);
+        return node;
+    }
+
+    /**
+     * Finds the command with the longest name that is a prefix of the {@code input}.
+     *
+     * @param input of the user
+     * @return the index of the command or a negative number if no name is a prefix of the input
+     */
+    int find(CharSequence input) {
+        int found = NONE;
+        int node = 0;
+        for (int index = 0; index < input.length(); index++) {
+            final char character = input.charAt(index);
+            if (character >= ALPHABET || children[node * ALPHABET + character] == NONE) {
+                break;
+            }
+            node = children[node * ALPHABET + character];
+            if (commands[node] != NONE) {
+                found = commands[node];
+            }
+        }
+        return found;
+    }
+}
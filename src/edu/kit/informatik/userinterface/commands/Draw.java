@@ -1,12 +1,16 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.PlayingCard;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.InOutput;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
- * Command to allow the player to draw the top card from the card deck.
+ * Command to allow the player to draw the top card from the card deck. With a number of cards as argument,
+ * cards are drawn until the player has a decision to make, but at most this number of cards.
  *
  * @author Lukas Probst
  * @version 1.0
@@ -16,6 +20,10 @@ class Draw extends Command {
      * Name of the command.
      */
     private static final String NAME = "draw";
+    /**
+     * Maximum number of cards to be drawn or 0 to draw exactly one card.
+     */
+    private int limit;
 
     /**
      * Package private to avoid direct initialisation without using the {@link CommandFactory}.
@@ -32,14 +40,49 @@ class Draw extends Command {
         return NAME;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public void execute() throws LogicException {
-        final PlayingCard drawnCard = game.draw();
-        Terminal.printLine(drawnCard);
+        if (limit == 0) {
+            final PlayingCard drawnCard = game.draw();
+            output.printLine(drawnCard);
+        } else {
+            output.printLine(join(game.drawUntilDecision(limit)));
+        }
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
-        validateNoArguments(input, NAME);
+    void parse(CharSequence input) throws InvalidInputException {
+        limit = 0;
+        if (input.length() == NAME.length()) {
+            return;
+        }
+        final int limitStart = NAME.length() + InOutput.COMMAND_SEPARATOR.toString().length();
+        int limitEnd;
+        try {
+            limitEnd = endOfNumber(input, skipSeparator(input, NAME.length()));
+        } catch (final InvalidInputException e) {
+            limitEnd = -1;
+        }
+        // Anything else than a number of cards is reported like before the command had an argument
+        if (limitEnd != input.length()) {
+            throw new InvalidInputException(InOutput.NO_ARGUMENTS_EXPECTED.toString());
+        }
+        limit = parseNumber(input, limitStart, limitEnd, InOutput.INVALID_CARDS_INTEGER);
+    }
+
+    /**
+     * Joins the given drawn cards to one line, separated like the cards of a card deck.
+     *
+     * @param drawnCards to be joined, starting with the first drawn card
+     * @return the line of the cards
+     */
+    static String join(List<PlayingCard> drawnCards) {
+        return drawnCards.stream().map(PlayingCard::toString)
+                .collect(Collectors.joining(InOutput.CARD_SEPARATOR.toString()));
     }
 }
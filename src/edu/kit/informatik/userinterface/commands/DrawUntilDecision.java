@@ -0,0 +1,49 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+
+/**
+ * Command to draw cards until the player has a decision to make: an item has become buildable, an animal has
+ * to be fought, a thunderstorm has destroyed the resources, the game is over or there are no cards left.
+ * The drawn cards are printed in one line.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class DrawUntilDecision extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "draw-until-decision";
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    DrawUntilDecision() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        output.printLine(Draw.join(game.drawUntilDecision(Integer.MAX_VALUE)));
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        validateNoArguments(input, NAME);
+    }
+}
@@ -0,0 +1,51 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.Session;
+
+/**
+ * Command to show the best action in the current position and the probability to win with optimal play.
+ * A hint that runs out of the budget of the session can be asked for again and continues the search.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class Hint extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "hint";
+    private long budget;
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    Hint() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    void setSession(final Session session) {
+        super.setSession(session);
+        this.budget = session.getHintBudget();
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        output.printLine(game.hint(budget));
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        validateNoArguments(input, NAME);
+    }
+}
@@ -1,6 +1,5 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.Item;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
@@ -43,14 +42,14 @@ class ListBuildings extends Command {
             IntStream.range(0, size)
                     .map(i -> size - i - 1)
                     .mapToObj(buildings::get)
-                    .forEach(Terminal::printLine);
+                    .forEach(output::printLine);
         } else {
-            Terminal.printLine("EMPTY");
+            output.printLine("EMPTY");
         }
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
+    void parse(CharSequence input) throws InvalidInputException {
         validateNoArguments(input, NAME);
     }
 }
@@ -1,11 +1,10 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.PlayingCard;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
 
-import java.util.Deque;
+import java.util.List;
 
 /**
  * Command to list all resources of the player.
@@ -36,16 +35,16 @@ class ListResources extends Command {
 
     @Override
     public void execute() throws LogicException {
-        final Deque<PlayingCard> resources = game.listResources();
+        final List<PlayingCard> resources = game.listResources();
         if (!resources.isEmpty()) {
-            resources.forEach(Terminal::printLine);
+            resources.forEach(output::printLine);
         } else {
-            Terminal.printLine("EMPTY");
+            output.printLine("EMPTY");
         }
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
+    void parse(CharSequence input) throws InvalidInputException {
         validateNoArguments(input, NAME);
     }
 }
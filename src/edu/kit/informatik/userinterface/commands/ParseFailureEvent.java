@@ -0,0 +1,55 @@
+package edu.kit.informatik.userinterface.commands;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event of user input that could not be parsed into a command. Like the events of the
+ * card game, it is disabled unless a recording enables it.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+@Name("edu.kit.informatik.ParseFailure")
+@Label("Parse Failure")
+@Category("Card Game")
+@Description("User input could not be parsed into a command")
+@Enabled(false)
+@StackTrace(false)
+final class ParseFailureEvent extends Event {
+    /**
+     * Longest input that is recorded, longer input is cut off.
+     */
+    private static final int MAX_INPUT_LENGTH = 256;
+
+    @Label("Command")
+    @Description("The name of the matching command or null if the input matched no command")
+    private String command;
+    @Label("Input")
+    private String input;
+    @Label("Message")
+    private String message;
+
+    /**
+     * Commits a new event if it is enabled.
+     *
+     * @param name of the matching command or null
+     * @param userInput that could not be parsed
+     * @param errorMessage of the failure
+     */
+    static void commit(String name, CharSequence userInput, String errorMessage) {
+        final ParseFailureEvent event = new ParseFailureEvent();
+        if (event.shouldCommit()) {
+            event.command = name;
+            // The input is reused for the next line, so only a copy of it is recorded
+            event.input = userInput.subSequence(0, Math.min(userInput.length(), MAX_INPUT_LENGTH)).toString();
+            event.message = errorMessage;
+            event.commit();
+        }
+    }
+}
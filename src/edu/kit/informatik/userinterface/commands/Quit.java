@@ -39,7 +39,7 @@ class Quit extends Command {
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
+    void parse(CharSequence input) throws InvalidInputException {
         validateNoArguments(input, NAME);
     }
 
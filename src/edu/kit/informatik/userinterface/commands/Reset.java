@@ -1,6 +1,5 @@
 package edu.kit.informatik.userinterface.commands;
 
-import edu.kit.informatik.Terminal;
 import edu.kit.informatik.cardgame.CardGame;
 import edu.kit.informatik.exception.InvalidInputException;
 import edu.kit.informatik.exception.LogicException;
@@ -33,14 +32,19 @@ class Reset extends Command {
         return NAME;
     }
 
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
     @Override
     public void execute() throws LogicException {
         game.resetGame();
-        Terminal.printLine(InOutput.OK_MESSAGE.toString());
+        output.printLine(InOutput.OK_MESSAGE.toString());
     }
 
     @Override
-    void parse(String input) throws InvalidInputException {
+    void parse(CharSequence input) throws InvalidInputException {
         validateNoArguments(input, NAME);
     }
 }
@@ -0,0 +1,58 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.cardgame.Dice;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.Session;
+
+/**
+ * Command to let the dice of the engine roll the dice that has to be rolled next, which is the dice of the
+ * last drawn card or of the last built item.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class Roll extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "roll";
+    private Dice dice;
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    Roll() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isUndoable() {
+        return true;
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        output.printLine(game.roll(dice));
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        validateNoArguments(input, NAME);
+    }
+
+    // The dice belong to the session, so that they keep rolling new numbers across games
+    @Override
+    void setSession(final Session session) {
+        super.setSession(session);
+        this.dice = session.getDice();
+    }
+}
@@ -0,0 +1,60 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.cardgame.ErrorMessages;
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.metrics.Metrics;
+import edu.kit.informatik.userinterface.Session;
+
+/**
+ * Command to show the latencies and errors of the commands and the number of games that were won, lost and reset,
+ * which are recorded by the {@link Metrics} of the session.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class Stats extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "stats";
+    private Session session;
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    Stats() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        final Metrics metrics = session.getMetrics();
+        if (metrics == null) {
+            throw ErrorMessages.METRICS_DISABLED.exception();
+        }
+        for (final String line : metrics.report()) {
+            output.printLine(line);
+        }
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        validateNoArguments(input, NAME);
+    }
+
+    // The metrics belong to the session
+    @Override
+    void setSession(final Session session) {
+        super.setSession(session);
+        this.session = session;
+    }
+}
@@ -0,0 +1,53 @@
+package edu.kit.informatik.userinterface.commands;
+
+import edu.kit.informatik.exception.InvalidInputException;
+import edu.kit.informatik.exception.LogicException;
+import edu.kit.informatik.userinterface.InOutput;
+import edu.kit.informatik.userinterface.Session;
+
+/**
+ * Command to take back the last move that changed the game.
+ *
+ * @author Lukas Probst
+ * @version 1.0
+ */
+class Undo extends Command {
+    /**
+     * Name of the command.
+     */
+    private static final String NAME = "undo";
+    private Session session;
+
+    /**
+     * Package private to avoid direct initialisation without using the {@link CommandFactory}.
+     */
+    Undo() {
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the name of the command
+     */
+    static String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void execute() throws LogicException {
+        session.undo();
+        output.printLine(InOutput.OK_MESSAGE.toString());
+    }
+
+    @Override
+    void parse(CharSequence input) throws InvalidInputException {
+        validateNoArguments(input, NAME);
+    }
+
+    // The history of the moves belongs to the session
+    @Override
+    void setSession(final Session session) {
+        super.setSession(session);
+        this.session = session;
+    }
+}